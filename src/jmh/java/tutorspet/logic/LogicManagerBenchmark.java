@@ -0,0 +1,263 @@
+package tutorspet.logic;
+
+import static java.util.Map.entry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.JsonTutorsPetStorage;
+import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.StorageManager;
+import tutorspet.testutil.AttendanceRecordBuilder;
+import tutorspet.testutil.LessonBuilder;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+/**
+ * Benchmarks {@code LogicManager#execute} end to end for every command word: parsing in {@code TutorsPetParser},
+ * {@code Command#execute}, {@code VersionedTutorsPet#commit} and {@code StorageManager#saveTutorsPet}.
+ * <p>
+ * Each invocation runs against a fresh {@code ModelManager} built from the same synthetic {@code TutorsPet}, so
+ * destructive commands measure the same amount of work on every invocation. Throughput gives ops/s, sample time
+ * gives the latency percentiles (p99) and {@code -prof gc} gives the allocation rate in bytes/op.
+ * <p>
+ * Run with {@code ./gradlew jmh}, or narrow the run down with, for example,
+ * {@code ./gradlew jmh -PjmhArgs="LogicManagerBenchmark -p commandWord=add-student -p students=1000 -prof gc"}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class LogicManagerBenchmark {
+
+    private static final int STUDENTS_PER_CLASS = 30;
+    private static final int NUMBER_OF_OCCURRENCES = 13;
+    private static final int IMPORTED_STUDENTS = 1000;
+    private static final String IMPORT_FILE_NAME = "students.csv";
+
+    /**
+     * The command text executed for each command word.
+     * {@code %1$s} is replaced with the path of the CSV file written by {@link #writeImportFile(Path, int)}.
+     */
+    private static final Map<String, String> COMMANDS = Map.ofEntries(
+            entry("add-student", "add-student n\\Benchmark Student t\\benchmark_student "
+                    + "e\\benchmark_student@example.com tag\\Benchmark"),
+            entry("list-student", "list-student c\\1"),
+            entry("edit-student", "edit-student 1 n\\Edited Student tag\\Edited"),
+            entry("delete-student", "delete-student 1"),
+            entry("clear-student", "clear-student"),
+            entry("find-student", "find-student student1 student2"),
+            entry("import-student", "import-student %1$s"),
+            entry("add-class", "add-class n\\Benchmark Class"),
+            entry("list-class", "list-class"),
+            entry("edit-class", "edit-class 1 n\\Edited Class"),
+            entry("delete-class", "delete-class 1"),
+            entry("clear-class", "clear-class"),
+            entry("find-class", "find-class class1 class2"),
+            entry("list", "list"),
+            entry("link", "link s\\" + (STUDENTS_PER_CLASS + 1) + " c\\1"),
+            entry("unlink", "unlink s\\1 c\\1"),
+            entry("add-lesson", "add-lesson c\\1 d\\Friday st\\18:00 et\\20:00 v\\COM1-0211 r\\13"),
+            entry("edit-lesson", "edit-lesson c\\1 l\\1 v\\COM2-0108"),
+            entry("delete-lesson", "delete-lesson c\\1 l\\1"),
+            entry("add-attendance", "add-attendance c\\1 l\\1 s\\1 w\\1 p\\80"),
+            entry("edit-attendance", "edit-attendance c\\1 l\\1 s\\1 w\\2 p\\80"),
+            entry("delete-attendance", "delete-attendance c\\1 l\\1 s\\1 w\\2"),
+            entry("find-attendance", "find-attendance c\\1 l\\1 s\\1 w\\2"),
+            entry("roll-call", "roll-call c\\1 l\\1 w\\1 p\\80"),
+            entry("display-venue", "display-venue c\\1 l\\1"),
+            entry("stats", "stats c\\1 s\\1"),
+            entry("view-history", "view-history"),
+            entry("goto-history", "goto-history 3"),
+            entry("undo", "undo"),
+            entry("redo", "redo"),
+            entry("help", "help"),
+            entry("exit", "exit"),
+            entry("reset", "reset"));
+
+    /** Commands executed before each invocation so that the measured command has something to act on. */
+    private static final Map<String, List<String>> PREPARATION_COMMANDS = Map.of(
+            "goto-history", List.of("edit-student 1 n\\Edited Student", "edit-student 2 n\\Edited Student"),
+            "undo", List.of("edit-student 1 n\\Edited Student"),
+            "redo", List.of("edit-student 1 n\\Edited Student", "undo"));
+
+    @Param({"1000", "10000", "50000"})
+    public int students;
+
+    @Param({"100", "1000"})
+    public int classes;
+
+    @Param({"add-student", "list-student", "edit-student", "delete-student", "clear-student", "find-student",
+            "import-student", "add-class", "list-class", "edit-class", "delete-class", "clear-class", "find-class", "list",
+            "link", "unlink", "add-lesson", "edit-lesson", "delete-lesson",
+            "add-attendance", "edit-attendance", "delete-attendance", "find-attendance", "roll-call",
+            "display-venue", "stats", "view-history", "goto-history", "undo", "redo", "help", "exit", "reset"})
+    public String commandWord;
+
+    private Path temporaryFolder;
+    private StorageManager storage;
+    private TutorsPet tutorsPet;
+    private String commandText;
+    private Logic logic;
+
+    /**
+     * Builds the synthetic {@code TutorsPet} and the storage shared by all invocations of this trial.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        temporaryFolder = Files.createTempDirectory("tutorspet-jmh");
+        storage = new StorageManager(new JsonTutorsPetStorage(temporaryFolder.resolve("tutorspet.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("preferences.json")));
+        tutorsPet = createTutorsPet(students, classes);
+        commandText = COMMANDS.get(commandWord);
+        if (commandText == null) {
+            throw new IllegalArgumentException("No benchmark command for: " + commandWord);
+        }
+        if (commandText.contains("%1$s")) {
+            Path importFilePath = temporaryFolder.resolve(IMPORT_FILE_NAME);
+            writeImportFile(importFilePath, classes);
+            commandText = String.format(commandText, importFilePath);
+        }
+    }
+
+    /**
+     * Creates a fresh {@code LogicManager} over an untouched copy of the synthetic {@code TutorsPet}.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() throws CommandException, ParseException {
+        logic = new LogicManager(new ModelManager(tutorsPet, new UserPrefs()), storage);
+        for (String preparationCommand : PREPARATION_COMMANDS.getOrDefault(commandWord, List.of())) {
+            logic.execute(preparationCommand);
+        }
+    }
+
+    /**
+     * Waits for the background save of the measured command, so that it does not overlap the next invocation.
+     */
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws IOException {
+        storage.flushTutorsPet();
+    }
+
+    /**
+     * Deletes the files written by the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDownTrial() throws IOException {
+        for (Path path : Files.list(temporaryFolder).toArray(Path[]::new)) {
+            Files.delete(path);
+        }
+        Files.delete(temporaryFolder);
+    }
+
+    @Benchmark
+    public CommandResult execute() throws CommandException, ParseException {
+        return logic.execute(commandText);
+    }
+
+    /**
+     * Returns a {@code TutorsPet} with {@code studentCount} students and {@code classCount} classes.
+     * Each class enrolls {@code STUDENTS_PER_CLASS} consecutive students and has two lessons, with attendance
+     * recorded for every enrolled student in all weeks except the first.
+     */
+    private static TutorsPet createTutorsPet(int studentCount, int classCount) {
+        List<Student> studentList = new ArrayList<>(studentCount);
+        for (int i = 1; i <= studentCount; i++) {
+            studentList.add(new StudentBuilder()
+                    .withUuid(new UUID(0, i).toString())
+                    .withName("Student" + i)
+                    .withTelegram("student" + i)
+                    .withEmail("student" + i + "@example.com")
+                    .withTags("Benchmark")
+                    .build());
+        }
+
+        List<ModuleClass> moduleClassList = new ArrayList<>(classCount);
+        for (int i = 0; i < classCount; i++) {
+            UUID[] enrolledUuids = new UUID[Math.min(STUDENTS_PER_CLASS, studentCount)];
+            for (int j = 0; j < enrolledUuids.length; j++) {
+                enrolledUuids[j] = studentList.get((i * STUDENTS_PER_CLASS + j) % studentCount).getUuid();
+            }
+            Lesson firstLesson = createLesson(Day.MONDAY, enrolledUuids);
+            Lesson secondLesson = createLesson(Day.THURSDAY, enrolledUuids);
+            moduleClassList.add(new ModuleClassBuilder()
+                    .withName("Class" + (i + 1))
+                    .withStudentUuids(enrolledUuids)
+                    .withLessons(firstLesson, secondLesson)
+                    .build());
+        }
+
+        TutorsPet tutorsPet = new TutorsPet();
+        tutorsPet.setStudents(studentList);
+        tutorsPet.setModuleClasses(moduleClassList);
+        return tutorsPet;
+    }
+
+    /**
+     * Writes a CSV file of {@code IMPORTED_STUDENTS} new students to {@code filePath}, with a header row.
+     * Each student is tagged and enrolled in one of the first {@code classCount} classes, in turn.
+     */
+    private static void writeImportFile(Path filePath, int classCount) throws IOException {
+        List<String> lines = new ArrayList<>(IMPORTED_STUDENTS + 1);
+        lines.add("name,telegram,email,tags,classes");
+        for (int i = 1; i <= IMPORTED_STUDENTS; i++) {
+            lines.add("Imported" + i + ",imported" + i + ",imported" + i + "@example.com,Benchmark;Imported,Class"
+                    + ((i - 1) % classCount + 1));
+        }
+        Files.write(filePath, lines);
+    }
+
+    private static Lesson createLesson(Day day, UUID... enrolledUuids) {
+        AttendanceRecord[] records = new AttendanceRecord[NUMBER_OF_OCCURRENCES];
+        records[0] = new AttendanceRecord();
+        for (int week = 1; week < NUMBER_OF_OCCURRENCES; week++) {
+            AttendanceRecordBuilder recordBuilder = new AttendanceRecordBuilder();
+            for (int j = 0; j < enrolledUuids.length; j++) {
+                recordBuilder.withEntry(enrolledUuids[j], new Attendance((week * 7 + j) % 101));
+            }
+            records[week] = recordBuilder.build();
+        }
+        Lesson lesson = new LessonBuilder()
+                .withDay(day)
+                .withStartTime(LocalTime.of(8, 0))
+                .withEndTime(LocalTime.of(10, 0))
+                .withNumberOfOccurrences(NUMBER_OF_OCCURRENCES)
+                .build();
+        return LessonBuilder.insertAttendanceRecords(lesson, records);
+    }
+}
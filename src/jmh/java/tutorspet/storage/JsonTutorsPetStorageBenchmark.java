@@ -0,0 +1,88 @@
+package tutorspet.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.testutil.TutorsPetDataGenerator;
+
+/**
+ * Benchmarks loading and saving a {@code tutorspet.json} data file generated by {@code TutorsPetDataGenerator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class JsonTutorsPetStorageBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    public int students;
+
+    @Param({"100", "1000"})
+    public int classes;
+
+    @Param({"false", "true"})
+    public boolean compact;
+
+    private Path temporaryFolder;
+    private TutorsPet tutorsPet;
+    private JsonTutorsPetStorage readStorage;
+    private JsonTutorsPetStorage saveStorage;
+
+    /**
+     * Generates the data file read by {@link #readTutorsPet()}.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        temporaryFolder = Files.createTempDirectory("tutorspet-jmh");
+        tutorsPet = new TutorsPetDataGenerator()
+                .withStudents(students)
+                .withClasses(classes)
+                .withEnrollmentDensity(Math.min(1, 30.0 / students))
+                .generate(temporaryFolder.resolve("read.json"));
+        readStorage = new JsonTutorsPetStorage(temporaryFolder.resolve("read.json"));
+        saveStorage = new JsonTutorsPetStorage(temporaryFolder.resolve("save.json"), compact);
+    }
+
+    /**
+     * Deletes the files written by the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Path path : Files.list(temporaryFolder).toArray(Path[]::new)) {
+            Files.delete(path);
+        }
+        Files.delete(temporaryFolder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException {
+        return readStorage.readTutorsPet();
+    }
+
+    @Benchmark
+    public void saveTutorsPet() throws IOException {
+        saveStorage.saveTutorsPet(tutorsPet);
+    }
+}
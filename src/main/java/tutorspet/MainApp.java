@@ -2,6 +2,8 @@ package tutorspet;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -15,6 +17,7 @@ import tutorspet.commons.util.ConfigUtil;
 import tutorspet.commons.util.StringUtil;
 import tutorspet.logic.Logic;
 import tutorspet.logic.LogicManager;
+import tutorspet.model.DataFileFormat;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
 import tutorspet.model.ReadOnlyTutorsPet;
@@ -22,8 +25,12 @@ import tutorspet.model.ReadOnlyUserPrefs;
 import tutorspet.model.TutorsPet;
 import tutorspet.model.UserPrefs;
 import tutorspet.model.util.SampleDataUtil;
+import tutorspet.storage.BinaryTutorsPetStorage;
+import tutorspet.storage.DataFileConverter;
+import tutorspet.storage.JournalingTutorsPetStorage;
 import tutorspet.storage.JsonTutorsPetStorage;
 import tutorspet.storage.JsonUserPrefsStorage;
+import tutorspet.storage.ShardedTutorsPetStorage;
 import tutorspet.storage.Storage;
 import tutorspet.storage.StorageManager;
 import tutorspet.storage.TutorsPetStorage;
@@ -56,7 +63,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TutorsPetStorage tutorsPetStorage = new JsonTutorsPetStorage(userPrefs.getTutorsPetFilePath());
+        TutorsPetStorage tutorsPetStorage = initTutorsPetStorage(userPrefs, userPrefsStorage);
         storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
 
         initLogging(config);
@@ -69,7 +76,49 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s Tutor's Pet and {@code userPrefs}. <br>
+     * Returns the {@code TutorsPetStorage} for the data file format chosen in {@code userPrefs}.
+     * If the chosen format was switched since the last start, the data in the last format is converted to the
+     * chosen format first, and the switch is recorded in {@code userPrefs} and saved to {@code userPrefsStorage}.
+     * Any data already in the chosen format is backed up before it is overwritten.
+     */
+    private TutorsPetStorage initTutorsPetStorage(UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        Path jsonFilePath = userPrefs.getTutorsPetFilePath();
+        Map<DataFileFormat, TutorsPetStorage> storages = new EnumMap<>(DataFileFormat.class);
+        storages.put(DataFileFormat.JSON, new JournalingTutorsPetStorage(
+                new JsonTutorsPetStorage(jsonFilePath, userPrefs.isCompactDataFile())));
+        storages.put(DataFileFormat.BINARY, new JournalingTutorsPetStorage(
+                new BinaryTutorsPetStorage(BinaryTutorsPetStorage.getBinaryFilePath(jsonFilePath))));
+        storages.put(DataFileFormat.SHARDED, new ShardedTutorsPetStorage(
+                ShardedTutorsPetStorage.getManifestFilePath(jsonFilePath), userPrefs.isCompactDataFile()));
+
+        DataFileFormat dataFileFormat = userPrefs.getDataFileFormat();
+        TutorsPetStorage tutorsPetStorage = storages.get(dataFileFormat);
+        if (userPrefs.getLastDataFileFormat() == dataFileFormat) {
+            return tutorsPetStorage;
+        }
+
+        TutorsPetStorage lastStorage = storages.get(userPrefs.getLastDataFileFormat());
+        try {
+            DataFileConverter.convert(lastStorage, tutorsPetStorage);
+        } catch (DataConversionException | IOException e) {
+            // the switch is not recorded, so the conversion is tried again at the next start
+            logger.warning("Failed to convert data file " + lastStorage.getTutorsPetFilePath() + " : "
+                    + StringUtil.getDetails(e));
+            return tutorsPetStorage;
+        }
+
+        userPrefs.setLastDataFileFormat(dataFileFormat);
+        try {
+            userPrefsStorage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return tutorsPetStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s Tutor's Pet and {@code userPrefs}.
+     * The data is the last snapshot with the changes recorded in its journal replayed on top of it. <br>
      * The data from the sample Tutor's Pet will be used instead if {@code storage}'s Tutor's Pet is not found,
      * or an empty Tutor's Pet will be used instead if errors occur when reading {@code storage}'s Tutor's Pet.
      */
@@ -174,6 +223,24 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Tutor's Pet ] =============================");
+        boolean isSaved;
+        try {
+            storage.flushTutorsPet();
+            isSaved = !logic.hasUnsavedChanges();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background " + StringUtil.getDetails(e));
+            isSaved = false;
+        }
+        try {
+            if (isSaved) {
+                storage.compactTutorsPet();
+            } else {
+                // the storage does not hold the latest data, so it is written out in full
+                storage.saveTutorsPet(model.getTutorsPet());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,83 @@
+package tutorspet.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for reading comma-separated values.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted value is not closed.";
+    public static final String MESSAGE_UNEXPECTED_QUOTE = "A quote appears in the middle of an unquoted value.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits a single line of comma-separated values into its values.
+     * A value may be enclosed in double quotes to contain commas, and a double quote inside a quoted value is
+     * written as two double quotes. Values are not trimmed.
+     *   <br>examples:<pre>
+     *       parseLine("a,b") == ["a", "b"]
+     *       parseLine("\"a,b\",c") == ["a,b", "c"]
+     *       parseLine("\"say \"\"hi\"\"\",") == ["say \"hi\"", ""]
+     *       </pre>
+     * @param line cannot be null, must not contain line breaks
+     * @throws IllegalValueException if a quoted value is not closed, or a quote appears inside an unquoted value.
+     */
+    public static List<String> parseLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedValue(line, i + 1, value);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_UNEXPECTED_QUOTE);
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    if (line.charAt(i) == QUOTE) {
+                        throw new IllegalValueException(MESSAGE_UNEXPECTED_QUOTE);
+                    }
+                    value.append(line.charAt(i++));
+                }
+            }
+
+            values.add(value.toString());
+            value.setLength(0);
+            if (i >= line.length()) {
+                return values;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Appends the quoted value starting at {@code start}, just after its opening quote, to {@code value}.
+     * Returns the index just after the closing quote.
+     */
+    private static int readQuotedValue(String line, int start, StringBuilder value) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                value.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                value.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
@@ -1,19 +1,31 @@
 package tutorspet.commons.util;
 
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.DSYNC;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
@@ -90,6 +102,74 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Appends the Json object to the specified file as a single compact line, creating the file if it doesn't exist.
+     * The data is written through to the storage device before this method returns.
+     * @param jsonValue cannot be null
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void appendJsonValue(T jsonValue, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonValue);
+
+        String json = objectMapper.writeValueAsString(jsonValue) + System.lineSeparator();
+        Files.write(filePath, json.getBytes(StandardCharsets.UTF_8), CREATE, WRITE, APPEND, DSYNC);
+    }
+
+    /**
+     * Returns the Json objects that were appended one after another to the given file, or an empty list if the file
+     * is not found. Reading stops at the first object that cannot be read, such as one that was only partially written.
+     * @param filePath cannot be null.
+     * @param classOfObjectToDeserialize every object in the file has to correspond to the structure in this class.
+     * @throws IOException if the file cannot be read.
+     */
+    public static <T> List<T> readJsonValues(Path filePath, Class<T> classOfObjectToDeserialize) throws IOException {
+        requireNonNull(filePath);
+
+        List<T> jsonValues = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return jsonValues;
+        }
+
+        try (MappingIterator<T> iterator = objectMapper.readerFor(classOfObjectToDeserialize)
+                .readValues(filePath.toFile())) {
+            while (iterator.hasNextValue()) {
+                jsonValues.add(iterator.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            logger.warning("Stopped reading " + filePath + " at an unreadable value: " + e.getMessage());
+        }
+        return jsonValues;
+    }
+
+    /**
+     * Returns a parser that reads the JSON in the given file one token at a time, so that large files do not have to
+     * be held in memory. Values can be read as Java objects with {@link JsonParser#readValueAs(Class)}.
+     * The caller is responsible for closing the parser.
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createJsonParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        return objectMapper.getFactory().createParser(Files.newInputStream(filePath));
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code out} one token at a time, so that large values do not have to
+     * be held in memory. Values can be written from Java objects with {@link JsonGenerator#writeObject(Object)}.
+     * The generator buffers its output, and closing it closes {@code out}.
+     * @param out cannot be null.
+     * @param isPretty whether the JSON is indented like {@link #toJsonString(Object)}, instead of written compactly.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out, boolean isPretty) throws IOException {
+        requireNonNull(out);
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPretty ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
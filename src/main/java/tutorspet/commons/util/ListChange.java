@@ -0,0 +1,161 @@
+package tutorspet.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Describes a change to a list: the {@code removed} elements starting at {@code index} were replaced by the
+ * {@code added} elements. For example, an element added at position 2 is described by
+ * {@code new ListChange<>(2, List.of(), List.of(element))}.
+ * Guarantees: immutable.
+ */
+public class ListChange<T> {
+
+    private final int index;
+    private final List<T> removed;
+    private final List<T> added;
+
+    /**
+     * Every field must be present and not null. {@code removed} and {@code added} must not be modified afterwards.
+     */
+    public ListChange(int index, List<T> removed, List<T> added) {
+        requireAllNonNull(removed, added);
+
+        this.index = index;
+        this.removed = removed;
+        this.added = added;
+    }
+
+    /**
+     * Returns the changes that turn {@code oldList} into {@code newList} when applied in order.
+     * Elements are compared by identity, so an element replaced by an equal but different object is reported as
+     * changed. Takes O(n) time, unless both lists are versions of the same {@code PersistentList}, in which case the
+     * unchanged start and end of the lists are skipped and only the part in between is compared element by element.
+     * {@code oldList} and {@code newList} must not be modified afterwards.
+     */
+    public static <T> List<ListChange<T>> diff(List<T> oldList, List<T> newList) {
+        requireAllNonNull(oldList, newList);
+
+        if (!(oldList instanceof PersistentList) || !(newList instanceof PersistentList)) {
+            return diff(oldList, newList, 0);
+        }
+
+        PersistentList<T> oldPersistentList = (PersistentList<T>) oldList;
+        PersistentList<T> newPersistentList = (PersistentList<T>) newList;
+        int prefixLength = oldPersistentList.commonPrefixLength(newPersistentList);
+        int suffixLength = Math.min(oldPersistentList.commonSuffixLength(newPersistentList),
+                Math.min(oldList.size(), newList.size()) - prefixLength);
+        return diff(oldList.subList(prefixLength, oldList.size() - suffixLength),
+                newList.subList(prefixLength, newList.size() - suffixLength), prefixLength);
+    }
+
+    /**
+     * Returns the changes that turn {@code oldList} into {@code newList}, which start at {@code offset} in the lists
+     * they were taken from.
+     */
+    private static <T> List<ListChange<T>> diff(List<T> oldList, List<T> newList, int offset) {
+        Set<T> oldElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldElements.addAll(oldList);
+        Set<T> newElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        newElements.addAll(newList);
+
+        List<ListChange<T>> changes = new ArrayList<>();
+        int oldIndex = 0;
+        int newIndex = 0;
+        while (oldIndex < oldList.size() || newIndex < newList.size()) {
+            if (oldIndex < oldList.size() && newIndex < newList.size()
+                    && oldList.get(oldIndex) == newList.get(newIndex)) {
+                oldIndex++;
+                newIndex++;
+                continue;
+            }
+
+            int changeIndex = offset + newIndex;
+            List<T> removed = new ArrayList<>();
+            while (oldIndex < oldList.size() && !newElements.contains(oldList.get(oldIndex))) {
+                removed.add(oldList.get(oldIndex++));
+            }
+            List<T> added = new ArrayList<>();
+            while (newIndex < newList.size() && !oldElements.contains(newList.get(newIndex))) {
+                added.add(newList.get(newIndex++));
+            }
+            if (removed.isEmpty() && added.isEmpty()) {
+                // the elements were reordered, which is simplest to describe as replacing every compared element
+                return List.of(new ListChange<>(offset, oldList, newList));
+            }
+            changes.add(new ListChange<>(changeIndex, removed, added));
+        }
+        return changes;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public List<T> getRemoved() {
+        return removed;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the change that reverts this change.
+     */
+    public ListChange<T> inverse() {
+        return new ListChange<>(index, added, removed);
+    }
+
+    /**
+     * Returns {@code list} with this change applied. {@code list} is not modified.
+     * Takes O(k log n) time, where k is the number of elements removed and added, unless every element of
+     * {@code list} is replaced.
+     */
+    public PersistentList<T> applyTo(PersistentList<T> list) {
+        requireNonNull(list);
+
+        if (index == 0 && removed.size() == list.size()) {
+            return PersistentList.copyOf(added);
+        }
+
+        PersistentList<T> result = list;
+        int replacedCount = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replacedCount; i++) {
+            result = result.with(index + i, added.get(i));
+        }
+        for (int i = replacedCount; i < removed.size(); i++) {
+            result = result.minus(index + replacedCount);
+        }
+        for (int i = replacedCount; i < added.size(); i++) {
+            result = result.plus(index + i, added.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListChange // instanceof handles nulls
+                && index == ((ListChange<?>) other).index
+                && removed.equals(((ListChange<?>) other).removed)
+                && added.equals(((ListChange<?>) other).added));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "At " + index + ": removed " + removed.size() + ", added " + added.size();
+    }
+}
@@ -0,0 +1,320 @@
+package tutorspet.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list that shares structure between versions.
+ * Elements are stored in a balanced (AVL) binary tree ordered by position. Operations that "modify" the list return
+ * a new {@code PersistentList} that copies only the O(log n) nodes on the path to the changed position, so keeping
+ * an old version of the list around costs O(1) and every version stays valid.
+ * Does not allow nulls.
+ */
+public final class PersistentList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty {@code PersistentList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code PersistentList} with the elements of {@code elements}, in order.
+     * Takes O(n) time.
+     *
+     * @throws NullPointerException if {@code elements} or any of its elements is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        requireNonNull(elements);
+
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new PersistentList<>(build((E[]) array, 0, array.length));
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns a new {@code PersistentList} with {@code element} appended.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a new {@code PersistentList} with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size() + 1);
+
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a new {@code PersistentList} with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        requireNonNull(element);
+        Objects.checkIndex(index, size());
+
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a new {@code PersistentList} without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        Objects.checkIndex(index, size());
+
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the number of leading elements of this list that are the same objects as those of {@code other}.
+     * Subtrees that the two lists share are skipped without visiting their elements, so comparing two versions of a
+     * list that differ in a few positions takes O(log^2 n) time for each difference rather than O(n).
+     */
+    public int commonPrefixLength(PersistentList<E> other) {
+        requireNonNull(other);
+
+        return countCommonElements(root, other.root, false);
+    }
+
+    /**
+     * Returns the number of trailing elements of this list that are the same objects as those of {@code other}.
+     * Like {@link #commonPrefixLength(PersistentList)}, shared subtrees are skipped.
+     */
+    public int commonSuffixLength(PersistentList<E> other) {
+        requireNonNull(other);
+
+        return countCommonElements(root, other.root, true);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+            private Node<E> nextNode = root;
+
+            @Override
+            public boolean hasNext() {
+                return nextNode != null || !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                while (nextNode != null) {
+                    path.push(nextNode);
+                    nextNode = nextNode.left;
+                }
+                Node<E> current = path.pop();
+                nextNode = current.right;
+                return current.value;
+            }
+        };
+    }
+
+    /**
+     * Returns the number of elements from the start, or from the end if {@code isFromEnd}, that are the same objects
+     * in the trees rooted at {@code first} and {@code second}.
+     * Each tree is split into a sequence of subtrees, and the larger of the two first subtrees is split further until
+     * the first subtrees are the same node, which is skipped, or single elements that differ.
+     */
+    private static <E> int countCommonElements(Node<E> first, Node<E> second, boolean isFromEnd) {
+        Deque<Node<E>> firstSubtrees = new ArrayDeque<>();
+        Deque<Node<E>> secondSubtrees = new ArrayDeque<>();
+        if (first != null) {
+            firstSubtrees.push(first);
+        }
+        if (second != null) {
+            secondSubtrees.push(second);
+        }
+
+        int count = 0;
+        while (!firstSubtrees.isEmpty() && !secondSubtrees.isEmpty()) {
+            Node<E> firstSubtree = firstSubtrees.peek();
+            Node<E> secondSubtree = secondSubtrees.peek();
+            boolean isSingleElements = firstSubtree.size == 1 && secondSubtree.size == 1;
+            if (firstSubtree == secondSubtree || (isSingleElements && firstSubtree.value == secondSubtree.value)) {
+                firstSubtrees.pop();
+                secondSubtrees.pop();
+                count += firstSubtree.size;
+            } else if (isSingleElements) {
+                break;
+            } else if (firstSubtree.size >= secondSubtree.size) {
+                split(firstSubtrees, isFromEnd);
+            } else {
+                split(secondSubtrees, isFromEnd);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Replaces the first subtree in {@code subtrees} with its left subtree, its own element and its right subtree,
+     * ordered from the start, or from the end if {@code isFromEnd}.
+     */
+    private static <E> void split(Deque<Node<E>> subtrees, boolean isFromEnd) {
+        Node<E> node = subtrees.pop();
+        // pushed in reverse, so the child that comes first in the scan ends up at the front
+        Node<E> laterChild = isFromEnd ? node.left : node.right;
+        Node<E> earlierChild = isFromEnd ? node.right : node.left;
+        if (laterChild != null) {
+            subtrees.push(laterChild);
+        }
+        subtrees.push(new Node<>(node.value, null, null));
+        if (earlierChild != null) {
+            subtrees.push(earlierChild);
+        }
+    }
+
+    private static <E> Node<E> build(E[] elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements[mid], build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node with the given contents, rotated if needed to keep the tree balanced.
+     * {@code left} and {@code right} must differ in height by at most 2.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of its subtree.
+     */
+    private static class Node<E> {
+
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+}
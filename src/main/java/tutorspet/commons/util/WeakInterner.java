@@ -0,0 +1,53 @@
+package tutorspet.commons.util;
+
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Shares one instance among equal values, such as the tags of many students, without keeping the instances alive.
+ * An instance is forgotten once nothing else refers to it, so the instances shared do not grow without bound.
+ * Each instance is looked up by a key that it refers to itself, such as its name.
+ * Guarantees: thread-safe.
+ */
+public class WeakInterner<K, V> {
+
+    private final Function<? super V, ? extends K> keyFunction;
+    private final Map<K, WeakReference<V>> instances = new WeakHashMap<>();
+
+    /**
+     * Creates a {@code WeakInterner} that looks up each instance by the key that {@code keyFunction} returns for it.
+     * The key returned must be referred to by the instance, so that it is kept as long as the instance is in use.
+     */
+    public WeakInterner(Function<? super V, ? extends K> keyFunction) {
+        requireAllNonNull(keyFunction);
+
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Returns the shared instance with a key equal to {@code key}.
+     * If there is none, the instance created by {@code factory} from {@code key} becomes the shared instance.
+     */
+    public synchronized V intern(K key, Function<? super K, ? extends V> factory) {
+        requireAllNonNull(key, factory);
+
+        WeakReference<V> reference = instances.get(key);
+        V instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instance = factory.apply(key);
+            instances.put(keyFunction.apply(instance), new WeakReference<>(instance));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the number of shared instances that have not been forgotten yet.
+     */
+    public synchronized int size() {
+        return instances.size();
+    }
+}
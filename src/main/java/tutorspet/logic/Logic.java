@@ -31,6 +31,11 @@ public interface Logic {
      */
     ReadOnlyTutorsPet getTutorsPet();
 
+    /**
+     * Returns true if the TutorsPet has changed since it was last scheduled to be saved without a reported failure.
+     */
+    boolean hasUnsavedChanges();
+
     /**
      * Returns an unmodifiable view of the filtered list of students.
      */
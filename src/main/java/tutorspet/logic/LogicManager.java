@@ -29,6 +29,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final TutorsPetParser tutorsPetParser;
+    private long savedModificationCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -37,6 +38,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         tutorsPetParser = new TutorsPetParser();
+        savedModificationCount = model.getModificationCount();
     }
 
     @Override
@@ -47,10 +49,15 @@ public class LogicManager implements Logic {
         Command command = tutorsPetParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
-        try {
-            storage.saveTutorsPet(model.getTutorsPet());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // only saves if the data has changed since the last save
+        long modificationCount = model.getModificationCount();
+        if (modificationCount != savedModificationCount) {
+            try {
+                storage.saveTutorsPetInBackground(model.getTutorsPet());
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            savedModificationCount = modificationCount;
         }
 
         return commandResult;
@@ -61,6 +68,11 @@ public class LogicManager implements Logic {
         return model.getTutorsPet();
     }
 
+    @Override
+    public boolean hasUnsavedChanges() {
+        return model.getModificationCount() != savedModificationCount;
+    }
+
     @Override
     public ObservableList<Student> getFilteredStudentList() {
         return model.getFilteredStudentList();
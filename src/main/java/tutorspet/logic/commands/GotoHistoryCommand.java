@@ -0,0 +1,70 @@
+package tutorspet.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_MODULE_CLASS;
+import static tutorspet.model.Model.PREDICATE_SHOW_ALL_STUDENTS;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.StateRecords;
+
+/**
+ * Restores the application to a recorded state in the change history, undoing or redoing every {@code Command}
+ * in between at once.
+ */
+public class GotoHistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "goto-history";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores the application to the state identified by the index number used in the displayed "
+            + ViewHistoryCommand.COMMAND_WORD + " list, undoing or redoing all changes in between.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Successfully restored:\n%s";
+    public static final String MESSAGE_INVALID_HISTORY_INDEX = "The history index provided is invalid.";
+    public static final String MESSAGE_ALREADY_CURRENT_STATE = "The history index provided is the current state.";
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a GotoHistoryCommand to restore the state at {@code targetIndex} of the displayed history list,
+     * where the most recent state is at index 1.
+     */
+    public GotoHistoryCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        StateRecords stateRecords = model.viewStateRecords();
+        int stateCount = stateRecords.getStateRecords().size();
+        if (targetIndex.getOneBased() > stateCount) {
+            throw new CommandException(MESSAGE_INVALID_HISTORY_INDEX);
+        }
+
+        // the history is displayed from the most recent state to the oldest state
+        int stateIndex = stateCount - targetIndex.getOneBased();
+        if (stateIndex == stateRecords.getCurrentIndex()) {
+            throw new CommandException(MESSAGE_ALREADY_CURRENT_STATE);
+        }
+
+        String commitMessage = model.gotoState(stateIndex);
+        model.updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        model.updateFilteredModuleClassList(PREDICATE_SHOW_ALL_MODULE_CLASS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commitMessage));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof GotoHistoryCommand // instanceof handles nulls
+                && targetIndex.equals(((GotoHistoryCommand) other).targetIndex)); // state check
+    }
+}
@@ -124,7 +124,7 @@ public class EditAttendanceCommand extends Command {
 
         int editedParticipationScore =
                 editAttendanceDescriptor.getParticipationScore().orElse(attendanceToEdit.getParticipationScore());
-        return new Attendance(editedParticipationScore);
+        return Attendance.of(editedParticipationScore);
     }
 
     @Override
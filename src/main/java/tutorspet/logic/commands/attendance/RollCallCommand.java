@@ -0,0 +1,153 @@
+package tutorspet.logic.commands.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_PARTICIPATION_SCORE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_WEEK;
+import static tutorspet.logic.util.ModuleClassUtil.getLessonFromModuleClass;
+import static tutorspet.logic.util.ModuleClassUtil.setAttendancesInModuleClass;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Records the attendances of many students of the specified {@code Lesson} in one week at once.
+ * Existing attendances of the students in that week are replaced.
+ */
+public class RollCallCommand extends Command {
+
+    public static final String COMMAND_WORD = "roll-call";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Records the attendances of the students of a class "
+            + "for a lesson in one week, replacing any existing attendances of those students in that week. "
+            + "If no students are given, all students in the class are marked. "
+            + "Excluded students are left unchanged. "
+            + "Note: All indexes must be positive integers.\n"
+            + "Parameters: "
+            + PREFIX_CLASS_INDEX + "CLASS_INDEX "
+            + PREFIX_LESSON_INDEX + "LESSON_INDEX "
+            + PREFIX_WEEK + "WEEK_NUMBER "
+            + PREFIX_PARTICIPATION_SCORE + "PARTICIPATION_SCORE (must be an integer between 0 and 100) "
+            + "[" + PREFIX_STUDENT_INDEX + "STUDENT_INDEX]... "
+            + "[" + PREFIX_EXCLUDED_STUDENT_INDEX + "EXCLUDED_STUDENT_INDEX]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS_INDEX + "1 "
+            + PREFIX_LESSON_INDEX + "1 "
+            + PREFIX_WEEK + "3 "
+            + PREFIX_PARTICIPATION_SCORE + "50 "
+            + PREFIX_EXCLUDED_STUDENT_INDEX + "2";
+
+    public static final String MESSAGE_SUCCESS = "Attendances recorded:\n"
+            + "%1$s students attended %2$s %3$s in week %4$s\nwith a participation score of %5$s.";
+    public static final String MESSAGE_COMMIT = "Attendances recorded: %1$s students (%2$s %3$s in week %4$s).";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to record attendances for.";
+
+    private final Index moduleClassIndex;
+    private final Index lessonIndex;
+    private final Week week;
+    private final Attendance attendance;
+    private final List<Index> studentIndexes;
+    private final List<Index> excludedStudentIndexes;
+
+    /**
+     * Creates a RollCallCommand to record {@code attendance} for the students at {@code studentIndexes}, or for all
+     * students in the class if {@code studentIndexes} is empty, except the students at {@code excludedStudentIndexes}.
+     */
+    public RollCallCommand(Index moduleClassIndex, Index lessonIndex, Week week, Attendance attendance,
+                           List<Index> studentIndexes, List<Index> excludedStudentIndexes) {
+        requireAllNonNull(moduleClassIndex, lessonIndex, week, attendance, studentIndexes, excludedStudentIndexes);
+
+        this.moduleClassIndex = moduleClassIndex;
+        this.lessonIndex = lessonIndex;
+        this.week = week;
+        this.attendance = attendance;
+        this.studentIndexes = new ArrayList<>(studentIndexes);
+        this.excludedStudentIndexes = new ArrayList<>(excludedStudentIndexes);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Student> lastShownStudentList = model.getFilteredStudentList();
+        List<ModuleClass> lastShownModuleClassList = model.getFilteredModuleClassList();
+
+        if (moduleClassIndex.getOneBased() > lastShownModuleClassList.size()) {
+            throw new CommandException(MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX);
+        }
+
+        ModuleClass targetModuleClass = lastShownModuleClassList.get(moduleClassIndex.getZeroBased());
+        Lesson targetLesson = getLessonFromModuleClass(targetModuleClass, lessonIndex);
+
+        Set<UUID> targetStudentUuids = new LinkedHashSet<>();
+        if (studentIndexes.isEmpty()) {
+            targetStudentUuids.addAll(targetModuleClass.getStudentUuids());
+        } else {
+            targetStudentUuids.addAll(getStudentUuids(lastShownStudentList, studentIndexes));
+        }
+        targetStudentUuids.removeAll(getStudentUuids(lastShownStudentList, excludedStudentIndexes));
+
+        if (targetStudentUuids.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+
+        ModuleClass modifiedModuleClass =
+                setAttendancesInModuleClass(targetModuleClass, lessonIndex, week, targetStudentUuids, attendance);
+        model.setModuleClass(targetModuleClass, modifiedModuleClass);
+
+        model.commit(String.format(MESSAGE_COMMIT, targetStudentUuids.size(), modifiedModuleClass.getName(),
+                targetLesson.printLesson(), week));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, targetStudentUuids.size(),
+                modifiedModuleClass.getName(), targetLesson.printLesson(), week, attendance));
+    }
+
+    /**
+     * Returns the UUIDs of the students at {@code indexes} in {@code lastShownStudentList}.
+     *
+     * @throws CommandException if any of the indexes is invalid.
+     */
+    private static Set<UUID> getStudentUuids(List<Student> lastShownStudentList, List<Index> indexes)
+            throws CommandException {
+        Set<UUID> studentUuids = new LinkedHashSet<>();
+        for (Index index : indexes) {
+            if (index.getOneBased() > lastShownStudentList.size()) {
+                throw new CommandException(MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+            }
+            studentUuids.add(lastShownStudentList.get(index.getZeroBased()).getUuid());
+        }
+        return Collections.unmodifiableSet(studentUuids);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RollCallCommand // instanceof handles nulls
+                && moduleClassIndex.equals(((RollCallCommand) other).moduleClassIndex)
+                && lessonIndex.equals(((RollCallCommand) other).lessonIndex)
+                && week.equals(((RollCallCommand) other).week)
+                && attendance.equals(((RollCallCommand) other).attendance)
+                && studentIndexes.equals(((RollCallCommand) other).studentIndexes)
+                && excludedStudentIndexes.equals(((RollCallCommand) other).excludedStudentIndexes));
+    }
+}
@@ -0,0 +1,236 @@
+package tutorspet.logic.commands.student;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.CsvUtil;
+import tutorspet.logic.commands.Command;
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.parser.ParserUtil;
+import tutorspet.model.Model;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Imports students from a CSV file and adds them to existing classes.
+ * Rows that cannot be imported are skipped and reported, while the other rows are imported as a single change.
+ */
+public class ImportStudentCommand extends Command {
+
+    public static final String COMMAND_WORD = "import-student";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports students from a CSV file "
+            + "and adds them to the classes named in the file.\n"
+            + "Each row of the file holds: NAME,TELEGRAM,EMAIL[,TAGS[,CLASS_NAMES]], "
+            + "where multiple tags or class names are separated by semicolons. "
+            + "A first row starting with \"name\" is treated as a header.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "%1$d students imported from %2$s.";
+    public static final String MESSAGE_COMMIT = "Students imported: %1$d from %2$s.";
+    public static final String MESSAGE_NO_STUDENTS_IMPORTED = "No students were imported from %1$s.";
+    public static final String MESSAGE_FILE_NOT_READ = "The file %1$s could not be read.";
+    public static final String MESSAGE_ROWS_SKIPPED = "\n%1$d rows skipped:";
+    public static final String MESSAGE_ROW_ERROR = "\nRow %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "\n... and %1$d more.";
+    public static final String MESSAGE_INVALID_VALUE_COUNT = "Expected 3 to 5 values, but found %1$d.";
+    public static final String MESSAGE_UNKNOWN_MODULE_CLASS = "The class %1$s does not exist.";
+    public static final String MESSAGE_DUPLICATE_STUDENT_IN_FILE = "This student appears in an earlier row.";
+
+    /** The maximum number of row errors shown in the result. */
+    public static final int MAX_REPORTED_ROW_ERRORS = 20;
+
+    private static final String HEADER_FIRST_VALUE = "name";
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String LIST_SEPARATOR = ";";
+    private static final int MIN_VALUE_COUNT = 3;
+    private static final int MAX_VALUE_COUNT = 5;
+    private static final int TAGS_COLUMN = 3;
+    private static final int MODULE_CLASS_NAMES_COLUMN = 4;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportStudentCommand to import the students in the CSV file at {@code filePath}.
+     */
+    public ImportStudentCommand(Path filePath) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<Name, ModuleClass> moduleClassesByName = new HashMap<>();
+        for (ModuleClass moduleClass : model.getTutorsPet().getModuleClassList()) {
+            moduleClassesByName.put(moduleClass.getName(), moduleClass);
+        }
+
+        RowImporter importer = new RowImporter(model, moduleClassesByName);
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line = reader.readLine();
+            for (int rowNumber = 1; line != null; rowNumber++, line = reader.readLine()) {
+                if (rowNumber == 1) {
+                    line = line.replace(BYTE_ORDER_MARK, "");
+                    if (isHeader(line)) {
+                        continue;
+                    }
+                }
+                importer.importRow(rowNumber, line);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath), ioe);
+        }
+
+        String report = importer.getReport();
+        if (importer.students.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS_IMPORTED, filePath) + report);
+        }
+
+        model.addStudents(importer.students);
+        for (Map.Entry<Name, List<UUID>> entry : importer.studentUuidsByModuleClassName.entrySet()) {
+            ModuleClass moduleClass = moduleClassesByName.get(entry.getKey());
+            ModuleClass.Builder moduleClassBuilder = moduleClass.toBuilder();
+            entry.getValue().forEach(moduleClassBuilder::addStudentUuid);
+            model.setModuleClass(moduleClass, moduleClassBuilder.build());
+        }
+
+        model.commit(String.format(MESSAGE_COMMIT, importer.students.size(), filePath));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importer.students.size(), filePath) + report);
+    }
+
+    private static boolean isHeader(String line) {
+        return line.trim().toLowerCase().startsWith(HEADER_FIRST_VALUE + ",");
+    }
+
+    /**
+     * Splits the semicolon-separated value in {@code column} of {@code values}, ignoring blank items.
+     * Returns an empty list if the column is absent.
+     */
+    private static List<String> splitList(List<String> values, int column) {
+        if (column >= values.size()) {
+            return List.of();
+        }
+        return Arrays.stream(values.get(column).split(LIST_SEPARATOR))
+                .filter(item -> !item.isBlank())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportStudentCommand // instanceof handles nulls
+                && filePath.equals(((ImportStudentCommand) other).filePath));
+    }
+
+    /**
+     * Validates rows one at a time, collecting the students to add and the row errors.
+     * Duplicates are found with hash lookups against the existing students and the rows already accepted.
+     */
+    private static class RowImporter {
+        private final Model model;
+        private final Map<Name, ModuleClass> moduleClassesByName;
+        private final Set<Telegram> importedTelegrams = new HashSet<>();
+        private final Set<Email> importedEmails = new HashSet<>();
+        private final List<Student> students = new ArrayList<>();
+        private final Map<Name, List<UUID>> studentUuidsByModuleClassName = new LinkedHashMap<>();
+        private final StringBuilder rowErrors = new StringBuilder();
+        private int rowErrorCount = 0;
+
+        RowImporter(Model model, Map<Name, ModuleClass> moduleClassesByName) {
+            this.model = model;
+            this.moduleClassesByName = moduleClassesByName;
+        }
+
+        /**
+         * Imports the student in {@code line}, or records why it cannot be imported. Blank lines are ignored.
+         */
+        void importRow(int rowNumber, String line) {
+            if (line.isBlank()) {
+                return;
+            }
+
+            try {
+                List<String> values = CsvUtil.parseLine(line);
+                if (values.size() < MIN_VALUE_COUNT || values.size() > MAX_VALUE_COUNT) {
+                    throw new IllegalValueException(String.format(MESSAGE_INVALID_VALUE_COUNT, values.size()));
+                }
+
+                Name name = ParserUtil.parseName(values.get(0));
+                Telegram telegram = ParserUtil.parseTelegram(values.get(1));
+                Email email = ParserUtil.parseEmail(values.get(2));
+                Set<Tag> tags = ParserUtil.parseTags(splitList(values, TAGS_COLUMN));
+                Set<Name> moduleClassNames = new HashSet<>();
+                for (String moduleClassName : splitList(values, MODULE_CLASS_NAMES_COLUMN)) {
+                    Name parsedModuleClassName = ParserUtil.parseName(moduleClassName);
+                    if (!moduleClassesByName.containsKey(parsedModuleClassName)) {
+                        throw new IllegalValueException(
+                                String.format(MESSAGE_UNKNOWN_MODULE_CLASS, parsedModuleClassName));
+                    }
+                    moduleClassNames.add(parsedModuleClassName);
+                }
+
+                Student student = new Student(name, telegram, email, tags);
+                if (model.hasStudent(student)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+                }
+                if (importedTelegrams.contains(telegram) || importedEmails.contains(email)) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT_IN_FILE);
+                }
+
+                importedTelegrams.add(telegram);
+                importedEmails.add(email);
+                students.add(student);
+                for (Name moduleClassName : moduleClassNames) {
+                    studentUuidsByModuleClassName.computeIfAbsent(moduleClassName, k -> new ArrayList<>())
+                            .add(student.getUuid());
+                }
+            } catch (IllegalValueException ive) {
+                rowErrorCount++;
+                if (rowErrorCount <= MAX_REPORTED_ROW_ERRORS) {
+                    rowErrors.append(String.format(MESSAGE_ROW_ERROR, rowNumber, ive.getMessage()));
+                }
+            }
+        }
+
+        /**
+         * Returns the report of the rows that were skipped, or an empty string if no row was skipped.
+         */
+        String getReport() {
+            if (rowErrorCount == 0) {
+                return "";
+            }
+
+            String report = String.format(MESSAGE_ROWS_SKIPPED, rowErrorCount) + rowErrors;
+            if (rowErrorCount > MAX_REPORTED_ROW_ERRORS) {
+                report += String.format(MESSAGE_MORE_ROW_ERRORS, rowErrorCount - MAX_REPORTED_ROW_ERRORS);
+            }
+            return report;
+        }
+    }
+}
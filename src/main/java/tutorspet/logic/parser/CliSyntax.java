@@ -12,6 +12,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_TAG = new Prefix("tag\\");
     public static final Prefix PREFIX_CLASS_INDEX = new Prefix("c\\");
     public static final Prefix PREFIX_STUDENT_INDEX = new Prefix("s\\");
+    public static final Prefix PREFIX_EXCLUDED_STUDENT_INDEX = new Prefix("x\\");
     public static final Prefix PREFIX_DAY = new Prefix("d\\");
     public static final Prefix PREFIX_START_TIME = new Prefix("st\\");
     public static final Prefix PREFIX_END_TIME = new Prefix("et\\");
@@ -0,0 +1,29 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.GotoHistoryCommand;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new GotoHistoryCommand object.
+ */
+public class GotoHistoryCommandParser implements Parser<GotoHistoryCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GotoHistoryCommand
+     * and returns a GotoHistoryCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public GotoHistoryCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args);
+            return new GotoHistoryCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, GotoHistoryCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
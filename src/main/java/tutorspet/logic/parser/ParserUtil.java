@@ -112,7 +112,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -180,7 +180,7 @@ public class ParserUtil {
         if (!Venue.isValidVenue(trimmedVenue)) {
             throw new ParseException(Venue.MESSAGE_CONSTRAINTS);
         }
-        return new Venue(trimmedVenue);
+        return Venue.of(trimmedVenue);
     }
 
     /**
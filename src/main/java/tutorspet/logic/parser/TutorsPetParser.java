@@ -8,6 +8,7 @@ import java.util.regex.Pattern;
 
 import tutorspet.logic.commands.Command;
 import tutorspet.logic.commands.ExitCommand;
+import tutorspet.logic.commands.GotoHistoryCommand;
 import tutorspet.logic.commands.HelpCommand;
 import tutorspet.logic.commands.LinkCommand;
 import tutorspet.logic.commands.ListCommand;
@@ -20,6 +21,7 @@ import tutorspet.logic.commands.attendance.AddAttendanceCommand;
 import tutorspet.logic.commands.attendance.DeleteAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand;
 import tutorspet.logic.commands.attendance.FindAttendanceCommand;
+import tutorspet.logic.commands.attendance.RollCallCommand;
 import tutorspet.logic.commands.attendance.StatisticsCommand;
 import tutorspet.logic.commands.lesson.AddLessonCommand;
 import tutorspet.logic.commands.lesson.DeleteLessonCommand;
@@ -36,11 +38,13 @@ import tutorspet.logic.commands.student.ClearStudentCommand;
 import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand;
 import tutorspet.logic.commands.student.FindStudentCommand;
+import tutorspet.logic.commands.student.ImportStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.parser.attendance.AddAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.DeleteAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.EditAttendanceCommandParser;
 import tutorspet.logic.parser.attendance.FindAttendanceCommandParser;
+import tutorspet.logic.parser.attendance.RollCallCommandParser;
 import tutorspet.logic.parser.attendance.StatisticsCommandParser;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.logic.parser.lesson.AddLessonCommandParser;
@@ -55,6 +59,7 @@ import tutorspet.logic.parser.student.AddStudentCommandParser;
 import tutorspet.logic.parser.student.DeleteStudentCommandParser;
 import tutorspet.logic.parser.student.EditStudentCommandParser;
 import tutorspet.logic.parser.student.FindStudentCommandParser;
+import tutorspet.logic.parser.student.ImportStudentCommandParser;
 import tutorspet.logic.parser.student.ListStudentCommandParser;
 
 /**
@@ -103,6 +108,9 @@ public class TutorsPetParser {
         case FindStudentCommand.COMMAND_WORD:
             return new FindStudentCommandParser().parse(arguments);
 
+        case ImportStudentCommand.COMMAND_WORD:
+            return new ImportStudentCommandParser().parse(arguments);
+
         case AddModuleClassCommand.COMMAND_WORD:
             return new AddModuleClassCommandParser().parse(arguments);
 
@@ -151,6 +159,9 @@ public class TutorsPetParser {
         case FindAttendanceCommand.COMMAND_WORD:
             return new FindAttendanceCommandParser().parse(arguments);
 
+        case RollCallCommand.COMMAND_WORD:
+            return new RollCallCommandParser().parse(arguments);
+
         case DisplayVenueCommand.COMMAND_WORD:
             return new DisplayVenueCommandParser().parse(arguments);
 
@@ -160,6 +171,9 @@ public class TutorsPetParser {
         case ViewHistoryCommand.COMMAND_WORD:
             return new ViewHistoryCommand();
 
+        case GotoHistoryCommand.COMMAND_WORD:
+            return new GotoHistoryCommandParser().parse(arguments);
+
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
@@ -60,7 +60,7 @@ public class AddAttendanceCommandParser implements Parser<AddAttendanceCommand>
         int participationScore =
                 ParserUtil.parseParticipationScore(argMultimap.getValue(PREFIX_PARTICIPATION_SCORE).get());
 
-        Attendance attendance = new Attendance(participationScore);
+        Attendance attendance = Attendance.of(participationScore);
         return new AddAttendanceCommand(moduleClassIndex, lessonIndex, studentIndex, week, attendance);
     }
 }
@@ -0,0 +1,77 @@
+package tutorspet.logic.parser.attendance;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.attendance.RollCallCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_PARTICIPATION_SCORE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.attendance.RollCallCommand;
+import tutorspet.logic.parser.ArgumentMultimap;
+import tutorspet.logic.parser.ArgumentTokenizer;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.ParserUtil;
+import tutorspet.logic.parser.exceptions.ParseException;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.Week;
+
+/**
+ * Parses input arguments and creates a new RollCallCommand object.
+ */
+public class RollCallCommandParser implements Parser<RollCallCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RollCallCommand
+     * and returns a RollCallCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public RollCallCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_CLASS_INDEX, PREFIX_LESSON_INDEX, PREFIX_WEEK,
+                        PREFIX_PARTICIPATION_SCORE, PREFIX_STUDENT_INDEX, PREFIX_EXCLUDED_STUDENT_INDEX);
+
+        Index moduleClassIndex;
+        Index lessonIndex;
+        List<Index> studentIndexes = new ArrayList<>();
+        List<Index> excludedStudentIndexes = new ArrayList<>();
+
+        if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_CLASS_INDEX, PREFIX_LESSON_INDEX,
+                PREFIX_WEEK, PREFIX_PARTICIPATION_SCORE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MESSAGE_USAGE));
+        }
+
+        try {
+            moduleClassIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_CLASS_INDEX).get());
+            lessonIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_LESSON_INDEX).get());
+            for (String studentIndex : argMultimap.getAllValues(PREFIX_STUDENT_INDEX)) {
+                studentIndexes.add(ParserUtil.parseIndex(studentIndex));
+            }
+            for (String excludedStudentIndex : argMultimap.getAllValues(PREFIX_EXCLUDED_STUDENT_INDEX)) {
+                excludedStudentIndexes.add(ParserUtil.parseIndex(excludedStudentIndex));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE), pe);
+        }
+
+        Week week = ParserUtil.parseWeek(argMultimap.getValue(PREFIX_WEEK).get());
+        int participationScore =
+                ParserUtil.parseParticipationScore(argMultimap.getValue(PREFIX_PARTICIPATION_SCORE).get());
+
+        Attendance attendance = Attendance.of(participationScore);
+        return new RollCallCommand(moduleClassIndex, lessonIndex, week, attendance,
+                studentIndexes, excludedStudentIndexes);
+    }
+}
@@ -0,0 +1,34 @@
+package tutorspet.logic.parser.student;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import tutorspet.commons.util.FileUtil;
+import tutorspet.logic.commands.student.ImportStudentCommand;
+import tutorspet.logic.parser.Parser;
+import tutorspet.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportStudentCommand object.
+ */
+public class ImportStudentCommandParser implements Parser<ImportStudentCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportStudentCommand
+     * and returns an ImportStudentCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format.
+     */
+    public ImportStudentCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        String filePath = args.trim();
+        if (filePath.isEmpty() || !FileUtil.isValidPath(filePath)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportStudentCommand.MESSAGE_USAGE));
+        }
+
+        return new ImportStudentCommand(Paths.get(filePath));
+    }
+}
@@ -1,21 +1,16 @@
 package tutorspet.logic.util;
 
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_ATTENDANCE;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_WEEK;
 import static tutorspet.commons.core.Messages.MESSAGE_MISSING_STUDENT_ATTENDANCE;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
-import static tutorspet.logic.util.AttendanceRecordUtil.addAttendance;
-import static tutorspet.logic.util.AttendanceRecordUtil.removeAttendance;
-import static tutorspet.logic.util.AttendanceRecordUtil.setAttendance;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.attendance.Attendance;
-import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
 import tutorspet.model.student.Student;
@@ -25,40 +20,6 @@ import tutorspet.model.student.Student;
  */
 public class AttendanceRecordListUtil {
 
-    /**
-     * Returns an {@code AttendanceRecordList} where the {@code Attendance}s of the {@code studentToRemove}
-     * have been removed.
-     */
-    public static AttendanceRecordList removeStudentFromAttendanceRecordList(
-            AttendanceRecordList targetAttendanceRecordList, Student studentToRemove) {
-        requireAllNonNull(targetAttendanceRecordList, studentToRemove);
-
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        List<AttendanceRecord> updatedAttendanceRecords =
-                attendanceRecords.stream().map(attendanceRecord ->
-                        removeStudentFromAttendanceRecord(attendanceRecord, studentToRemove))
-                        .collect(Collectors.toUnmodifiableList());
-
-        return new AttendanceRecordList(updatedAttendanceRecords);
-    }
-
-    /**
-     * Returns an {@code AttendanceRecordList} where the {@code Attendance}s of all {@code Student}s have been removed.
-     */
-    public static AttendanceRecordList removeAllStudentsFromAttendanceRecordList(
-            AttendanceRecordList targetAttendanceRecordList) {
-        requireAllNonNull(targetAttendanceRecordList);
-
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        List<AttendanceRecord> updatedAttendanceRecords =
-                attendanceRecords.stream().map(attendanceRecord -> new AttendanceRecord())
-                        .collect(Collectors.toUnmodifiableList());
-
-        return new AttendanceRecordList(updatedAttendanceRecords);
-    }
-
     /**
      * Returns an {@code AttendanceRecord} where the {@code attendanceToAdd} has been added to the
      * {@code targetAttendanceRecord}.
@@ -76,12 +37,12 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                addAttendance(targetAttendanceRecord, targetStudent, attendanceToAdd);
+        if (targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_DUPLICATE_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.toBuilder()
+                .setAttendance(targetStudent.getUuid(), targetWeek, attendanceToAdd).build();
     }
 
     /**
@@ -102,12 +63,12 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                setAttendance(targetAttendanceRecord, targetStudent, attendanceToSet);
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.toBuilder()
+                .setAttendance(targetStudent.getUuid(), targetWeek, attendanceToSet).build();
     }
 
     /**
@@ -127,12 +88,11 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        AttendanceRecord editedWeekAttendanceRecord =
-                removeAttendance(targetAttendanceRecord, targetStudent);
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
+            throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
+        }
 
-        return replaceAttendanceRecordInList(targetAttendanceRecordList, targetWeek, editedWeekAttendanceRecord);
+        return targetAttendanceRecordList.toBuilder().removeAttendance(targetStudent.getUuid(), targetWeek).build();
     }
 
     /**
@@ -151,13 +111,11 @@ public class AttendanceRecordListUtil {
             throw new CommandException(MESSAGE_INVALID_WEEK);
         }
 
-        AttendanceRecord targetAttendanceRecord = targetAttendanceRecordList.getAttendanceRecord(targetWeek);
-
-        if (!targetAttendanceRecord.hasAttendance(targetStudent.getUuid())) {
+        if (!targetAttendanceRecordList.hasAttendance(targetStudent, targetWeek)) {
             throw new CommandException(MESSAGE_MISSING_STUDENT_ATTENDANCE);
         }
 
-        return targetAttendanceRecord.getAttendance(targetStudent.getUuid());
+        return targetAttendanceRecordList.getAttendance(targetStudent, targetWeek);
     }
 
     /**
@@ -202,49 +160,10 @@ public class AttendanceRecordListUtil {
         return weeksNotPresent;
     }
 
-    private static AttendanceRecordList replaceAttendanceRecordInList(AttendanceRecordList attendanceRecordList,
-                                                                      Week week,
-                                                                      AttendanceRecord attendanceRecordToSet) {
-        List<AttendanceRecord> modifiedAttendanceRecordList =
-                new ArrayList<>(attendanceRecordList.getAttendanceRecordList());
-        modifiedAttendanceRecordList.set(week.getZeroBasedWeekIndex(), attendanceRecordToSet);
-        return new AttendanceRecordList(modifiedAttendanceRecordList);
-    }
-
-    /**
-     * Returns an {@code AttendanceRecord} where the {@code Attendance} of the {@code studentToRemove} has been removed.
-     * If the {@code studentToRemove} does not exist in the {@code attendanceRecord}, the {@code attendanceRecord}
-     * remains unchanged.
-     */
-    private static AttendanceRecord removeStudentFromAttendanceRecord(
-            AttendanceRecord attendanceRecord, Student studentToRemove) {
-        if (!attendanceRecord.hasAttendance(studentToRemove.getUuid())) {
-            return attendanceRecord;
-        }
-
-        try {
-            return removeAttendance(attendanceRecord, studentToRemove);
-        } catch (CommandException e) {
-            return attendanceRecord;
-        }
-    }
-
     private static List<Optional<Attendance>> getAttendances(AttendanceRecordList targetAttendanceRecordList,
                                                              Student targetStudent) {
         requireAllNonNull(targetAttendanceRecordList, targetStudent);
 
-        List<Optional<Attendance>> studentRecords = new ArrayList<>();
-
-        List<AttendanceRecord> attendanceRecords = targetAttendanceRecordList.getAttendanceRecordList();
-
-        for (AttendanceRecord attendanceRecord : attendanceRecords) {
-            if (attendanceRecord.hasAttendance(targetStudent.getUuid())) {
-                studentRecords.add(Optional.of(attendanceRecord.getAttendance(targetStudent.getUuid())));
-            } else {
-                studentRecords.add(Optional.empty());
-            }
-        }
-
-        return Collections.unmodifiableList(studentRecords);
+        return targetAttendanceRecordList.getAttendances(targetStudent);
     }
 }
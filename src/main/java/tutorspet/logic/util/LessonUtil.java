@@ -6,9 +6,7 @@ import static tutorspet.logic.util.AttendanceRecordListUtil.editAttendanceInAtte
 import static tutorspet.logic.util.AttendanceRecordListUtil.getAbsentWeekFromAttendance;
 import static tutorspet.logic.util.AttendanceRecordListUtil.getAttendanceFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.getScoreFromAttendance;
-import static tutorspet.logic.util.AttendanceRecordListUtil.removeAllStudentsFromAttendanceRecordList;
 import static tutorspet.logic.util.AttendanceRecordListUtil.removeAttendanceFromAttendanceRecordList;
-import static tutorspet.logic.util.AttendanceRecordListUtil.removeStudentFromAttendanceRecordList;
 
 import java.time.LocalTime;
 import java.util.List;
@@ -28,46 +26,6 @@ import tutorspet.model.student.Student;
  */
 public class LessonUtil {
 
-    /**
-     * Returns a {@code Lesson} where the {@code Attendance}s of the {@code studentToRemove} have been removed.
-     */
-    public static Lesson deleteStudentFromLesson(Lesson targetLesson, Student studentToRemove) {
-        requireAllNonNull(targetLesson, studentToRemove);
-
-        AttendanceRecordList targetAttendanceRecordList = targetLesson.getAttendanceRecordList();
-
-        AttendanceRecordList updatedAttendanceRecordList = removeStudentFromAttendanceRecordList(
-                targetAttendanceRecordList, studentToRemove);
-
-        LocalTime startTime = targetLesson.getStartTime();
-        LocalTime endTime = targetLesson.getEndTime();
-        Day day = targetLesson.getDay();
-        NumberOfOccurrences numberOfOccurrences = targetLesson.getNumberOfOccurrences();
-        Venue venue = targetLesson.getVenue();
-
-        return new Lesson(startTime, endTime, day, numberOfOccurrences, venue, updatedAttendanceRecordList);
-    }
-
-    /**
-     * Returns a {@code Lesson} where all {@code Student}s have been removed.
-     */
-    public static Lesson deleteAllStudentsFromLesson(Lesson targetLesson) {
-        requireAllNonNull(targetLesson);
-
-        AttendanceRecordList targetAttendanceRecordList = targetLesson.getAttendanceRecordList();
-
-        AttendanceRecordList updatedAttendanceRecordList = removeAllStudentsFromAttendanceRecordList(
-                targetAttendanceRecordList);
-
-        LocalTime startTime = targetLesson.getStartTime();
-        LocalTime endTime = targetLesson.getEndTime();
-        Day day = targetLesson.getDay();
-        NumberOfOccurrences numberOfOccurrences = targetLesson.getNumberOfOccurrences();
-        Venue venue = targetLesson.getVenue();
-
-        return new Lesson(startTime, endTime, day, numberOfOccurrences, venue, updatedAttendanceRecordList);
-    }
-
     /**
      * Returns a {@code Lesson} where the {@code attendanceToAdd} has been added to the {@code targetLesson}.
      *
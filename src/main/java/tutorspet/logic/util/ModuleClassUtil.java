@@ -2,32 +2,31 @@ package tutorspet.logic.util;
 
 import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_LESSON;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_WEEK;
 import static tutorspet.commons.core.Messages.MESSAGE_MISSING_LINK;
 import static tutorspet.commons.core.Messages.MESSAGE_NO_LESSONS_IN_MODULE_CLASS;
 import static tutorspet.commons.core.Messages.MESSAGE_OVERLAP_LESSON;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.util.LessonUtil.addAttendanceToLesson;
-import static tutorspet.logic.util.LessonUtil.deleteAllStudentsFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteAttendanceFromLesson;
-import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.logic.util.LessonUtil.editAttendanceInLesson;
 import static tutorspet.logic.util.LessonUtil.getAbsentWeekFromLesson;
 import static tutorspet.logic.util.LessonUtil.getAttendanceFromLesson;
 import static tutorspet.logic.util.LessonUtil.getParticipationScoreFromLesson;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import tutorspet.commons.core.index.Index;
 import tutorspet.logic.commands.exceptions.CommandException;
 import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
 import tutorspet.model.components.name.Name;
 import tutorspet.model.lesson.Lesson;
@@ -48,15 +47,13 @@ public class ModuleClassUtil {
     public static ModuleClass deleteStudentFromModuleClass(ModuleClass targetModuleClass, Student studentToRemove) {
         requireAllNonNull(targetModuleClass, studentToRemove);
 
-        List<Lesson> lessons = targetModuleClass.getLessons();
-
-        List<Lesson> updatedLessons = lessons.stream().map(lesson ->
-                deleteStudentFromLesson(lesson, studentToRemove)).collect(Collectors.toUnmodifiableList());
-
-        Name moduleClassName = targetModuleClass.getName();
-        Set<UUID> studentsIds = new HashSet<>(targetModuleClass.getStudentUuids());
-        studentsIds.remove(studentToRemove.getUuid());
-        return new ModuleClass(moduleClassName, studentsIds, updatedLessons);
+        ModuleClass.Builder moduleClassBuilder = targetModuleClass.toBuilder()
+                .removeStudentUuid(studentToRemove.getUuid());
+        for (int i = 0; i < moduleClassBuilder.getLessonCount(); i++) {
+            moduleClassBuilder.getLessonBuilder(i).getAttendanceRecordListBuilder()
+                    .removeStudent(studentToRemove.getUuid());
+        }
+        return moduleClassBuilder.build();
     }
 
     /**
@@ -65,13 +62,11 @@ public class ModuleClassUtil {
     public static ModuleClass deleteAllStudentsFromModuleClass(ModuleClass targetModuleClass) {
         requireAllNonNull(targetModuleClass);
 
-        List<Lesson> lessons = targetModuleClass.getLessons();
-
-        List<Lesson> updatedLessons = lessons.stream().map(lesson ->
-                deleteAllStudentsFromLesson(lesson)).collect(Collectors.toUnmodifiableList());
-
-        Name moduleClassName = targetModuleClass.getName();
-        return new ModuleClass(moduleClassName, Collections.emptySet(), updatedLessons);
+        ModuleClass.Builder moduleClassBuilder = targetModuleClass.toBuilder().removeAllStudentUuids();
+        for (int i = 0; i < moduleClassBuilder.getLessonCount(); i++) {
+            moduleClassBuilder.getLessonBuilder(i).getAttendanceRecordListBuilder().removeAllStudents();
+        }
+        return moduleClassBuilder.build();
     }
 
     // lesson-related methods
@@ -277,6 +272,45 @@ public class ModuleClassUtil {
         return updateLessonInModuleClass(targetModuleClass, lessonIndex, modifiedLesson);
     }
 
+    /**
+     * Returns a {@code ModuleClass} where the {@code Attendance} of each student with a UUID in
+     * {@code targetStudentUuids} in the {@code targetWeek} in the {@code Lesson} at the {@code lessonIndex} in the
+     * {@code targetModuleClass} has been set to {@code attendanceToSet}, replacing any existing {@code Attendance}.
+     * The {@code ModuleClass} and {@code Lesson} are only rebuilt once, however many students there are.
+     *
+     * @throws CommandException if any of the following violations are found:
+     * - any of the students is not part of the {@code targetModuleClass}<br/>
+     * - the {@code lessonIndex} is invalid<br/>
+     * - the {@code targetWeek} does not exist in the {@code Lesson} as given by the {@code lessonIndex}<br/>
+     */
+    public static ModuleClass setAttendancesInModuleClass(ModuleClass targetModuleClass, Index lessonIndex,
+                                                          Week targetWeek, Collection<UUID> targetStudentUuids,
+                                                          Attendance attendanceToSet)
+            throws CommandException {
+        requireAllNonNull(targetModuleClass, lessonIndex, targetWeek, targetStudentUuids, attendanceToSet);
+
+        if (!targetModuleClass.getStudentUuids().containsAll(targetStudentUuids)) {
+            throw new CommandException(MESSAGE_MISSING_LINK);
+        }
+
+        if (lessonIndex.getOneBased() > targetModuleClass.getLessons().size()) {
+            throw new CommandException(MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
+        }
+
+        Lesson targetLesson = targetModuleClass.getLessons().get(lessonIndex.getZeroBased());
+        if (!targetLesson.getAttendanceRecordList().isWeekContained(targetWeek)) {
+            throw new CommandException(MESSAGE_INVALID_WEEK);
+        }
+
+        ModuleClass.Builder moduleClassBuilder = targetModuleClass.toBuilder();
+        AttendanceRecordList.Builder attendanceRecordListBuilder =
+                moduleClassBuilder.getLessonBuilder(lessonIndex.getZeroBased()).getAttendanceRecordListBuilder();
+        for (UUID targetStudentUuid : targetStudentUuids) {
+            attendanceRecordListBuilder.setAttendance(targetStudentUuid, targetWeek, attendanceToSet);
+        }
+        return moduleClassBuilder.build();
+    }
+
     /**
      * Returns the {@code Attendance} for the {@code targetStudent} in the {@code targetWeek} in the
      * {@code Lesson} at the {@code lessonIndex}.
@@ -367,11 +401,6 @@ public class ModuleClassUtil {
         assert lessonToEditIndex != null;
         assert lessonToUpdate != null;
 
-        Name moduleClassName = targetModuleClass.getName();
-        Set<UUID> studentsIds = targetModuleClass.getStudentUuids();
-        List<Lesson> lessons = new ArrayList<>(targetModuleClass.getLessons());
-        lessons.set(lessonToEditIndex.getZeroBased(), lessonToUpdate);
-
-        return new ModuleClass(moduleClassName, studentsIds, lessons);
+        return targetModuleClass.toBuilder().setLesson(lessonToEditIndex.getZeroBased(), lessonToUpdate).build();
     }
 }
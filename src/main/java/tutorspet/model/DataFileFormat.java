@@ -0,0 +1,13 @@
+package tutorspet.model;
+
+/**
+ * Represents the format in which the {@code TutorsPet} data file is stored.
+ */
+public enum DataFileFormat {
+    /** A human-readable JSON file. */
+    JSON,
+    /** A compact binary file that is much faster to read and write. */
+    BINARY,
+    /** A directory of JSON files, one for the students and one for each class, of which only changed ones are saved. */
+    SHARDED
+}
@@ -0,0 +1,11 @@
+package tutorspet.model;
+
+/**
+ * Represents how a {@code VersionedTutorsPet} records the states of the {@code TutorsPet}.
+ */
+public enum HistoryMode {
+    /** Records an immutable snapshot of the student and class lists for every state. */
+    SNAPSHOT,
+    /** Records only the changes made to the student and class lists since the previous state. */
+    DELTA
+}
@@ -1,6 +1,7 @@
 package tutorspet.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -54,6 +55,12 @@ public interface Model {
     /** Returns the TutorsPet */
     ReadOnlyTutorsPet getTutorsPet();
 
+    /**
+     * Returns the number of modifications made to the Tutor's Pet data.
+     * The data is unchanged if the count is unchanged.
+     */
+    long getModificationCount();
+
     /**
      * Commits the current Tutor's Pet state with the associated {@code commitMessage}.
      */
@@ -79,6 +86,14 @@ public interface Model {
      */
     String redo();
 
+    /**
+     * Restores the recorded state at {@code stateIndex} of the {@code StateRecords}, undoing or redoing every
+     * {@code Command} in between at once.
+     *
+     * @return the commit message of the restored state.
+     */
+    String gotoState(int stateIndex);
+
     /**
      * Returns a summary of all commands currently recorded by this {@code Model}.
      */
@@ -106,6 +121,12 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds all of the given students at once.
+     * {@code students} must not already exist in the application, and must be unique among themselves.
+     */
+    void addStudents(List<Student> students);
+
     /**
      * Replaces the given student {@code target} with {@code editedStudent}.
      * {@code target} must exist in the application.
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -35,7 +36,8 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with Tutor's Pet: " + tutorsPet + " and user prefs " + userPrefs);
 
-        versionedTutorsPet = new VersionedTutorsPet(tutorsPet);
+        versionedTutorsPet = new VersionedTutorsPet(tutorsPet, userPrefs.getHistoryMode(),
+                userPrefs.getHistoryLimit());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredStudents = new FilteredList<>(versionedTutorsPet.getStudentList());
         filteredModuleClasses = new FilteredList<>(versionedTutorsPet.getModuleClassList());
@@ -95,6 +97,11 @@ public class ModelManager implements Model {
         return versionedTutorsPet;
     }
 
+    @Override
+    public long getModificationCount() {
+        return versionedTutorsPet.getModificationCount();
+    }
+
     @Override
     public void commit(String commitMessage) {
         versionedTutorsPet.commit(commitMessage);
@@ -120,6 +127,11 @@ public class ModelManager implements Model {
         return versionedTutorsPet.redo();
     }
 
+    @Override
+    public String gotoState(int stateIndex) {
+        return versionedTutorsPet.gotoState(stateIndex);
+    }
+
     @Override
     public StateRecords viewStateRecords() {
         return versionedTutorsPet.viewStateRecords();
@@ -145,6 +157,12 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        versionedTutorsPet.addStudents(students);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
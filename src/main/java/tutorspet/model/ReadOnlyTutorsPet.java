@@ -1,6 +1,9 @@
 package tutorspet.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
+import tutorspet.commons.util.PersistentList;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 
@@ -20,4 +23,20 @@ public interface ReadOnlyTutorsPet {
      * This list will not contain any duplicate ModuleClasses.
      */
     ObservableList<ModuleClass> getModuleClassList();
+
+    /**
+     * Returns an immutable snapshot of the students list, which is not affected by later changes.
+     * Copies the list, unless the snapshot can share structure with it.
+     */
+    default List<Student> getStudentListSnapshot() {
+        return PersistentList.copyOf(getStudentList());
+    }
+
+    /**
+     * Returns an immutable snapshot of the ModuleClass list, which is not affected by later changes.
+     * Copies the list, unless the snapshot can share structure with it.
+     */
+    default List<ModuleClass> getModuleClassListSnapshot() {
+        return PersistentList.copyOf(getModuleClassList());
+    }
 }
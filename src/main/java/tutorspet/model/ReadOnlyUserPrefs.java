@@ -12,4 +12,14 @@ public interface ReadOnlyUserPrefs {
     GuiSettings getGuiSettings();
 
     Path getTutorsPetFilePath();
+
+    HistoryMode getHistoryMode();
+
+    int getHistoryLimit();
+
+    boolean isCompactDataFile();
+
+    DataFileFormat getDataFileFormat();
+
+    DataFileFormat getLastDataFileFormat();
 }
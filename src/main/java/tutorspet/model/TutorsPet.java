@@ -5,8 +5,11 @@ import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorspet.commons.util.ListChange;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.moduleclass.UniqueModuleClassList;
 import tutorspet.model.student.Student;
@@ -15,11 +18,13 @@ import tutorspet.model.student.UniqueStudentList;
 /**
  * Wraps all data at the application level.
  * Duplicates are not allowed (by .isSameStudent and .isSameModuleClass comparison).
+ * Every modification of the data increments a modification count, which can be used to check if the data has changed.
  */
 public class TutorsPet implements ReadOnlyTutorsPet {
 
     private final UniqueStudentList students;
     private final UniqueModuleClassList moduleClasses;
+    private long modificationCount = 0;
 
     /**
      * Creates a TutorsPet with no existing data.
@@ -44,6 +49,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * {@code students} must not contain duplicate students.
      */
     public void setStudents(List<Student> students) {
+        modificationCount++;
         this.students.setStudent(students);
     }
 
@@ -52,6 +58,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * {@code moduleClasses} must not contain duplicate classes.
      */
     public void setModuleClasses(List<ModuleClass> moduleClasses) {
+        modificationCount++;
         this.moduleClasses.setModuleClass(moduleClasses);
     }
 
@@ -61,6 +68,13 @@ public class TutorsPet implements ReadOnlyTutorsPet {
     public void resetData(ReadOnlyTutorsPet newData) {
         requireNonNull(newData);
 
+        if (newData instanceof TutorsPet) {
+            // shares structure with newData instead of copying it
+            setStudents(((TutorsPet) newData).getStudentListSnapshot());
+            setModuleClasses(((TutorsPet) newData).getModuleClassListSnapshot());
+            return;
+        }
+
         setStudents(newData.getStudentList());
         setModuleClasses(newData.getModuleClassList());
     }
@@ -99,9 +113,19 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * The student must not already exist in the application.
      */
     public void addStudent(Student student) {
+        modificationCount++;
         students.add(student);
     }
 
+    /**
+     * Adds all of {@code students} to the application at once.
+     * The students must not already exist in the application, and must be unique among themselves.
+     */
+    public void addStudents(List<Student> students) {
+        modificationCount++;
+        this.students.addAll(students);
+    }
+
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the application.
@@ -111,6 +135,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
     public void setStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
 
+        modificationCount++;
         students.setStudent(target, editedStudent);
     }
 
@@ -122,6 +147,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
     public void deleteStudent(Student student) {
         requireNonNull(student);
 
+        modificationCount++;
         moduleClasses.removeStudent(student);
         students.remove(student);
     }
@@ -131,6 +157,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * Also deletes all {@code Student UUID}s from each {@code ModuleClass}.
      */
     public void deleteAllStudents() {
+        modificationCount++;
         moduleClasses.removeAllStudents();
         students.setStudent(new UniqueStudentList());
     }
@@ -151,6 +178,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * The class must not already exist in the application.
      */
     public void addModuleClass(ModuleClass moduleClass) {
+        modificationCount++;
         moduleClasses.add(moduleClass);
     }
 
@@ -163,6 +191,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
     public void setModuleClass(ModuleClass target, ModuleClass editedModuleClass) {
         requireNonNull(editedModuleClass);
 
+        modificationCount++;
         moduleClasses.setModuleClass(target, editedModuleClass);
     }
 
@@ -171,6 +200,7 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * {@code moduleClass} must exist in the application.
      */
     public void deleteModuleClass(ModuleClass moduleClass) {
+        modificationCount++;
         moduleClasses.remove(moduleClass);
     }
 
@@ -178,9 +208,37 @@ public class TutorsPet implements ReadOnlyTutorsPet {
      * Deletes all {@code ModuleClass}es from the student manager.
      */
     public void deleteAllModuleClasses() {
+        modificationCount++;
         moduleClasses.setModuleClass(new UniqueModuleClassList());
     }
 
+    //// change tracking operations
+
+    /**
+     * Sets the listeners that are notified of every change to the student and class lists.
+     */
+    protected void setChangeListeners(Consumer<ListChange<Student>> studentChangeListener,
+            Consumer<ListChange<ModuleClass>> moduleClassChangeListener) {
+        students.setChangeListener(studentChangeListener);
+        moduleClasses.setChangeListener(moduleClassChangeListener);
+    }
+
+    /**
+     * Applies {@code change}, reported by the student list, to the student list.
+     */
+    protected void applyStudentChange(ListChange<Student> change) {
+        modificationCount++;
+        students.applyChange(change);
+    }
+
+    /**
+     * Applies {@code change}, reported by the class list, to the class list.
+     */
+    protected void applyModuleClassChange(ListChange<ModuleClass> change) {
+        modificationCount++;
+        moduleClasses.applyChange(change);
+    }
+
     //// util methods
 
     @Override
@@ -200,6 +258,71 @@ public class TutorsPet implements ReadOnlyTutorsPet {
         return moduleClasses.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an immutable snapshot of the student list, which is not affected by later changes to this
+     * {@code TutorsPet}. Takes constant time.
+     */
+    @Override
+    public List<Student> getStudentListSnapshot() {
+        return students.asSnapshot();
+    }
+
+    /**
+     * Returns an immutable snapshot of the class list, which is not affected by later changes to this
+     * {@code TutorsPet}. Takes constant time.
+     */
+    @Override
+    public List<ModuleClass> getModuleClassListSnapshot() {
+        return moduleClasses.asSnapshot();
+    }
+
+    /**
+     * Returns an immutable snapshot of this {@code TutorsPet}, which is not affected by later changes to this
+     * {@code TutorsPet}. Takes constant time, so the snapshot can be taken on the JavaFX thread and read elsewhere.
+     */
+    public ReadOnlyTutorsPet asSnapshot() {
+        List<Student> studentListSnapshot = getStudentListSnapshot();
+        List<ModuleClass> moduleClassListSnapshot = getModuleClassListSnapshot();
+        ObservableList<Student> studentList =
+                FXCollections.unmodifiableObservableList(FXCollections.observableList(studentListSnapshot));
+        ObservableList<ModuleClass> moduleClassList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(moduleClassListSnapshot));
+        return new ReadOnlyTutorsPet() {
+            @Override
+            public ObservableList<Student> getStudentList() {
+                return studentList;
+            }
+
+            @Override
+            public ObservableList<ModuleClass> getModuleClassList() {
+                return moduleClassList;
+            }
+
+            @Override
+            public List<Student> getStudentListSnapshot() {
+                return studentListSnapshot;
+            }
+
+            @Override
+            public List<ModuleClass> getModuleClassListSnapshot() {
+                return moduleClassListSnapshot;
+            }
+
+            @Override
+            public String toString() {
+                return studentList.size() + " students " + moduleClassList.size() + " classes";
+            }
+        };
+    }
+
+    /**
+     * Returns the number of modifications made to this {@code TutorsPet} since it was created.
+     * The count changes whenever the data may have changed, so an unchanged count means the data is unchanged.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
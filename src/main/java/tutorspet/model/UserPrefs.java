@@ -1,6 +1,9 @@
 package tutorspet.model;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.model.VersionedTutorsPet.DEFAULT_HISTORY_LIMIT;
+import static tutorspet.model.VersionedTutorsPet.MESSAGE_INVALID_HISTORY_LIMIT;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,6 +18,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path tutorsPetFilePath = Paths.get("data" , "tutorspet.json");
+    private HistoryMode historyMode = HistoryMode.SNAPSHOT;
+    private int historyLimit = DEFAULT_HISTORY_LIMIT;
+    private boolean isCompactDataFile = false;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private DataFileFormat lastDataFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +45,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTutorsPetFilePath(newUserPrefs.getTutorsPetFilePath());
+        setHistoryMode(newUserPrefs.getHistoryMode());
+        setHistoryLimit(newUserPrefs.getHistoryLimit());
+        setCompactDataFile(newUserPrefs.isCompactDataFile());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
+        setLastDataFileFormat(newUserPrefs.getLastDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -59,6 +72,54 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.tutorsPetFilePath = tutorsPetFilePath;
     }
 
+    public HistoryMode getHistoryMode() {
+        return historyMode;
+    }
+
+    public void setHistoryMode(HistoryMode historyMode) {
+        requireNonNull(historyMode);
+
+        this.historyMode = historyMode;
+    }
+
+    public int getHistoryLimit() {
+        return historyLimit;
+    }
+
+    public void setHistoryLimit(int historyLimit) {
+        checkArgument(historyLimit > 0, MESSAGE_INVALID_HISTORY_LIMIT);
+
+        this.historyLimit = historyLimit;
+    }
+
+    public boolean isCompactDataFile() {
+        return isCompactDataFile;
+    }
+
+    public void setCompactDataFile(boolean isCompactDataFile) {
+        this.isCompactDataFile = isCompactDataFile;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public DataFileFormat getLastDataFileFormat() {
+        return lastDataFileFormat;
+    }
+
+    public void setLastDataFileFormat(DataFileFormat lastDataFileFormat) {
+        requireNonNull(lastDataFileFormat);
+
+        this.lastDataFileFormat = lastDataFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -71,12 +132,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && tutorsPetFilePath.equals(o.tutorsPetFilePath);
+                && tutorsPetFilePath.equals(o.tutorsPetFilePath)
+                && historyMode.equals(o.historyMode)
+                && historyLimit == o.historyLimit
+                && isCompactDataFile == o.isCompactDataFile
+                && dataFileFormat.equals(o.dataFileFormat)
+                && lastDataFileFormat.equals(o.lastDataFileFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, tutorsPetFilePath);
+        return Objects.hash(guiSettings, tutorsPetFilePath, historyMode, historyLimit, isCompactDataFile,
+                dataFileFormat, lastDataFileFormat);
     }
 
     @Override
@@ -84,6 +151,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + tutorsPetFilePath);
+        sb.append("\nHistory mode : " + historyMode);
+        sb.append("\nHistory limit : " + historyLimit);
+        sb.append("\nCompact data file : " + isCompactDataFile);
+        sb.append("\nData file format : " + dataFileFormat);
+        sb.append("\nLast data file format : " + lastDataFileFormat);
         return sb.toString();
     }
 }
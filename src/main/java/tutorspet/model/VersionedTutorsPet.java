@@ -1,32 +1,82 @@
 package tutorspet.model;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import tutorspet.commons.util.ListChange;
+import tutorspet.commons.util.PersistentList;
 import tutorspet.model.exception.RedoStateException;
 import tutorspet.model.exception.UndoStateException;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
 
+/**
+ * A {@code TutorsPet} that records its committed states so that commands can be undone and redone.
+ * In {@link HistoryMode#SNAPSHOT} mode, every state holds a snapshot of the student and class lists. In
+ * {@link HistoryMode#DELTA} mode, every state holds only the list changes made since the previous state, which are
+ * applied in reverse to undo, and applied again to redo.
+ * At most {@code historyLimit} commands can be undone; the oldest states are discarded when the limit is exceeded,
+ * so that the memory used by the history does not grow with the length of the session.
+ */
 public class VersionedTutorsPet extends TutorsPet {
 
     public static final String INITIAL_COMMIT_MESSAGE = "Loaded save data.";
+    public static final int DEFAULT_HISTORY_LIMIT = 100;
+    public static final String MESSAGE_INVALID_HISTORY_LIMIT = "History limit must be a positive integer.";
 
+    private final HistoryMode historyMode;
+    private final int historyLimit;
     private List<TutorsPetState> tutorsPetStateList;
     private int statePointer;
+    private List<ListChange<Student>> pendingStudentChanges = new ArrayList<>();
+    private List<ListChange<ModuleClass>> pendingModuleClassChanges = new ArrayList<>();
+    private boolean isApplyingChanges = false;
 
     /**
-     * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}.
+     * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}, which records its states
+     * as snapshots.
      */
     public VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied) {
+        this(toBeCopied, HistoryMode.SNAPSHOT);
+    }
+
+    /**
+     * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}, which records its states
+     * according to {@code historyMode}.
+     */
+    public VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied, HistoryMode historyMode) {
+        this(toBeCopied, historyMode, DEFAULT_HISTORY_LIMIT);
+    }
+
+    /**
+     * Creates a {@code VersionedTutorsPet} using the Students in the {@code toBeCopied}, which records its states
+     * according to {@code historyMode} and allows at most {@code historyLimit} commands to be undone.
+     *
+     * @throws IllegalArgumentException if {@code historyLimit} is not positive.
+     */
+    public VersionedTutorsPet(ReadOnlyTutorsPet toBeCopied, HistoryMode historyMode, int historyLimit) {
         super(toBeCopied);
+        requireNonNull(historyMode);
+        checkArgument(historyLimit > 0, MESSAGE_INVALID_HISTORY_LIMIT);
 
+        this.historyMode = historyMode;
+        this.historyLimit = historyLimit;
         tutorsPetStateList = new ArrayList<>();
-        TutorsPetState initialState = new TutorsPetState(INITIAL_COMMIT_MESSAGE, this);
+        TutorsPetState initialState = historyMode == HistoryMode.DELTA
+                ? new TutorsPetState(INITIAL_COMMIT_MESSAGE, List.of(), List.of())
+                : new TutorsPetState(INITIAL_COMMIT_MESSAGE, this);
         tutorsPetStateList.add(initialState);
         statePointer = 0;
+
+        if (historyMode == HistoryMode.DELTA) {
+            setChangeListeners(this::recordStudentChange, this::recordModuleClassChange);
+        }
     }
 
     /**
@@ -38,9 +88,17 @@ public class VersionedTutorsPet extends TutorsPet {
         requireNonNull(commitMessage);
 
         pruneStates();
-        TutorsPetState state = new TutorsPetState(commitMessage, this);
+        TutorsPetState state;
+        if (historyMode == HistoryMode.DELTA) {
+            state = new TutorsPetState(commitMessage, pendingStudentChanges, pendingModuleClassChanges);
+            pendingStudentChanges = new ArrayList<>();
+            pendingModuleClassChanges = new ArrayList<>();
+        } else {
+            state = new TutorsPetState(commitMessage, this);
+        }
         tutorsPetStateList.add(state);
         statePointer++;
+        evictStates();
     }
 
     /**
@@ -55,8 +113,12 @@ public class VersionedTutorsPet extends TutorsPet {
         }
 
         TutorsPetState currentState = tutorsPetStateList.get(statePointer);
-        TutorsPetState targetState = tutorsPetStateList.get(statePointer - 1);
-        resetData(targetState.stateSnapshot);
+        if (historyMode == HistoryMode.DELTA) {
+            revertPendingChanges();
+            revertChanges(currentState.studentChanges, currentState.moduleClassChanges);
+        } else {
+            restoreState(tutorsPetStateList.get(statePointer - 1));
+        }
         statePointer--;
         return currentState.commitMessage;
     }
@@ -73,15 +135,154 @@ public class VersionedTutorsPet extends TutorsPet {
         }
 
         TutorsPetState targetState = tutorsPetStateList.get(statePointer + 1);
-        resetData(targetState.stateSnapshot);
+        if (historyMode == HistoryMode.DELTA) {
+            revertPendingChanges();
+            applyChanges(targetState.studentChanges, targetState.moduleClassChanges);
+        } else {
+            restoreState(targetState);
+        }
         statePointer++;
         return targetState.commitMessage;
     }
 
+    /**
+     * Restores the recorded state at {@code stateIndex}, where the oldest recorded state is at index 0.
+     * All the {@code Command}s in between are undone or redone with a single update of the student and class lists.
+     *
+     * @return the commit message of the restored state.
+     * @throws IndexOutOfBoundsException if there is no recorded state at {@code stateIndex}.
+     */
+    public String gotoState(int stateIndex) throws IndexOutOfBoundsException {
+        Objects.checkIndex(stateIndex, tutorsPetStateList.size());
+
+        TutorsPetState targetState = tutorsPetStateList.get(stateIndex);
+        if (historyMode == HistoryMode.DELTA) {
+            restoreDeltaState(stateIndex);
+        } else {
+            restoreState(targetState);
+        }
+        statePointer = stateIndex;
+        return targetState.commitMessage;
+    }
+
+    /**
+     * Replays the changes between the current data and the state at {@code stateIndex} on snapshots of the lists,
+     * then replaces the contents of the lists with the results.
+     */
+    private void restoreDeltaState(int stateIndex) {
+        PersistentList<Student> students = PersistentList.copyOf(getStudentListSnapshot());
+        PersistentList<ModuleClass> moduleClasses = PersistentList.copyOf(getModuleClassListSnapshot());
+        students = replayInverses(students, pendingStudentChanges);
+        moduleClasses = replayInverses(moduleClasses, pendingModuleClassChanges);
+        for (int i = statePointer; i > stateIndex; i--) {
+            students = replayInverses(students, tutorsPetStateList.get(i).studentChanges);
+            moduleClasses = replayInverses(moduleClasses, tutorsPetStateList.get(i).moduleClassChanges);
+        }
+        for (int i = statePointer + 1; i <= stateIndex; i++) {
+            students = replay(students, tutorsPetStateList.get(i).studentChanges);
+            moduleClasses = replay(moduleClasses, tutorsPetStateList.get(i).moduleClassChanges);
+        }
+
+        isApplyingChanges = true;
+        try {
+            setStudents(students);
+            setModuleClasses(moduleClasses);
+        } finally {
+            isApplyingChanges = false;
+        }
+        pendingStudentChanges = new ArrayList<>();
+        pendingModuleClassChanges = new ArrayList<>();
+    }
+
+    private static <T> PersistentList<T> replay(PersistentList<T> list, List<ListChange<T>> changes) {
+        for (ListChange<T> change : changes) {
+            list = change.applyTo(list);
+        }
+        return list;
+    }
+
+    private static <T> PersistentList<T> replayInverses(PersistentList<T> list, List<ListChange<T>> changes) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            list = changes.get(i).inverse().applyTo(list);
+        }
+        return list;
+    }
+
+    private void restoreState(TutorsPetState state) {
+        setStudents(state.students);
+        setModuleClasses(state.moduleClasses);
+    }
+
+    private void recordStudentChange(ListChange<Student> change) {
+        if (!isApplyingChanges) {
+            pendingStudentChanges.add(change);
+        }
+    }
+
+    private void recordModuleClassChange(ListChange<ModuleClass> change) {
+        if (!isApplyingChanges) {
+            pendingModuleClassChanges.add(change);
+        }
+    }
+
+    /**
+     * Reverts the changes made since the last commit, so that the data matches the current state.
+     */
+    private void revertPendingChanges() {
+        revertChanges(pendingStudentChanges, pendingModuleClassChanges);
+        pendingStudentChanges = new ArrayList<>();
+        pendingModuleClassChanges = new ArrayList<>();
+    }
+
+    private void applyChanges(List<ListChange<Student>> studentChanges,
+            List<ListChange<ModuleClass>> moduleClassChanges) {
+        isApplyingChanges = true;
+        try {
+            studentChanges.forEach(this::applyStudentChange);
+            moduleClassChanges.forEach(this::applyModuleClassChange);
+        } finally {
+            isApplyingChanges = false;
+        }
+    }
+
+    private void revertChanges(List<ListChange<Student>> studentChanges,
+            List<ListChange<ModuleClass>> moduleClassChanges) {
+        isApplyingChanges = true;
+        try {
+            for (int i = studentChanges.size() - 1; i >= 0; i--) {
+                applyStudentChange(studentChanges.get(i).inverse());
+            }
+            for (int i = moduleClassChanges.size() - 1; i >= 0; i--) {
+                applyModuleClassChange(moduleClassChanges.get(i).inverse());
+            }
+        } finally {
+            isApplyingChanges = false;
+        }
+    }
+
     private void pruneStates() {
         tutorsPetStateList.subList(statePointer + 1, tutorsPetStateList.size()).clear();
     }
 
+    /**
+     * Discards the oldest states until at most {@code historyLimit} commands can be undone.
+     * The oldest remaining state becomes the state that cannot be undone.
+     */
+    private void evictStates() {
+        int excessStateCount = tutorsPetStateList.size() - 1 - historyLimit;
+        if (excessStateCount <= 0) {
+            return;
+        }
+
+        tutorsPetStateList.subList(0, excessStateCount).clear();
+        statePointer -= excessStateCount;
+        if (historyMode == HistoryMode.DELTA) {
+            // the changes leading to the oldest remaining state can no longer be undone
+            TutorsPetState oldestState = tutorsPetStateList.get(0);
+            tutorsPetStateList.set(0, new TutorsPetState(oldestState.commitMessage, List.of(), List.of()));
+        }
+    }
+
     /**
      * Returns true if there is a {@code Command} that can be undone.
      */
@@ -108,28 +309,58 @@ public class VersionedTutorsPet extends TutorsPet {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof VersionedTutorsPet // instanceof handles nulls
+                && ((VersionedTutorsPet) other).historyMode == historyMode
+                && ((VersionedTutorsPet) other).historyLimit == historyLimit
                 && ((VersionedTutorsPet) other).statePointer == statePointer
                 && ((VersionedTutorsPet) other).tutorsPetStateList.equals(tutorsPetStateList)
                 && super.equals(other));
     }
 
+    /**
+     * A recorded state of the {@code TutorsPet}.
+     * A snapshot state holds immutable snapshots of the student and class lists that share structure with the other
+     * recorded states, so recording a state takes constant time and memory.
+     * A delta state holds only the changes to the student and class lists since the previous state.
+     */
     private class TutorsPetState {
 
         private String commitMessage;
-        private ReadOnlyTutorsPet stateSnapshot;
+        private List<Student> students;
+        private List<ModuleClass> moduleClasses;
+        private List<ListChange<Student>> studentChanges;
+        private List<ListChange<ModuleClass>> moduleClassChanges;
+
+        /**
+         * Creates a snapshot state of {@code tutorsPet}.
+         */
+        TutorsPetState(String commitMessage, TutorsPet tutorsPet) {
+            requireAllNonNull(commitMessage, tutorsPet);
+
+            this.commitMessage = commitMessage;
+            this.students = tutorsPet.getStudentListSnapshot();
+            this.moduleClasses = tutorsPet.getModuleClassListSnapshot();
+        }
 
-        TutorsPetState(String commitMessage, ReadOnlyTutorsPet stateSnapshot) {
-            requireAllNonNull(commitMessage, stateSnapshot);
+        /**
+         * Creates a delta state that is reached from the previous state by applying the given changes in order.
+         */
+        TutorsPetState(String commitMessage, List<ListChange<Student>> studentChanges,
+                List<ListChange<ModuleClass>> moduleClassChanges) {
+            requireAllNonNull(commitMessage, studentChanges, moduleClassChanges);
 
             this.commitMessage = commitMessage;
-            this.stateSnapshot = new TutorsPet(stateSnapshot);
+            this.studentChanges = studentChanges;
+            this.moduleClassChanges = moduleClassChanges;
         }
 
         @Override
         public boolean equals(Object other) {
             return other == this // short circuit if same object
                     || (other instanceof TutorsPetState // instanceof handles nulls
-                    && ((TutorsPetState) other).stateSnapshot.equals(stateSnapshot)
+                    && Objects.equals(((TutorsPetState) other).students, students)
+                    && Objects.equals(((TutorsPetState) other).moduleClasses, moduleClasses)
+                    && Objects.equals(((TutorsPetState) other).studentChanges, studentChanges)
+                    && Objects.equals(((TutorsPetState) other).moduleClassChanges, moduleClassChanges)
                     && ((TutorsPetState) other).commitMessage.equals(commitMessage));
         }
     }
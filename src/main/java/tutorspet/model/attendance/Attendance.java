@@ -14,6 +14,10 @@ public class Attendance {
     public static final int UPPER_BOUND = 100;
     public static final String MESSAGE_CONSTRAINTS =
             String.format("Participation scores must be a whole number between %d to %d.", LOWER_BOUND, UPPER_BOUND);
+
+    // there are only a few valid participation scores, so every attendance can share one of these instances
+    private static final Attendance[] ATTENDANCES = createAttendances();
+
     private final int participationScore;
 
     /**
@@ -26,6 +30,24 @@ public class Attendance {
         this.participationScore = participationScore;
     }
 
+    /**
+     * Returns the shared {@code Attendance} with the given participation score.
+     * Participation score is checked to be valid.
+     */
+    public static Attendance of(int participationScore) {
+        checkArgument(isValidParticipationScore(participationScore), MESSAGE_CONSTRAINTS);
+
+        return ATTENDANCES[participationScore - LOWER_BOUND];
+    }
+
+    private static Attendance[] createAttendances() {
+        Attendance[] attendances = new Attendance[UPPER_BOUND - LOWER_BOUND + 1];
+        for (int i = 0; i < attendances.length; i++) {
+            attendances[i] = new Attendance(LOWER_BOUND + i);
+        }
+        return attendances;
+    }
+
     /**
      * Returns true if the given score is an integer between 0 and 100.
      */
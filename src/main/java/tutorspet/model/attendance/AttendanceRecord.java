@@ -1,12 +1,15 @@
 package tutorspet.model.attendance;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.AppUtil.checkArgument;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 
@@ -16,10 +19,14 @@ import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
  */
 public class AttendanceRecord {
 
-    private final Map<UUID, Attendance> attendances;
+    // The attendances of a record created by #of(UUID[], int[]) are kept in these arrays, which take much less memory
+    // than a map, until the map is first needed. The UUID of the i-th student is stored in two longs from 2 * i.
+    private final long[] studentUuidBits;
+    private final byte[] participationScores;
+    private volatile Map<UUID, Attendance> attendances;
 
     public AttendanceRecord() {
-        this.attendances = new HashMap<>();
+        this(new HashMap<>());
     }
 
     /**
@@ -29,11 +36,57 @@ public class AttendanceRecord {
     public AttendanceRecord(Map<UUID, Attendance> attendances) {
         requireNonNull(attendances);
 
+        this.studentUuidBits = null;
+        this.participationScores = null;
         this.attendances = attendances;
     }
 
+    private AttendanceRecord(long[] studentUuidBits, byte[] participationScores) {
+        this.studentUuidBits = studentUuidBits;
+        this.participationScores = participationScores;
+    }
+
+    /**
+     * Returns an {@code AttendanceRecord} in which the student with {@code studentUuids[i]} has a participation
+     * score of {@code participationScores[i]}.
+     * The attendances are kept in a compact form until they are first needed, so that loading many records that are
+     * never used takes little time and memory.
+     * Requires the UUIDs to be distinct and the participation scores to be valid.
+     */
+    public static AttendanceRecord of(UUID[] studentUuids, int[] participationScores) {
+        requireAllNonNull(studentUuids, participationScores);
+        checkArgument(studentUuids.length == participationScores.length);
+
+        long[] studentUuidBits = new long[2 * studentUuids.length];
+        byte[] scores = new byte[participationScores.length];
+        for (int i = 0; i < studentUuids.length; i++) {
+            checkArgument(Attendance.isValidParticipationScore(participationScores[i]), Attendance.MESSAGE_CONSTRAINTS);
+            studentUuidBits[2 * i] = studentUuids[i].getMostSignificantBits();
+            studentUuidBits[2 * i + 1] = studentUuids[i].getLeastSignificantBits();
+            scores[i] = (byte) participationScores[i];
+        }
+        return new AttendanceRecord(studentUuidBits, scores);
+    }
+
     public Map<UUID, Attendance> getAttendanceRecord() {
-        return Collections.unmodifiableMap(attendances);
+        return Collections.unmodifiableMap(getAttendances());
+    }
+
+    /**
+     * Performs {@code action} for the {@code Attendance} of each student in this record.
+     * Unlike {@link #getAttendanceRecord()}, this does not build the attendance map if it has not been built.
+     */
+    public void forEachAttendance(BiConsumer<UUID, Attendance> action) {
+        requireNonNull(action);
+
+        Map<UUID, Attendance> builtAttendances = attendances;
+        if (builtAttendances != null) {
+            builtAttendances.forEach(action);
+            return;
+        }
+        for (int i = 0; i < participationScores.length; i++) {
+            action.accept(getStudentUuid(i), Attendance.of(participationScores[i]));
+        }
     }
 
     /**
@@ -44,29 +97,50 @@ public class AttendanceRecord {
     public Attendance getAttendance(UUID uuid) throws AttendanceNotFoundException {
         requireNonNull(uuid);
 
-        if (!attendances.containsKey(uuid)) {
+        Attendance attendance = getAttendances().get(uuid);
+        if (attendance == null) {
             throw new AttendanceNotFoundException();
         }
 
-        return attendances.get(uuid);
+        return attendance;
     }
 
     /**
      * Returns true if the {@code AttendanceRecord} contains the given {@code Student UUID}.
      */
     public boolean hasAttendance(UUID uuid) {
-        return attendances.containsKey(uuid);
+        return getAttendances().containsKey(uuid);
+    }
+
+    /**
+     * Returns the attendance map, building it from the compact form the first time it is needed.
+     * The map may be built more than once if this is called from several threads at once, which is harmless.
+     */
+    private Map<UUID, Attendance> getAttendances() {
+        Map<UUID, Attendance> builtAttendances = attendances;
+        if (builtAttendances == null) {
+            builtAttendances = new HashMap<>();
+            for (int i = 0; i < participationScores.length; i++) {
+                builtAttendances.put(getStudentUuid(i), Attendance.of(participationScores[i]));
+            }
+            attendances = builtAttendances;
+        }
+        return builtAttendances;
+    }
+
+    private UUID getStudentUuid(int index) {
+        return new UUID(studentUuidBits[2 * index], studentUuidBits[2 * index + 1]);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof AttendanceRecord // instanceof handles nulls
-                && ((AttendanceRecord) other).attendances.equals(attendances));
+                && ((AttendanceRecord) other).getAttendances().equals(getAttendances()));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(attendances);
+        return Objects.hash(getAttendances());
     }
 }
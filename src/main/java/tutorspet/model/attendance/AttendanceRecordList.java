@@ -1,12 +1,20 @@
 package tutorspet.model.attendance;
 
 import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import tutorspet.model.attendance.exceptions.AttendanceNotFoundException;
 import tutorspet.model.attendance.exceptions.InvalidWeekException;
@@ -20,14 +28,29 @@ import tutorspet.model.student.Student;
  */
 public class AttendanceRecordList {
 
-    private final List<AttendanceRecord> recordList;
+    // Participation scores fit in a byte, so a missing attendance is marked with a negative score.
+    private static final byte NO_ATTENDANCE = -1;
+
+    private final int numberOfWeeks;
+
+    // The UUIDs of the students with any attendance, sorted so that a student's ordinal is found by binary search.
+    // The UUID of the i-th student is stored in two longs from 2 * i.
+    private final long[] studentUuidBits;
+
+    // The participation scores of each student, one row of denseWeekCount weeks per student in ordinal order.
+    // Weeks from denseWeekCount onwards, such as future weeks, have no attendances and are not stored.
+    private final int denseWeekCount;
+    private final byte[] participationScores;
 
     /**
      * Constructor method.
-     * Each element in the list is initialized to an empty {@link AttendanceRecord}.
+     * Creates an empty attendance matrix of {@code numberOfOccurrences} weeks, in which no student has an attendance.
      */
     public AttendanceRecordList(NumberOfOccurrences numberOfOccurrences) {
-        this.recordList = Collections.nCopies(numberOfOccurrences.getNumberOfOccurrences(), new AttendanceRecord());
+        this.numberOfWeeks = numberOfOccurrences.getNumberOfOccurrences();
+        this.studentUuidBits = new long[0];
+        this.denseWeekCount = 0;
+        this.participationScores = new byte[0];
     }
 
     /**
@@ -35,20 +58,94 @@ public class AttendanceRecordList {
      * Requires {@code recordList} to be non null. Also converts recordList to fixed size.
      */
     public AttendanceRecordList(List<AttendanceRecord> recordList) {
+        this(recordList.size(), toRows(recordList));
+    }
+
+    /**
+     * Creates an {@code AttendanceRecordList} of {@code numberOfWeeks} weeks in which each student in {@code rows} has
+     * the participation scores in its row, which has a score for each week.
+     * Rows without any attendance are left out.
+     */
+    private AttendanceRecordList(int numberOfWeeks, SortedMap<UUID, byte[]> rows) {
+        int studentCount = 0;
+        int lastAttendedWeekIndex = -1;
+        for (byte[] row : rows.values()) {
+            int rowLastAttendedWeekIndex = getLastAttendedWeekIndex(row);
+            if (rowLastAttendedWeekIndex >= 0) {
+                studentCount++;
+                lastAttendedWeekIndex = Math.max(lastAttendedWeekIndex, rowLastAttendedWeekIndex);
+            }
+        }
+
+        this.numberOfWeeks = numberOfWeeks;
+        this.studentUuidBits = new long[2 * studentCount];
+        this.denseWeekCount = lastAttendedWeekIndex + 1;
+        this.participationScores = new byte[studentCount * denseWeekCount];
+        int ordinal = 0;
+        for (Map.Entry<UUID, byte[]> row : rows.entrySet()) {
+            if (getLastAttendedWeekIndex(row.getValue()) < 0) {
+                continue;
+            }
+            studentUuidBits[2 * ordinal] = row.getKey().getMostSignificantBits();
+            studentUuidBits[2 * ordinal + 1] = row.getKey().getLeastSignificantBits();
+            System.arraycopy(row.getValue(), 0, participationScores, ordinal * denseWeekCount, denseWeekCount);
+            ordinal++;
+        }
+    }
+
+    /**
+     * Returns the participation scores of each student in {@code recordList}, with a score for each week.
+     */
+    private static SortedMap<UUID, byte[]> toRows(List<AttendanceRecord> recordList) {
         requireNonNull(recordList);
 
-        int size = recordList.size();
-        this.recordList = Arrays.asList(recordList.toArray(new AttendanceRecord[size]));
+        SortedMap<UUID, byte[]> rows = new TreeMap<>();
+        for (int i = 0; i < recordList.size(); i++) {
+            int weekIndex = i;
+            recordList.get(i).forEachAttendance((uuid, attendance) ->
+                    rows.computeIfAbsent(uuid, unused -> createEmptyRow(recordList.size()))[weekIndex] =
+                            (byte) attendance.getParticipationScore());
+        }
+        return rows;
+    }
+
+    private static byte[] createEmptyRow(int numberOfWeeks) {
+        byte[] row = new byte[numberOfWeeks];
+        Arrays.fill(row, NO_ATTENDANCE);
+        return row;
+    }
+
+    private static int getLastAttendedWeekIndex(byte[] row) {
+        int weekIndex = row.length - 1;
+        while (weekIndex >= 0 && row[weekIndex] == NO_ATTENDANCE) {
+            weekIndex--;
+        }
+        return weekIndex;
+    }
+
+    /**
+     * Returns a {@code Builder} that starts with the attendances of this {@code AttendanceRecordList}.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
     }
 
     /**
      * Returns true if week number is less than the total number of occurrences.
      */
     public boolean isWeekContained(Week week) {
-        return week.getZeroBasedWeekIndex() < recordList.size();
+        return week.getZeroBasedWeekIndex() < numberOfWeeks;
+    }
+
+    public int getNumberOfWeeks() {
+        return numberOfWeeks;
     }
 
     public List<AttendanceRecord> getAttendanceRecordList() {
+        List<AttendanceRecord> recordList = new ArrayList<>(numberOfWeeks);
+        for (int i = 0; i < numberOfWeeks; i++) {
+            recordList.add(getAttendanceRecord(i));
+        }
         return Collections.unmodifiableList(recordList);
     }
 
@@ -63,8 +160,32 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        UUID studentUuid = student.getUuid();
-        return recordList.get(week.getZeroBasedWeekIndex()).getAttendance(studentUuid);
+        int participationScore = getParticipationScore(student.getUuid(), week.getZeroBasedWeekIndex());
+        if (participationScore == NO_ATTENDANCE) {
+            throw new AttendanceNotFoundException();
+        }
+
+        return Attendance.of(participationScore);
+    }
+
+    /**
+     * Returns the {@code Attendance} of a {@code Student} in each week, in week order.
+     * The attendance of a week is empty if the {@code Student} has no attendance in that week.
+     */
+    public List<Optional<Attendance>> getAttendances(Student student) {
+        requireNonNull(student);
+
+        int ordinal = getOrdinal(student.getUuid());
+        List<Optional<Attendance>> attendances = new ArrayList<>(numberOfWeeks);
+        for (int i = 0; i < numberOfWeeks; i++) {
+            int participationScore = ordinal < 0 || i >= denseWeekCount
+                    ? NO_ATTENDANCE
+                    : participationScores[ordinal * denseWeekCount + i];
+            attendances.add(participationScore == NO_ATTENDANCE
+                    ? Optional.empty()
+                    : Optional.of(Attendance.of(participationScore)));
+        }
+        return Collections.unmodifiableList(attendances);
     }
 
     /**
@@ -75,7 +196,47 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        return recordList.get(week.getZeroBasedWeekIndex());
+        return getAttendanceRecord(week.getZeroBasedWeekIndex());
+    }
+
+    /**
+     * Performs {@code action} for the {@code Attendance} of each student in a particular {@code Week}, in the same
+     * order as the {@code AttendanceRecord} of that {@code Week}.
+     * Unlike {@link #getAttendanceRecord(Week)}, this reads the attendances without creating an
+     * {@code AttendanceRecord}.
+     */
+    public void forEachAttendance(Week week, BiConsumer<UUID, Attendance> action) throws InvalidWeekException {
+        requireNonNull(action);
+
+        if (!isWeekContained(week)) {
+            throw new InvalidWeekException();
+        }
+
+        int weekIndex = week.getZeroBasedWeekIndex();
+        if (weekIndex >= denseWeekCount) {
+            return;
+        }
+        int studentCount = studentUuidBits.length / 2;
+        for (int i = 0; i < studentCount; i++) {
+            byte participationScore = participationScores[i * denseWeekCount + weekIndex];
+            if (participationScore != NO_ATTENDANCE) {
+                action.accept(new UUID(studentUuidBits[2 * i], studentUuidBits[2 * i + 1]),
+                        Attendance.of(participationScore));
+            }
+        }
+    }
+
+    /**
+     * Performs {@code action} for the UUID of each student with an {@code Attendance} in any week, in the same order
+     * as {@link UUID#compareTo(UUID)}.
+     * Each student is visited once, however many weeks the student has attended.
+     */
+    public void forEachStudentUuid(Consumer<UUID> action) {
+        requireNonNull(action);
+
+        for (int i = 0; i < studentUuidBits.length / 2; i++) {
+            action.accept(new UUID(studentUuidBits[2 * i], studentUuidBits[2 * i + 1]));
+        }
     }
 
     /**
@@ -89,20 +250,240 @@ public class AttendanceRecordList {
             throw new InvalidWeekException();
         }
 
-        AttendanceRecord targetAttendanceWeek = recordList.get(week.getZeroBasedWeekIndex());
-        UUID targetStudentUuid = student.getUuid();
-        return targetAttendanceWeek.hasAttendance(targetStudentUuid);
+        return getParticipationScore(student.getUuid(), week.getZeroBasedWeekIndex()) != NO_ATTENDANCE;
+    }
+
+    /**
+     * Returns the {@code AttendanceRecord} of the week with {@code weekIndex}, which must be a valid week.
+     */
+    private AttendanceRecord getAttendanceRecord(int weekIndex) {
+        if (weekIndex >= denseWeekCount) {
+            return new AttendanceRecord();
+        }
+
+        int studentCount = studentUuidBits.length / 2;
+        int attendanceCount = 0;
+        for (int i = 0; i < studentCount; i++) {
+            if (participationScores[i * denseWeekCount + weekIndex] != NO_ATTENDANCE) {
+                attendanceCount++;
+            }
+        }
+
+        UUID[] studentUuids = new UUID[attendanceCount];
+        int[] weekParticipationScores = new int[attendanceCount];
+        int attendanceIndex = 0;
+        for (int i = 0; i < studentCount; i++) {
+            byte participationScore = participationScores[i * denseWeekCount + weekIndex];
+            if (participationScore != NO_ATTENDANCE) {
+                studentUuids[attendanceIndex] = new UUID(studentUuidBits[2 * i], studentUuidBits[2 * i + 1]);
+                weekParticipationScores[attendanceIndex] = participationScore;
+                attendanceIndex++;
+            }
+        }
+        return AttendanceRecord.of(studentUuids, weekParticipationScores);
+    }
+
+    /**
+     * Returns the participation score of the student with {@code studentUuid} in the week with {@code weekIndex},
+     * or {@code NO_ATTENDANCE} if the student has no attendance in that week.
+     */
+    private int getParticipationScore(UUID studentUuid, int weekIndex) {
+        int ordinal = getOrdinal(studentUuid);
+        if (ordinal < 0 || weekIndex >= denseWeekCount) {
+            return NO_ATTENDANCE;
+        }
+        return participationScores[ordinal * denseWeekCount + weekIndex];
+    }
+
+    /**
+     * Returns the ordinal of the student with {@code studentUuid}, or a negative number if the student has no
+     * attendance in any week.
+     * The students are ordered in the same way as {@link UUID#compareTo(UUID)}.
+     */
+    private int getOrdinal(UUID studentUuid) {
+        long mostSignificantBits = studentUuid.getMostSignificantBits();
+        long leastSignificantBits = studentUuid.getLeastSignificantBits();
+        int low = 0;
+        int high = studentUuidBits.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = Long.compare(studentUuidBits[2 * mid], mostSignificantBits);
+            if (comparison == 0) {
+                comparison = Long.compare(studentUuidBits[2 * mid + 1], leastSignificantBits);
+            }
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the row of participation scores of the student with {@code ordinal}, with a score for each week.
+     */
+    private byte[] getRow(int ordinal) {
+        byte[] row = createEmptyRow(numberOfWeeks);
+        System.arraycopy(participationScores, ordinal * denseWeekCount, row, 0, denseWeekCount);
+        return row;
     }
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof AttendanceRecordList // instanceof handles nulls
-                && ((AttendanceRecordList) other).recordList.equals(recordList));
+        if (other == this) { // short circuit if same object
+            return true;
+        }
+
+        if (!(other instanceof AttendanceRecordList)) { // instanceof handles nulls
+            return false;
+        }
+
+        // the arrays only depend on the attendances, so lists with the same attendances have equal arrays
+        AttendanceRecordList otherList = (AttendanceRecordList) other;
+        return otherList.numberOfWeeks == numberOfWeeks
+                && Arrays.equals(otherList.studentUuidBits, studentUuidBits)
+                && Arrays.equals(otherList.participationScores, participationScores);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(recordList);
+        return Objects.hash(numberOfWeeks, Arrays.hashCode(studentUuidBits), Arrays.hashCode(participationScores));
+    }
+
+    /**
+     * Collects changes to the attendances of an {@code AttendanceRecordList}, so that many changes only create one
+     * new {@code AttendanceRecordList}.
+     * The attendances are only copied when they are first changed.
+     */
+    public static class Builder {
+
+        private final AttendanceRecordList source;
+        private SortedMap<UUID, byte[]> rows;
+
+        private Builder(AttendanceRecordList source) {
+            this.source = source;
+        }
+
+        /**
+         * Returns true if the student with {@code studentUuid} has an attendance in {@code week}.
+         *
+         * @throws InvalidWeekException if {@code week} is not a week of the {@code AttendanceRecordList}.
+         */
+        public boolean hasAttendance(UUID studentUuid, Week week) throws InvalidWeekException {
+            return getParticipationScore(studentUuid, week) != NO_ATTENDANCE;
+        }
+
+        /**
+         * Returns the {@code Attendance} of the student with {@code studentUuid} in {@code week}.
+         *
+         * @throws InvalidWeekException if {@code week} is not a week of the {@code AttendanceRecordList}.
+         * @throws AttendanceNotFoundException if the student has no attendance in {@code week}.
+         */
+        public Attendance getAttendance(UUID studentUuid, Week week)
+                throws InvalidWeekException, AttendanceNotFoundException {
+            int participationScore = getParticipationScore(studentUuid, week);
+            if (participationScore == NO_ATTENDANCE) {
+                throw new AttendanceNotFoundException();
+            }
+
+            return Attendance.of(participationScore);
+        }
+
+        /**
+         * Sets the {@code Attendance} of the student with {@code studentUuid} in {@code week} to {@code attendance},
+         * replacing any existing {@code Attendance}.
+         *
+         * @throws InvalidWeekException if {@code week} is not a week of the {@code AttendanceRecordList}.
+         */
+        public Builder setAttendance(UUID studentUuid, Week week, Attendance attendance) throws InvalidWeekException {
+            requireAllNonNull(studentUuid, attendance);
+            checkWeek(week);
+
+            getRows().computeIfAbsent(studentUuid, unused -> createEmptyRow(source.numberOfWeeks))
+                    [week.getZeroBasedWeekIndex()] = (byte) attendance.getParticipationScore();
+            return this;
+        }
+
+        /**
+         * Removes the {@code Attendance} of the student with {@code studentUuid} in {@code week}, if any.
+         *
+         * @throws InvalidWeekException if {@code week} is not a week of the {@code AttendanceRecordList}.
+         */
+        public Builder removeAttendance(UUID studentUuid, Week week) throws InvalidWeekException {
+            if (hasAttendance(studentUuid, week)) {
+                getRows().get(studentUuid)[week.getZeroBasedWeekIndex()] = NO_ATTENDANCE;
+            }
+            return this;
+        }
+
+        /**
+         * Removes all {@code Attendance}s of the student with {@code studentUuid}.
+         */
+        public Builder removeStudent(UUID studentUuid) {
+            requireNonNull(studentUuid);
+
+            if (rows != null) {
+                rows.remove(studentUuid);
+            } else if (source.getOrdinal(studentUuid) >= 0) {
+                getRows().remove(studentUuid);
+            }
+            return this;
+        }
+
+        /**
+         * Removes the {@code Attendance}s of all students.
+         */
+        public Builder removeAllStudents() {
+            rows = new TreeMap<>();
+            return this;
+        }
+
+        /**
+         * Returns an {@code AttendanceRecordList} with the attendances of this {@code Builder}.
+         * Returns the original {@code AttendanceRecordList} if no attendances have been changed.
+         */
+        public AttendanceRecordList build() {
+            if (rows == null) {
+                return source;
+            }
+
+            return new AttendanceRecordList(source.numberOfWeeks, rows);
+        }
+
+        private int getParticipationScore(UUID studentUuid, Week week) throws InvalidWeekException {
+            requireNonNull(studentUuid);
+            checkWeek(week);
+
+            if (rows == null) {
+                return source.getParticipationScore(studentUuid, week.getZeroBasedWeekIndex());
+            }
+
+            byte[] row = rows.get(studentUuid);
+            return row == null ? NO_ATTENDANCE : row[week.getZeroBasedWeekIndex()];
+        }
+
+        private void checkWeek(Week week) throws InvalidWeekException {
+            if (!source.isWeekContained(week)) {
+                throw new InvalidWeekException();
+            }
+        }
+
+        /**
+         * Returns the rows of participation scores of each student, copying them from the original
+         * {@code AttendanceRecordList} the first time they are needed.
+         */
+        private SortedMap<UUID, byte[]> getRows() {
+            if (rows == null) {
+                rows = new TreeMap<>();
+                for (int i = 0; i < source.studentUuidBits.length / 2; i++) {
+                    UUID studentUuid = new UUID(source.studentUuidBits[2 * i], source.studentUuidBits[2 * i + 1]);
+                    rows.put(studentUuid, source.getRow(i));
+                }
+            }
+            return rows;
+        }
     }
 }
@@ -3,6 +3,13 @@ package tutorspet.model.components.tag;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import tutorspet.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the application.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +20,10 @@ public class Tag {
             + " and it should not be blank.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    // the same few tags are used by many students, so equal tags and tag sets in use share one instance
+    private static final WeakInterner<String, Tag> TAGS = new WeakInterner<>(tag -> tag.tagName);
+    private static final WeakInterner<Set<Tag>, Set<Tag>> TAG_SETS = new WeakInterner<>(Function.identity());
+
     public final String tagName;
 
     /**
@@ -27,6 +38,30 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} with the given name.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+
+        return TAGS.intern(tagName, Tag::new);
+    }
+
+    /**
+     * Returns a shared immutable set equal to {@code tags}.
+     */
+    public static Set<Tag> ofSet(Set<Tag> tags) {
+        requireNonNull(tags);
+
+        if (tags.isEmpty()) {
+            return Set.of();
+        }
+
+        return TAG_SETS.intern(tags, tagSet -> Collections.unmodifiableSet(new HashSet<>(tagSet)));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -1,5 +1,6 @@
 package tutorspet.model.lesson;
 
+import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
@@ -54,7 +55,7 @@ public class Lesson {
         requireAllNonNull(startTime, endTime, day, numberOfOccurrences, venue, attendanceRecordList);
         checkArgument(isValidStartTimeEndTime(startTime, endTime));
 
-        assert attendanceRecordList.getAttendanceRecordList().size() == numberOfOccurrences.getNumberOfOccurrences();
+        assert attendanceRecordList.getNumberOfWeeks() == numberOfOccurrences.getNumberOfOccurrences();
 
         this.startTime = startTime;
         this.endTime = endTime;
@@ -95,6 +96,13 @@ public class Lesson {
         return attendanceRecordList;
     }
 
+    /**
+     * Returns a {@code Builder} that starts with the fields of this {@code Lesson}.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * Returns true if both lessons have the same start time, end time and day.
      * This defines a weaker notion of equality between two lessons.
@@ -171,4 +179,83 @@ public class Lesson {
                 .append(getNumberOfOccurrences());
         return builder.toString();
     }
+
+    /**
+     * Collects changes to a {@code Lesson}, including changes to its attendances, so that many changes only create
+     * one new {@code Lesson}.
+     * {@code NumberOfOccurrences} cannot be changed, as it determines the weeks of the attendances.
+     */
+    public static class Builder {
+
+        private final Lesson source;
+        private final AttendanceRecordList.Builder attendanceRecordListBuilder;
+        private LocalTime startTime;
+        private LocalTime endTime;
+        private Day day;
+        private Venue venue;
+
+        private Builder(Lesson source) {
+            this.source = source;
+            this.attendanceRecordListBuilder = source.attendanceRecordList.toBuilder();
+            this.startTime = source.startTime;
+            this.endTime = source.endTime;
+            this.day = source.day;
+            this.venue = source.venue;
+        }
+
+        /**
+         * Sets the start time of the {@code Lesson}.
+         */
+        public Builder withStartTime(LocalTime startTime) {
+            this.startTime = requireNonNull(startTime);
+            return this;
+        }
+
+        /**
+         * Sets the end time of the {@code Lesson}.
+         */
+        public Builder withEndTime(LocalTime endTime) {
+            this.endTime = requireNonNull(endTime);
+            return this;
+        }
+
+        /**
+         * Sets the {@code Day} of the {@code Lesson}.
+         */
+        public Builder withDay(Day day) {
+            this.day = requireNonNull(day);
+            return this;
+        }
+
+        /**
+         * Sets the {@code Venue} of the {@code Lesson}.
+         */
+        public Builder withVenue(Venue venue) {
+            this.venue = requireNonNull(venue);
+            return this;
+        }
+
+        /**
+         * Returns the builder of the attendances of the {@code Lesson}.
+         */
+        public AttendanceRecordList.Builder getAttendanceRecordListBuilder() {
+            return attendanceRecordListBuilder;
+        }
+
+        /**
+         * Returns a {@code Lesson} with the fields of this {@code Builder}.
+         * Returns the original {@code Lesson} if no fields have been changed.
+         *
+         * @throws IllegalArgumentException if the start time is not earlier than the end time.
+         */
+        public Lesson build() {
+            AttendanceRecordList attendanceRecordList = attendanceRecordListBuilder.build();
+            if (startTime == source.startTime && endTime == source.endTime && day == source.day
+                    && venue == source.venue && attendanceRecordList == source.attendanceRecordList) {
+                return source;
+            }
+
+            return new Lesson(startTime, endTime, day, source.numberOfOccurrences, venue, attendanceRecordList);
+        }
+    }
 }
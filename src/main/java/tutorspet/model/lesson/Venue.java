@@ -3,6 +3,8 @@ package tutorspet.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.AppUtil.checkArgument;
 
+import tutorspet.commons.util.WeakInterner;
+
 /**
  * Represents the Venue of a Lesson.
  * Guarantees: immutable; is valid as declared in {@link #isValidVenue(String)}
@@ -15,6 +17,9 @@ public class Venue {
             + " and should not be blank.";
     public static final String VALIDATION_REGEX = "[\\w][\\w-.~%:/?#\\[\\]@!$&'()*+,;= ]*";
 
+    // many lessons are held at the same few venues, so equal venues in use share one instance
+    private static final WeakInterner<String, Venue> VENUES = new WeakInterner<>(venue -> venue.venue);
+
     public final String venue;
 
     /**
@@ -29,6 +34,17 @@ public class Venue {
         this.venue = venue;
     }
 
+    /**
+     * Returns the shared {@code Venue} with the given name.
+     *
+     * @param venue A valid venue.
+     */
+    public static Venue of(String venue) {
+        requireNonNull(venue);
+
+        return VENUES.intern(venue, Venue::new);
+    }
+
     /**
      * Returns true if the given String is a valid venue.
      */
@@ -81,7 +81,9 @@ public class ModuleClass implements HasName {
      * @throws NullPointerException if the given student {@code UUID} is null.
      */
     public boolean hasStudentUuid(UUID toCheck) throws NullPointerException {
-        return studentUuids.stream().anyMatch(toCheck::equals);
+        requireNonNull(toCheck);
+
+        return studentUuids.contains(toCheck);
     }
 
     /**
@@ -112,6 +114,13 @@ public class ModuleClass implements HasName {
         return lessons.stream().filter(l -> !l.equals(toRemove)).anyMatch(lesson::isOverlapLesson);
     }
 
+    /**
+     * Returns a {@code Builder} that starts with the fields of this {@code ModuleClass}.
+     */
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
     /**
      * Returns true if both classes have the same name.
      * This defines a weaker notion of equality between two classes.
@@ -153,4 +162,157 @@ public class ModuleClass implements HasName {
     public String toString() {
         return getName().toString();
     }
+
+    /**
+     * Collects changes to a {@code ModuleClass}, including changes to its lessons, so that many changes only create
+     * one new {@code ModuleClass}, and one new {@code Lesson} for each changed lesson.
+     */
+    public static class Builder {
+
+        private final ModuleClass source;
+        private final List<Lesson.Builder> lessonBuilders = new ArrayList<>();
+        private Name name;
+        private Set<UUID> studentUuids;
+        private boolean isLessonListChanged;
+
+        private Builder(ModuleClass source) {
+            this.source = source;
+            this.name = source.name;
+            for (Lesson lesson : source.lessons) {
+                lessonBuilders.add(lesson.toBuilder());
+            }
+        }
+
+        /**
+         * Sets the {@code Name} of the {@code ModuleClass}.
+         */
+        public Builder withName(Name name) {
+            this.name = requireNonNull(name);
+            return this;
+        }
+
+        /**
+         * Adds the student with {@code studentUuid} to the {@code ModuleClass}.
+         */
+        public Builder addStudentUuid(UUID studentUuid) {
+            requireNonNull(studentUuid);
+
+            if (studentUuids != null) {
+                studentUuids.add(studentUuid);
+            } else if (!source.studentUuids.contains(studentUuid)) {
+                getStudentUuids().add(studentUuid);
+            }
+            return this;
+        }
+
+        /**
+         * Removes the student with {@code studentUuid} from the {@code ModuleClass}.
+         * Its attendances are not removed.
+         */
+        public Builder removeStudentUuid(UUID studentUuid) {
+            requireNonNull(studentUuid);
+
+            if (studentUuids != null) {
+                studentUuids.remove(studentUuid);
+            } else if (source.studentUuids.contains(studentUuid)) {
+                getStudentUuids().remove(studentUuid);
+            }
+            return this;
+        }
+
+        /**
+         * Removes all students from the {@code ModuleClass}.
+         * Their attendances are not removed.
+         */
+        public Builder removeAllStudentUuids() {
+            if (studentUuids != null || !source.studentUuids.isEmpty()) {
+                studentUuids = new HashSet<>();
+            }
+            return this;
+        }
+
+        /**
+         * Adds {@code lesson} to the end of the lessons of the {@code ModuleClass}.
+         */
+        public Builder addLesson(Lesson lesson) {
+            requireNonNull(lesson);
+
+            lessonBuilders.add(lesson.toBuilder());
+            isLessonListChanged = true;
+            return this;
+        }
+
+        /**
+         * Replaces the lesson at {@code index} with {@code lesson}.
+         *
+         * @throws IndexOutOfBoundsException if there is no lesson at {@code index}.
+         */
+        public Builder setLesson(int index, Lesson lesson) {
+            requireNonNull(lesson);
+
+            lessonBuilders.set(index, lesson.toBuilder());
+            isLessonListChanged = true;
+            return this;
+        }
+
+        /**
+         * Removes the lesson at {@code index}.
+         *
+         * @throws IndexOutOfBoundsException if there is no lesson at {@code index}.
+         */
+        public Builder removeLesson(int index) {
+            lessonBuilders.remove(index);
+            isLessonListChanged = true;
+            return this;
+        }
+
+        /**
+         * Returns the number of lessons of the {@code ModuleClass}.
+         */
+        public int getLessonCount() {
+            return lessonBuilders.size();
+        }
+
+        /**
+         * Returns the builder of the lesson at {@code index}, through which the lesson can be changed.
+         *
+         * @throws IndexOutOfBoundsException if there is no lesson at {@code index}.
+         */
+        public Lesson.Builder getLessonBuilder(int index) {
+            return lessonBuilders.get(index);
+        }
+
+        /**
+         * Returns a {@code ModuleClass} with the fields of this {@code Builder}.
+         * Returns the original {@code ModuleClass} if no fields have been changed.
+         */
+        public ModuleClass build() {
+            List<Lesson> lessons = new ArrayList<>(lessonBuilders.size());
+            boolean isAnyLessonChanged = isLessonListChanged;
+            for (int i = 0; i < lessonBuilders.size(); i++) {
+                Lesson lesson = lessonBuilders.get(i).build();
+                if (!isAnyLessonChanged && lesson != source.lessons.get(i)) {
+                    isAnyLessonChanged = true;
+                }
+                lessons.add(lesson);
+            }
+
+            if (name == source.name && studentUuids == null && !isAnyLessonChanged) {
+                return source;
+            }
+
+            return new ModuleClass(name, studentUuids == null ? source.studentUuids : studentUuids, lessons);
+        }
+
+        /**
+         * Returns the UUIDs of the students of the {@code ModuleClass}, copying them from the original
+         * {@code ModuleClass} the first time they are changed.
+         */
+        private Set<UUID> getStudentUuids() {
+            if (studentUuids == null) {
+                studentUuids = new HashSet<>(source.studentUuids);
+            }
+            return studentUuids;
+        }
+    }
 }
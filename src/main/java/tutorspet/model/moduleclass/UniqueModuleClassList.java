@@ -5,12 +5,21 @@ import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 import static tutorspet.logic.util.ModuleClassUtil.deleteAllStudentsFromModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.deleteStudentFromModuleClass;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorspet.commons.util.ListChange;
+import tutorspet.commons.util.PersistentList;
+import tutorspet.model.components.name.Name;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
 import tutorspet.model.student.Student;
@@ -23,7 +32,11 @@ import tutorspet.model.student.Student;
  * UniqueModuleClassList. However, the removal of a {@code ModuleClass} uses ModuleClass#equals(Object) so as to ensure
  * that the {@code ModuleClass} with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. The position of each {@code ModuleClass} is indexed by its {@code Name},
+ * so identity checks and lookups take constant time. The names of the {@code ModuleClass}es each student is enrolled
+ * in are indexed by the student's {@code UUID}, so removing a student only updates the classes the student is in.
+ * A {@code PersistentList} mirrors the contents of the list, so a snapshot of the list can be taken in constant time.
+ * Every change to the list is reported as a {@code ListChange} to the change listener, if one is set.
  *
  * @see ModuleClass#isSameModuleClass(ModuleClass)
  */
@@ -32,6 +45,10 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     private final ObservableList<ModuleClass> internalList = FXCollections.observableArrayList();
     private final ObservableList<ModuleClass> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<ModuleClass> persistentList = PersistentList.empty();
+    private Map<Name, Integer> positionsByName = new HashMap<>();
+    private Map<UUID, Set<Name>> moduleClassNamesByStudentUuid = new HashMap<>();
+    private Consumer<ListChange<ModuleClass>> changeListener = change -> {};
 
     /**
      * Returns true if the list contains an equivalent {@code ModuleClass} as the given argument.
@@ -41,7 +58,7 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     public boolean contains(ModuleClass toCheck) throws NullPointerException {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameModuleClass);
+        return positionsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -58,7 +75,7 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throw new DuplicateModuleClassException();
         }
 
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
     }
 
     /**
@@ -75,23 +92,29 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throws NullPointerException, ModuleClassNotFoundException, DuplicateModuleClassException {
         requireAllNonNull(target, editedModuleClass);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
 
         if (index == -1) {
             throw new ModuleClassNotFoundException();
         }
 
-        if (!target.isSameModuleClass(editedModuleClass) && contains(editedModuleClass)) {
+        Integer editedIndex = positionsByName.get(editedModuleClass.getName());
+        if (editedIndex != null && editedIndex != index) {
             throw new DuplicateModuleClassException();
         }
 
-        internalList.set(index, editedModuleClass);
+        replaceAt(index, editedModuleClass);
     }
 
     public void setModuleClass(UniqueModuleClassList replacement) {
         requireNonNull(replacement);
 
+        PersistentList<ModuleClass> oldPersistentList = persistentList;
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        positionsByName = new HashMap<>(replacement.positionsByName);
+        reindexStudentUuids();
+        changeListener.accept(new ListChange<>(0, oldPersistentList, persistentList));
     }
 
     /**
@@ -105,11 +128,17 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
             throws NullPointerException, DuplicateModuleClassException {
         requireAllNonNull(moduleClasses);
 
-        if (!moduleClassesAreUnique(moduleClasses)) {
+        Map<Name, Integer> newPositionsByName = indexUniqueModuleClasses(moduleClasses);
+        if (newPositionsByName == null) {
             throw new DuplicateModuleClassException();
         }
 
+        PersistentList<ModuleClass> oldPersistentList = persistentList;
         internalList.setAll(moduleClasses);
+        persistentList = PersistentList.copyOf(moduleClasses);
+        positionsByName = newPositionsByName;
+        reindexStudentUuids();
+        changeListener.accept(new ListChange<>(0, oldPersistentList, persistentList));
     }
 
     /**
@@ -122,29 +151,97 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     public void remove(ModuleClass toRemove) throws NullPointerException, ModuleClassNotFoundException {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ModuleClassNotFoundException();
         }
+
+        removeAt(index);
     }
 
     /**
      * Removes the specified {@code Student} from all {@code ModuleClass}es in the class list.
+     * Only the {@code ModuleClass}es that the {@code Student} is enrolled in are updated.
      */
     public void removeStudent(Student student) {
         requireNonNull(student);
 
-        internalList.setAll(internalList.stream()
-                .map(moduleClass -> deleteStudentFromModuleClass(moduleClass, student))
-                .collect(Collectors.toList()));
+        Set<Name> enrolledModuleClassNames = moduleClassNamesByStudentUuid.get(student.getUuid());
+        if (enrolledModuleClassNames == null) {
+            return;
+        }
+
+        for (Name name : new ArrayList<>(enrolledModuleClassNames)) {
+            int index = positionsByName.get(name);
+            replaceAt(index, deleteStudentFromModuleClass(internalList.get(index), student));
+        }
     }
 
     /**
      * Removes all {@code Student}s from every {@code ModuleClass} in the class list.
+     * Only the {@code ModuleClass}es with enrolled {@code Student}s are updated.
      */
     public void removeAllStudents() {
-        internalList.setAll(internalList.stream()
-                .map(moduleClass -> deleteAllStudentsFromModuleClass(moduleClass))
-                .collect(Collectors.toList()));
+        for (int i = 0; i < internalList.size(); i++) {
+            ModuleClass moduleClass = internalList.get(i);
+            if (!moduleClass.getStudentUuids().isEmpty()) {
+                replaceAt(i, deleteAllStudentsFromModuleClass(moduleClass));
+            }
+        }
+    }
+
+    /**
+     * Applies {@code change} to the list. {@code change} must describe a change to a list with the same contents
+     * as this list, e.g. a change reported by this list or the inverse of the last change reported by this list.
+     *
+     * @throws DuplicateModuleClassException if applying {@code change} would result in duplicate
+     *     {@code ModuleClass}es.
+     */
+    public void applyChange(ListChange<ModuleClass> change) {
+        requireNonNull(change);
+
+        int index = change.getIndex();
+        List<ModuleClass> removed = change.getRemoved();
+        List<ModuleClass> added = change.getAdded();
+        if (index == 0 && removed.size() == internalList.size()) {
+            setModuleClass(added);
+            return;
+        }
+
+        int replacedCount = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replacedCount; i++) {
+            Integer editedIndex = positionsByName.get(added.get(i).getName());
+            if (editedIndex != null && editedIndex != index + i) {
+                throw new DuplicateModuleClassException();
+            }
+            replaceAt(index + i, added.get(i));
+        }
+        for (int i = replacedCount; i < removed.size(); i++) {
+            removeAt(index + replacedCount);
+        }
+        for (int i = replacedCount; i < added.size(); i++) {
+            if (contains(added.get(i))) {
+                throw new DuplicateModuleClassException();
+            }
+            insertAt(index + i, added.get(i));
+        }
+    }
+
+    /**
+     * Sets the listener that is notified of every change to the list.
+     */
+    public void setChangeListener(Consumer<ListChange<ModuleClass>> changeListener) {
+        requireNonNull(changeListener);
+
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Returns an immutable snapshot of the list, which is not affected by later changes to the list.
+     * Takes constant time, as the snapshot shares structure with the list.
+     */
+    public List<ModuleClass> asSnapshot() {
+        return persistentList;
     }
 
     /**
@@ -156,7 +253,7 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
 
     @Override
     public Iterator<ModuleClass> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -172,16 +269,95 @@ public class UniqueModuleClassList implements Iterable<ModuleClass> {
     }
 
     /**
-     * Returns true if {@code moduleClasses} contains only unique {@code ModuleClass}.
+     * Returns the position of the {@code ModuleClass} in the list that is equal to {@code moduleClass},
+     * or -1 if there is none.
+     */
+    private int indexOf(ModuleClass moduleClass) {
+        Integer index = positionsByName.get(moduleClass.getName());
+        if (index == null) {
+            return -1;
+        }
+
+        ModuleClass storedModuleClass = internalList.get(index);
+        return storedModuleClass == moduleClass || storedModuleClass.equals(moduleClass) ? index : -1;
+    }
+
+    private void insertAt(int index, ModuleClass moduleClass) {
+        internalList.add(index, moduleClass);
+        persistentList = persistentList.plus(index, moduleClass);
+        updatePositionsFrom(index);
+        indexStudentUuids(moduleClass);
+        changeListener.accept(new ListChange<>(index, List.of(), List.of(moduleClass)));
+    }
+
+    private void replaceAt(int index, ModuleClass moduleClass) {
+        ModuleClass oldModuleClass = internalList.set(index, moduleClass);
+        persistentList = persistentList.with(index, moduleClass);
+        positionsByName.remove(oldModuleClass.getName());
+        positionsByName.put(moduleClass.getName(), index);
+        unindexStudentUuids(oldModuleClass);
+        indexStudentUuids(moduleClass);
+        changeListener.accept(new ListChange<>(index, List.of(oldModuleClass), List.of(moduleClass)));
+    }
+
+    private void removeAt(int index) {
+        ModuleClass oldModuleClass = internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        positionsByName.remove(oldModuleClass.getName());
+        updatePositionsFrom(index);
+        unindexStudentUuids(oldModuleClass);
+        changeListener.accept(new ListChange<>(index, List.of(oldModuleClass), List.of()));
+    }
+
+    /**
+     * Updates the indexed positions of the {@code ModuleClass}es at or after {@code index}, which have moved.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Adds the {@code Name} of {@code moduleClass} to the index entry of each of its student {@code UUID}s.
+     */
+    private void indexStudentUuids(ModuleClass moduleClass) {
+        for (UUID uuid : moduleClass.getStudentUuids()) {
+            moduleClassNamesByStudentUuid.computeIfAbsent(uuid, unused -> new HashSet<>()).add(moduleClass.getName());
+        }
+    }
+
+    /**
+     * Removes the {@code Name} of {@code moduleClass} from the index entry of each of its student {@code UUID}s.
+     */
+    private void unindexStudentUuids(ModuleClass moduleClass) {
+        for (UUID uuid : moduleClass.getStudentUuids()) {
+            Set<Name> names = moduleClassNamesByStudentUuid.get(uuid);
+            names.remove(moduleClass.getName());
+            if (names.isEmpty()) {
+                moduleClassNamesByStudentUuid.remove(uuid);
+            }
+        }
+    }
+
+    private void reindexStudentUuids() {
+        moduleClassNamesByStudentUuid = new HashMap<>();
+        for (ModuleClass moduleClass : internalList) {
+            indexStudentUuids(moduleClass);
+        }
+    }
+
+    /**
+     * Returns the position of each {@code ModuleClass} in {@code moduleClasses} indexed by its {@code Name},
+     * or null if {@code moduleClasses} does not contain only unique {@code ModuleClass}.
      */
-    private boolean moduleClassesAreUnique(List<ModuleClass> moduleClasses) {
-        for (int i = 0; i < moduleClasses.size() - 1; i++) {
-            for (int j = i + 1; j < moduleClasses.size(); j++) {
-                if (moduleClasses.get(i).isSameModuleClass(moduleClasses.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexUniqueModuleClasses(List<ModuleClass> moduleClasses) {
+        Map<Name, Integer> positions = new HashMap<>();
+        for (int i = 0; i < moduleClasses.size(); i++) {
+            if (positions.putIfAbsent(moduleClasses.get(i).getName(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return positions;
     }
 }
@@ -2,8 +2,6 @@ package tutorspet.model.student;
 
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -25,7 +23,7 @@ public class Student implements HasName {
     private final Email email;
 
     // data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
 
     /**
      * Every field must be present and not null.
@@ -38,7 +36,7 @@ public class Student implements HasName {
         this.name = name;
         this.telegram = telegram;
         this.email = email;
-        this.tags.addAll(tags);
+        this.tags = Tag.ofSet(tags);
     }
 
     /**
@@ -52,7 +50,7 @@ public class Student implements HasName {
         this.name = name;
         this.telegram = telegram;
         this.email = email;
-        this.tags.addAll(tags);
+        this.tags = Tag.ofSet(tags);
     }
 
     public UUID getUuid() {
@@ -75,9 +73,10 @@ public class Student implements HasName {
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
+     * Students with equal tags share the same set.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
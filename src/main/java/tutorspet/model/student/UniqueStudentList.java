@@ -3,11 +3,17 @@ package tutorspet.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorspet.commons.util.ListChange;
+import tutorspet.commons.util.PersistentList;
 import tutorspet.model.student.exceptions.DuplicateStudentException;
 import tutorspet.model.student.exceptions.StudentNotFoundException;
 
@@ -18,7 +24,10 @@ import tutorspet.model.student.exceptions.StudentNotFoundException;
  * or updated is unique in terms of identity in the UniqueStudentList. However, the removal of a student uses
  * Student#equals(Object) so as to ensure that the student with exactly the same fields will be removed.
  *
- * Supports a minimal set of list operations.
+ * Supports a minimal set of list operations. Students are also indexed by {@code Telegram}, {@code Email} and
+ * {@code UUID}, so identity and UUID checks take constant time. A {@code PersistentList} mirrors the contents of the
+ * list, so a snapshot of the list can be taken in constant time. Every change to the list is reported as a
+ * {@code ListChange} to the change listener, if one is set.
  *
  * @see Student#isSameStudent(Student)
  */
@@ -27,6 +36,12 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Student> persistentList = PersistentList.empty();
+    private Map<Telegram, Student> studentsByTelegram = new HashMap<>();
+    private Map<Telegram, Integer> positionsByTelegram = new HashMap<>();
+    private Map<Email, Student> studentsByEmail = new HashMap<>();
+    private Map<UUID, Integer> uuidCounts = new HashMap<>();
+    private Consumer<ListChange<Student>> changeListener = change -> {};
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
@@ -34,7 +49,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return studentsByTelegram.containsKey(toCheck.getTelegram())
+                || studentsByEmail.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -44,7 +60,8 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean contains(Student target, Student toCheck) {
         requireAllNonNull(target, toCheck);
 
-        return internalList.stream().filter(s -> !s.equals(target)).anyMatch(toCheck::isSameStudent);
+        return isOtherStudent(studentsByTelegram.get(toCheck.getTelegram()), target)
+                || isOtherStudent(studentsByEmail.get(toCheck.getEmail()), target);
     }
 
     /**
@@ -53,7 +70,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public boolean containsUuid(Student toCheck) {
         requireNonNull(toCheck);
 
-        return internalList.stream().anyMatch(toCheck::hasSameUuid);
+        return uuidCounts.containsKey(toCheck.getUuid());
     }
 
     /**
@@ -66,7 +83,35 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(toAdd);
+        insertAt(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as a single change to the list.
+     * The students must not already exist in the list, and must be unique among themselves.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+
+        Map<Telegram, Student> newStudentsByTelegram = new HashMap<>();
+        Map<Email, Student> newStudentsByEmail = new HashMap<>();
+        Map<UUID, Integer> newUuidCounts = new HashMap<>();
+        if (!indexUniqueStudents(toAdd, newStudentsByTelegram, newStudentsByEmail, newUuidCounts)
+                || toAdd.stream().anyMatch(this::contains)) {
+            throw new DuplicateStudentException();
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        int index = internalList.size();
+        internalList.addAll(toAdd);
+        for (Student student : toAdd) {
+            persistentList = persistentList.plus(student);
+            index(student);
+        }
+        updatePositionsFrom(index);
+        changeListener.accept(new ListChange<>(index, List.of(), List.copyOf(toAdd)));
     }
 
     /**
@@ -77,22 +122,31 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
 
-        if (!target.isSameStudent(editedStudent) && contains(editedStudent)) {
+        Student storedTarget = internalList.get(index);
+        if (isOtherStudent(studentsByTelegram.get(editedStudent.getTelegram()), storedTarget)
+                || isOtherStudent(studentsByEmail.get(editedStudent.getEmail()), storedTarget)) {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        replaceAt(index, editedStudent);
     }
 
     public void setStudent(UniqueStudentList replacement) {
         requireNonNull(replacement);
 
+        PersistentList<Student> oldPersistentList = persistentList;
         internalList.setAll(replacement.internalList);
+        persistentList = replacement.persistentList;
+        studentsByTelegram = new HashMap<>(replacement.studentsByTelegram);
+        positionsByTelegram = new HashMap<>(replacement.positionsByTelegram);
+        studentsByEmail = new HashMap<>(replacement.studentsByEmail);
+        uuidCounts = new HashMap<>(replacement.uuidCounts);
+        changeListener.accept(new ListChange<>(0, oldPersistentList, persistentList));
     }
 
     /**
@@ -102,11 +156,22 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(List<Student> students) {
         requireAllNonNull(students);
 
-        if (!studentsAreUnique(students)) {
+        Map<Telegram, Student> newStudentsByTelegram = new HashMap<>();
+        Map<Email, Student> newStudentsByEmail = new HashMap<>();
+        Map<UUID, Integer> newUuidCounts = new HashMap<>();
+        if (!indexUniqueStudents(students, newStudentsByTelegram, newStudentsByEmail, newUuidCounts)) {
             throw new DuplicateStudentException();
         }
 
+        PersistentList<Student> oldPersistentList = persistentList;
         internalList.setAll(students);
+        persistentList = PersistentList.copyOf(students);
+        studentsByTelegram = newStudentsByTelegram;
+        studentsByEmail = newStudentsByEmail;
+        uuidCounts = newUuidCounts;
+        positionsByTelegram = new HashMap<>();
+        updatePositionsFrom(0);
+        changeListener.accept(new ListChange<>(0, oldPersistentList, persistentList));
     }
 
     /**
@@ -116,9 +181,67 @@ public class UniqueStudentList implements Iterable<Student> {
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
 
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+
+        removeAt(index);
+    }
+
+    /**
+     * Applies {@code change} to the list. {@code change} must describe a change to a list with the same contents
+     * as this list, e.g. a change reported by this list or the inverse of the last change reported by this list.
+     *
+     * @throws DuplicateStudentException if applying {@code change} would result in duplicate students.
+     */
+    public void applyChange(ListChange<Student> change) {
+        requireNonNull(change);
+
+        int index = change.getIndex();
+        List<Student> removed = change.getRemoved();
+        List<Student> added = change.getAdded();
+        if (index == 0 && removed.size() == internalList.size()) {
+            setStudent(added);
+            return;
+        }
+
+        int replacedCount = Math.min(removed.size(), added.size());
+        for (int i = 0; i < replacedCount; i++) {
+            Student target = internalList.get(index + i);
+            Student editedStudent = added.get(i);
+            if (isOtherStudent(studentsByTelegram.get(editedStudent.getTelegram()), target)
+                    || isOtherStudent(studentsByEmail.get(editedStudent.getEmail()), target)) {
+                throw new DuplicateStudentException();
+            }
+            replaceAt(index + i, editedStudent);
+        }
+        for (int i = replacedCount; i < removed.size(); i++) {
+            removeAt(index + replacedCount);
+        }
+        for (int i = replacedCount; i < added.size(); i++) {
+            if (contains(added.get(i))) {
+                throw new DuplicateStudentException();
+            }
+            insertAt(index + i, added.get(i));
+        }
+    }
+
+    /**
+     * Sets the listener that is notified of every change to the list.
+     */
+    public void setChangeListener(Consumer<ListChange<Student>> changeListener) {
+        requireNonNull(changeListener);
+
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Returns an immutable snapshot of the list, which is not affected by later changes to the list.
+     * Takes constant time, as the snapshot shares structure with the list.
+     */
+    public List<Student> asSnapshot() {
+        return persistentList;
     }
 
     /**
@@ -130,7 +253,7 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -146,15 +269,84 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the position of the student in the list that is equal to {@code student}, or -1 if there is none.
+     */
+    private int indexOf(Student student) {
+        Integer index = positionsByTelegram.get(student.getTelegram());
+        if (index == null) {
+            return -1;
+        }
+
+        Student storedStudent = internalList.get(index);
+        return storedStudent == student || storedStudent.equals(student) ? index : -1;
+    }
+
+    /**
+     * Returns true if {@code student} exists and is not equal to {@code target}.
+     */
+    private static boolean isOtherStudent(Student student, Student target) {
+        return student != null && !student.equals(target);
+    }
+
+    private void insertAt(int index, Student student) {
+        internalList.add(index, student);
+        persistentList = persistentList.plus(index, student);
+        updatePositionsFrom(index);
+        index(student);
+        changeListener.accept(new ListChange<>(index, List.of(), List.of(student)));
+    }
+
+    private void replaceAt(int index, Student student) {
+        Student oldStudent = internalList.set(index, student);
+        persistentList = persistentList.with(index, student);
+        positionsByTelegram.remove(oldStudent.getTelegram());
+        positionsByTelegram.put(student.getTelegram(), index);
+        unindex(oldStudent);
+        index(student);
+        changeListener.accept(new ListChange<>(index, List.of(oldStudent), List.of(student)));
+    }
+
+    private void removeAt(int index) {
+        Student oldStudent = internalList.remove(index);
+        persistentList = persistentList.minus(index);
+        positionsByTelegram.remove(oldStudent.getTelegram());
+        updatePositionsFrom(index);
+        unindex(oldStudent);
+        changeListener.accept(new ListChange<>(index, List.of(oldStudent), List.of()));
+    }
+
+    /**
+     * Updates the indexed positions of the students at or after {@code index}, which have moved.
+     */
+    private void updatePositionsFrom(int index) {
+        for (int i = index; i < internalList.size(); i++) {
+            positionsByTelegram.put(internalList.get(i).getTelegram(), i);
+        }
+    }
+
+    private void index(Student student) {
+        studentsByTelegram.put(student.getTelegram(), student);
+        studentsByEmail.put(student.getEmail(), student);
+        uuidCounts.merge(student.getUuid(), 1, Integer::sum);
+    }
+
+    private void unindex(Student student) {
+        studentsByTelegram.remove(student.getTelegram());
+        studentsByEmail.remove(student.getEmail());
+        uuidCounts.computeIfPresent(student.getUuid(), (uuid, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns true if {@code students} contains only unique students, and fills the given indexes with them.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private static boolean indexUniqueStudents(List<Student> students, Map<Telegram, Student> studentsByTelegram,
+            Map<Email, Student> studentsByEmail, Map<UUID, Integer> uuidCounts) {
+        for (Student student : students) {
+            if (studentsByTelegram.putIfAbsent(student.getTelegram(), student) != null
+                    || studentsByEmail.putIfAbsent(student.getEmail(), student) != null) {
+                return false;
             }
+            uuidCounts.merge(student.getUuid(), 1, Integer::sum);
         }
         return true;
     }
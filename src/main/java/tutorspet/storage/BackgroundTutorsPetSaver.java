@@ -0,0 +1,116 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.util.StringUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+
+/**
+ * Saves {@code TutorsPet} data to a {@code TutorsPetStorage} on a background thread.
+ * The data is snapshotted when a save is requested, so later changes to the data do not affect the save.
+ * Saves that are requested before an earlier save has started are coalesced, so only the latest data is written.
+ * If the last save failed, the failure is reported by {@link #flush()}, and by the next call to
+ * {@link #save(ReadOnlyTutorsPet)}, which still schedules its data to be saved.
+ */
+public class BackgroundTutorsPetSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTutorsPetSaver.class);
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 10;
+
+    private final TutorsPetStorage tutorsPetStorage;
+    private final ExecutorService executor;
+    private ReadOnlyTutorsPet pendingTutorsPet;
+    private IOException failure;
+
+    /**
+     * Creates a {@code BackgroundTutorsPetSaver} that saves to {@code tutorsPetStorage}.
+     * The background thread is only started when there is data to save, and stops when it has been idle for a while.
+     */
+    public BackgroundTutorsPetSaver(TutorsPetStorage tutorsPetStorage) {
+        requireNonNull(tutorsPetStorage);
+
+        this.tutorsPetStorage = tutorsPetStorage;
+        executor = new ThreadPoolExecutor(0, 1, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "TutorsPet-storage");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Schedules {@code tutorsPet} to be saved on the background thread.
+     *
+     * @throws IOException if the previous save failed. {@code tutorsPet} is still scheduled to be saved.
+     */
+    public synchronized void save(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        requireNonNull(tutorsPet);
+
+        IOException previousFailure = failure;
+        failure = null;
+        boolean isSaveScheduled = pendingTutorsPet != null;
+        pendingTutorsPet = tutorsPet instanceof TutorsPet
+                ? ((TutorsPet) tutorsPet).asSnapshot()
+                : new TutorsPet(tutorsPet);
+        if (!isSaveScheduled) {
+            executor.execute(this::savePendingTutorsPet);
+        }
+
+        if (previousFailure != null) {
+            throw previousFailure;
+        }
+    }
+
+    /**
+     * Waits until all scheduled saves have been written.
+     *
+     * @throws IOException if the last save failed, or the wait was interrupted.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved.", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+
+        synchronized (this) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private void savePendingTutorsPet() {
+        ReadOnlyTutorsPet tutorsPet;
+        synchronized (this) {
+            tutorsPet = pendingTutorsPet;
+            pendingTutorsPet = null;
+        }
+
+        IOException saveFailure = null;
+        try {
+            tutorsPetStorage.saveTutorsPet(tutorsPet);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(ioe));
+            saveFailure = ioe;
+        }
+
+        synchronized (this) {
+            // a later successful save supersedes an earlier failure
+            failure = saveFailure;
+        }
+    }
+}
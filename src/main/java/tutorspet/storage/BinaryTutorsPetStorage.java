@@ -0,0 +1,486 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.core.index.Index;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.lesson.NumberOfOccurrences;
+import tutorspet.model.lesson.Venue;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * A class to access TutorsPet data stored as a binary file on the hard disk.
+ * The file is much smaller and faster to read and write than a JSON file:
+ * <ul>
+ *     <li>every distinct string (names, tags, venues, ...) is stored once in a string table and referred to by index,
+ *     <li>UUIDs are stored as two longs and lesson times as minutes of the day,
+ *     <li>the attendance of each lesson occurrence is stored as one byte per student of the class.
+ * </ul>
+ * The file starts with a magic number, a format version and the generation the data was saved with, and ends with a
+ * CRC-32 checksum of its contents. Files of the first format version, which have no generation, can still be read.
+ * The data is checked against the same constraints as {@link JsonTutorsPetStorage} when it is read.
+ */
+public class BinaryTutorsPetStorage implements SnapshotTutorsPetStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_DATA_FILE = "Not a Tutor's Pet binary data file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION_FORMAT = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_CORRUPTED_DATA_FILE = "Binary data file is corrupted.";
+
+    static final int MAGIC_NUMBER = 0x54505442; // "TPTB"
+    static final short FORMAT_VERSION = 2;
+    static final short FIRST_FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTutorsPetStorage.class);
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte NO_ATTENDANCE = -1;
+
+    private Path filePath;
+
+    public BinaryTutorsPetStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file kept in place of the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE)) {
+            return Optional.of(new Decoder(in, Files.size(filePath)).read());
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public Optional<UUID> readGeneration(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (in.readInt() != MAGIC_NUMBER || in.readShort() == FIRST_FORMAT_VERSION) {
+                return Optional.empty();
+            }
+            return Optional.of(new UUID(in.readLong(), in.readLong()));
+        } catch (EOFException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        saveTutorsPet(tutorsPet, filePath, UUID.randomUUID());
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath, UUID generation) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+        requireNonNull(generation);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out ->
+                new Encoder(new BufferedOutputStream(out, BUFFER_SIZE)).write(tutorsPet, generation));
+    }
+
+    @Override
+    public void compactTutorsPet() {
+        // every save already writes the whole data file
+    }
+
+    /**
+     * Writes a {@code ReadOnlyTutorsPet} in the binary format.
+     */
+    private static class Encoder {
+
+        private final CheckedOutputStream checkedOut;
+        private final DataOutputStream out;
+        private final Map<String, Integer> stringTable = new LinkedHashMap<>();
+
+        Encoder(BufferedOutputStream out) {
+            this.checkedOut = new CheckedOutputStream(out, new CRC32());
+            this.out = new DataOutputStream(checkedOut);
+        }
+
+        void write(ReadOnlyTutorsPet tutorsPet, UUID generation) throws IOException {
+            buildStringTable(tutorsPet);
+
+            out.writeInt(MAGIC_NUMBER);
+            out.writeShort(FORMAT_VERSION);
+            out.writeLong(generation.getMostSignificantBits());
+            out.writeLong(generation.getLeastSignificantBits());
+            out.writeInt(stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(tutorsPet.getStudentList().size());
+            for (Student student : tutorsPet.getStudentList()) {
+                writeStudent(student);
+            }
+            out.writeInt(tutorsPet.getModuleClassList().size());
+            for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+                writeModuleClass(moduleClass);
+            }
+
+            out.writeLong(checkedOut.getChecksum().getValue());
+            // flushes the buffered stream as well
+            out.flush();
+        }
+
+        private void buildStringTable(ReadOnlyTutorsPet tutorsPet) {
+            for (Student student : tutorsPet.getStudentList()) {
+                addString(student.getName().fullName);
+                addString(student.getTelegram().value);
+                addString(student.getEmail().value);
+                student.getTags().forEach(tag -> addString(tag.tagName));
+            }
+            for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+                addString(moduleClass.getName().fullName);
+                moduleClass.getLessons().forEach(lesson -> addString(lesson.getVenue().venue));
+            }
+        }
+
+        private void addString(String string) {
+            stringTable.putIfAbsent(string, stringTable.size());
+        }
+
+        private void writeString(String string) throws IOException {
+            out.writeInt(stringTable.get(string));
+        }
+
+        private void writeUuid(UUID uuid) throws IOException {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        }
+
+        private void writeStudent(Student student) throws IOException {
+            writeUuid(student.getUuid());
+            writeString(student.getName().fullName);
+            writeString(student.getTelegram().value);
+            writeString(student.getEmail().value);
+            out.writeInt(student.getTags().size());
+            for (Tag tag : student.getTags()) {
+                writeString(tag.tagName);
+            }
+        }
+
+        private void writeModuleClass(ModuleClass moduleClass) throws IOException {
+            writeString(moduleClass.getName().fullName);
+            List<UUID> studentUuids = new ArrayList<>(moduleClass.getStudentUuids());
+            Map<UUID, Integer> studentPositions = new HashMap<>();
+            out.writeInt(studentUuids.size());
+            for (UUID studentUuid : studentUuids) {
+                studentPositions.put(studentUuid, studentPositions.size());
+                writeUuid(studentUuid);
+            }
+
+            out.writeInt(moduleClass.getLessons().size());
+            for (Lesson lesson : moduleClass.getLessons()) {
+                writeLesson(lesson, studentPositions);
+            }
+        }
+
+        private void writeLesson(Lesson lesson, Map<UUID, Integer> studentPositions) throws IOException {
+            out.writeShort(lesson.getStartTime().toSecondOfDay() / 60);
+            out.writeShort(lesson.getEndTime().toSecondOfDay() / 60);
+            out.writeByte(lesson.getDay().ordinal());
+            out.writeByte(lesson.getNumberOfOccurrences().value);
+            writeString(lesson.getVenue().venue);
+
+            AttendanceRecordList attendanceRecordList = lesson.getAttendanceRecordList();
+            byte[] scores = new byte[studentPositions.size()];
+            for (int i = 0; i < attendanceRecordList.getNumberOfWeeks(); i++) {
+                Arrays.fill(scores, NO_ATTENDANCE);
+                Week week = new Week(Index.fromZeroBased(i));
+                try {
+                    attendanceRecordList.forEachAttendance(week, (studentUuid, attendance) -> {
+                        Integer position = studentPositions.get(studentUuid);
+                        if (position == null) {
+                            throw new IllegalArgumentException(
+                                    JsonAdaptedModuleClass.MESSAGE_INVALID_STUDENTS_IN_LESSON);
+                        }
+                        scores[position] = (byte) attendance.getParticipationScore();
+                    });
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage(), e);
+                }
+                out.write(scores);
+            }
+        }
+    }
+
+    /**
+     * Reads a {@code TutorsPet} from the binary format, checking it against the constraints of the model.
+     */
+    private static class Decoder {
+
+        private final CheckedInputStream checkedIn;
+        private final DataInputStream in;
+        private final long fileSize;
+        private String[] stringTable;
+
+        Decoder(InputStream in, long fileSize) {
+            this.checkedIn = new CheckedInputStream(in, new CRC32());
+            this.in = new DataInputStream(checkedIn);
+            this.fileSize = fileSize;
+        }
+
+        TutorsPet read() throws IOException, IllegalValueException {
+            if (in.readInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_NOT_BINARY_DATA_FILE);
+            }
+            short version = in.readShort();
+            if (version != FORMAT_VERSION && version != FIRST_FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION_FORMAT, version));
+            }
+            if (version != FIRST_FORMAT_VERSION) {
+                // the generation is only needed by readGeneration
+                in.readLong();
+                in.readLong();
+            }
+
+            stringTable = new String[readCount()];
+            for (int i = 0; i < stringTable.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                in.readFully(bytes);
+                stringTable[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+
+            TutorsPetLoader loader = new TutorsPetLoader();
+            int studentCount = readCount();
+            for (int i = 0; i < studentCount; i++) {
+                loader.addStudent(readStudent());
+            }
+            int moduleClassCount = readCount();
+            for (int i = 0; i < moduleClassCount; i++) {
+                loader.addModuleClass(readModuleClass());
+            }
+
+            long expectedChecksum = checkedIn.getChecksum().getValue();
+            if (in.readLong() != expectedChecksum || in.read() != -1) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+            }
+            return loader.toTutorsPet();
+        }
+
+        /**
+         * Reads a count of items that are each stored in at least one byte.
+         */
+        private int readCount() throws IOException, IllegalValueException {
+            int count = in.readInt();
+            if (count < 0 || count > fileSize) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+            }
+            return count;
+        }
+
+        private String readString() throws IOException, IllegalValueException {
+            int index = in.readInt();
+            if (index < 0 || index >= stringTable.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+            }
+            return stringTable[index];
+        }
+
+        private UUID readUuid() throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+
+        private Student readStudent() throws IOException, IllegalValueException {
+            UUID uuid = readUuid();
+            String name = readString();
+            String telegram = readString();
+            String email = readString();
+            int tagCount = readCount();
+            List<String> tagNames = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tagNames.add(readString());
+            }
+
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            if (!Telegram.isValidTelegram(telegram)) {
+                throw new IllegalValueException(Telegram.MESSAGE_CONSTRAINTS);
+            }
+            if (!Email.isValidEmail(email)) {
+                throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+            }
+            Set<Tag> tags = new HashSet<>();
+            for (String tagName : tagNames) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tags.add(Tag.of(tagName));
+            }
+            return new Student(uuid, new Name(name), new Telegram(telegram), new Email(email), tags);
+        }
+
+        private ModuleClass readModuleClass() throws IOException, IllegalValueException {
+            String name = readString();
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+
+            UUID[] studentUuids = new UUID[readCount()];
+            for (int i = 0; i < studentUuids.length; i++) {
+                studentUuids[i] = readUuid();
+            }
+
+            int lessonCount = readCount();
+            List<Lesson> lessons = new ArrayList<>(lessonCount);
+            for (int i = 0; i < lessonCount; i++) {
+                lessons.add(readLesson(studentUuids));
+            }
+            JsonAdaptedModuleClass.validateLessons(lessons);
+            return new ModuleClass(new Name(name), new HashSet<>(List.of(studentUuids)), lessons);
+        }
+
+        private Lesson readLesson(UUID[] studentUuids) throws IOException, IllegalValueException {
+            LocalTime startTime = readTime();
+            LocalTime endTime = readTime();
+            if (!Lesson.isValidStartTimeEndTime(startTime, endTime)) {
+                throw new IllegalValueException(Lesson.MESSAGE_CONSTRAINTS);
+            }
+            int dayIndex = in.readUnsignedByte();
+            if (dayIndex >= Day.values().length) {
+                throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
+            }
+            int numberOfOccurrences = in.readUnsignedByte();
+            if (!NumberOfOccurrences.isValidNumberOfOccurrences(numberOfOccurrences)) {
+                throw new IllegalValueException(NumberOfOccurrences.MESSAGE_CONSTRAINTS);
+            }
+            String venue = readString();
+            if (!Venue.isValidVenue(venue)) {
+                throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
+            }
+
+            byte[] scores = new byte[studentUuids.length];
+            List<AttendanceRecord> records = new ArrayList<>(numberOfOccurrences);
+            for (int week = 0; week < numberOfOccurrences; week++) {
+                in.readFully(scores);
+                UUID[] attendedStudentUuids = new UUID[scores.length];
+                int[] participationScores = new int[scores.length];
+                int attendanceCount = 0;
+                for (int i = 0; i < scores.length; i++) {
+                    if (scores[i] == NO_ATTENDANCE) {
+                        continue;
+                    }
+                    if (!Attendance.isValidParticipationScore(scores[i])) {
+                        throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
+                    }
+                    attendedStudentUuids[attendanceCount] = studentUuids[i];
+                    participationScores[attendanceCount] = scores[i];
+                    attendanceCount++;
+                }
+                records.add(AttendanceRecord.of(Arrays.copyOf(attendedStudentUuids, attendanceCount),
+                        Arrays.copyOf(participationScores, attendanceCount)));
+            }
+
+            return new Lesson(startTime, endTime, Day.values()[dayIndex],
+                    new NumberOfOccurrences(numberOfOccurrences), Venue.of(venue),
+                    new AttendanceRecordList(records));
+        }
+
+        private LocalTime readTime() throws IOException, IllegalValueException {
+            int minuteOfDay = in.readUnsignedShort();
+            if (minuteOfDay >= 24 * 60) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_DATA_FILE);
+            }
+            return LocalTime.ofSecondOfDay(minuteOfDay * 60L);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.ReadOnlyTutorsPet;
+
+/**
+ * Converts TutorsPet data files between storage formats, such as from JSON to binary and back.
+ */
+public class DataFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(DataFileConverter.class);
+
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /**
+     * Saves the data read from {@code source} to {@code target}.
+     * Any data already in {@code target} is backed up first, see {@link #backUp(TutorsPetStorage)}.
+     * Returns false, without saving anything, if {@code source} has no data.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(TutorsPetStorage source, TutorsPetStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyTutorsPet> tutorsPet = source.readTutorsPet();
+        if (!tutorsPet.isPresent()) {
+            return false;
+        }
+        backUp(target);
+        logger.info("Converting data file " + source.getTutorsPetFilePath() + " to "
+                + target.getTutorsPetFilePath());
+        target.saveTutorsPet(tutorsPet.get());
+        return true;
+    }
+
+    /**
+     * Returns the path of the backup of the file or directory at {@code path}.
+     */
+    public static Path getBackupPath(Path path) {
+        return path.resolveSibling(path.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Copies the data in {@code storage} to its backup, replacing any earlier backup, and returns the path of the
+     * backup. The journal of a {@link JournalingTutorsPetStorage} is copied with its data file, and the whole
+     * directory of a {@link ShardedTutorsPetStorage} is copied with its shards.
+     * Returns {@code Optional.empty()}, without copying anything, if {@code storage} has no data.
+     *
+     * @throws IOException if there was any problem copying the files.
+     */
+    public static Optional<Path> backUp(TutorsPetStorage storage) throws IOException {
+        requireNonNull(storage);
+
+        Path filePath = storage.getTutorsPetFilePath();
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path backupPath;
+        if (storage instanceof ShardedTutorsPetStorage) {
+            // the manifest names shards in the directory next to it, so the directory is copied as a whole
+            Path directoryPath = filePath.toAbsolutePath().getParent();
+            backupPath = getBackupPath(directoryPath);
+            deleteRecursively(backupPath);
+            copyRecursively(directoryPath, backupPath);
+        } else {
+            backupPath = getBackupPath(filePath);
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+            Path journalFilePath = JournalingTutorsPetStorage.getJournalFilePath(filePath);
+            Path backupJournalFilePath = JournalingTutorsPetStorage.getJournalFilePath(backupPath);
+            if (Files.exists(journalFilePath)) {
+                Files.copy(journalFilePath, backupJournalFilePath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(backupJournalFilePath);
+            }
+        }
+        logger.info("Backed up data file " + filePath + " to " + backupPath);
+        return Optional.of(backupPath);
+    }
+
+    private static void copyRecursively(Path sourcePath, Path targetPath) throws IOException {
+        try (Stream<Path> paths = Files.walk(sourcePath)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.copy(path, targetPath.resolve(sourcePath.relativize(path)));
+            }
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            // children are deleted before the directories that hold them
+            for (Path childPath : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(childPath);
+            }
+        }
+    }
+}
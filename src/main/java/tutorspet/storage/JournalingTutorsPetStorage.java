@@ -0,0 +1,244 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.commons.util.ListChange;
+import tutorspet.commons.util.PersistentList;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A {@code TutorsPetStorage} that appends the changes made since the last save to a journal file next to the data
+ * file, instead of rewriting the whole data file on every save.
+ * The data file is rewritten as a snapshot by a {@code SnapshotTutorsPetStorage}, and the journal cleared, when the
+ * journal grows too large, when the snapshot grows too old, or when {@link #compactTutorsPet()} is called.
+ * Every snapshot is marked with a new random generation, which the journal entries written against it record.
+ * Reading loads the snapshot and replays the journal entries of its generation on top of it.
+ */
+public class JournalingTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 1024 * 1024;
+    public static final Duration DEFAULT_COMPACTION_INTERVAL = Duration.ofMinutes(10);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingTutorsPetStorage.class);
+
+    private final SnapshotTutorsPetStorage snapshotStorage;
+    private final long compactionThresholdBytes;
+    private final Duration compactionInterval;
+
+    // The data last read or saved, and where. Saves to other files always write a snapshot.
+    private Path savedFilePath;
+    private List<Student> savedStudents;
+    private List<ModuleClass> savedModuleClasses;
+    private UUID snapshotGeneration;
+    private Instant snapshotInstant;
+    private boolean isSnapshotRequired;
+
+    /**
+     * Creates a {@code JournalingTutorsPetStorage} that writes snapshots using {@code snapshotStorage}, with the
+     * default compaction thresholds.
+     */
+    public JournalingTutorsPetStorage(SnapshotTutorsPetStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD_BYTES, DEFAULT_COMPACTION_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournalingTutorsPetStorage} that writes snapshots using {@code snapshotStorage}.
+     *
+     * @param compactionThresholdBytes the journal size at which the next save writes a snapshot instead.
+     * @param compactionInterval the snapshot age at which the next save writes a snapshot instead.
+     */
+    public JournalingTutorsPetStorage(SnapshotTutorsPetStorage snapshotStorage, long compactionThresholdBytes,
+                                      Duration compactionInterval) {
+        requireAllNonNull(snapshotStorage, compactionInterval);
+
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactionInterval = compactionInterval;
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return snapshotStorage.getTutorsPetFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException, IOException {
+        return readTutorsPet(getTutorsPetFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyTutorsPet> snapshot = snapshotStorage.readTutorsPet(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<JsonAdaptedJournalEntry> entries =
+                JsonUtil.readJsonValues(journalFilePath, JsonAdaptedJournalEntry.class);
+        Optional<UUID> currentGeneration = snapshotStorage.readGeneration(filePath);
+
+        PersistentList<Student> students = PersistentList.copyOf(snapshot.get().getStudentList());
+        PersistentList<ModuleClass> moduleClasses = PersistentList.copyOf(snapshot.get().getModuleClassList());
+        int replayedCount = 0;
+        TutorsPet tutorsPet;
+        try {
+            for (JsonAdaptedJournalEntry entry : entries) {
+                if (!currentGeneration.isPresent() || !entry.isOfGeneration(currentGeneration.get())) {
+                    // left behind by a compaction that was interrupted after the snapshot was written,
+                    // or by a save to the data file that did not go through this storage
+                    continue;
+                }
+                students = entry.applyToStudents(students);
+                moduleClasses = entry.applyToModuleClasses(moduleClasses);
+                replayedCount++;
+            }
+            tutorsPet = toTutorsPet(students, moduleClasses);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        logger.info("Replayed " + replayedCount + " of " + entries.size() + " journal entries from "
+                + journalFilePath);
+
+        savedFilePath = filePath;
+        savedStudents = tutorsPet.getStudentListSnapshot();
+        savedModuleClasses = tutorsPet.getModuleClassListSnapshot();
+        snapshotGeneration = currentGeneration.orElse(null);
+        snapshotInstant = Instant.now();
+        // a journal that was not cleared may end in a partially written entry, which later entries must not follow,
+        // and entries written against a snapshot without a generation could never be replayed
+        isSnapshotRequired = Files.exists(journalFilePath) || snapshotGeneration == null;
+        return Optional.of(tutorsPet);
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, getTutorsPetFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Only the changes since the last read or save are written, unless a snapshot is due.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireAllNonNull(tutorsPet, filePath);
+
+        // snapshots of TutorsPet data share structure with the ones last saved, so only their changes are compared
+        List<Student> students = tutorsPet.getStudentListSnapshot();
+        List<ModuleClass> moduleClasses = tutorsPet.getModuleClassListSnapshot();
+        if (isSnapshotDue(filePath)) {
+            writeSnapshot(tutorsPet, filePath);
+        } else {
+            List<ListChange<Student>> studentChanges = ListChange.diff(savedStudents, students);
+            List<ListChange<ModuleClass>> moduleClassChanges = ListChange.diff(savedModuleClasses, moduleClasses);
+            if (!studentChanges.isEmpty() || !moduleClassChanges.isEmpty()) {
+                appendJournalEntry(JsonAdaptedJournalEntry.fromChanges(snapshotGeneration, studentChanges,
+                        moduleClassChanges), filePath);
+            }
+        }
+        savedFilePath = filePath;
+        savedStudents = students;
+        savedModuleClasses = moduleClasses;
+    }
+
+    /**
+     * Rewrites the data last read or saved as a snapshot and clears its journal.
+     * Does nothing if nothing has been read or saved.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    @Override
+    public synchronized void compactTutorsPet() throws IOException {
+        if (savedFilePath == null || !Files.exists(getJournalFilePath(savedFilePath))) {
+            return;
+        }
+
+        TutorsPet tutorsPet = new TutorsPet();
+        tutorsPet.setStudents(savedStudents);
+        tutorsPet.setModuleClasses(savedModuleClasses);
+        writeSnapshot(tutorsPet, savedFilePath);
+    }
+
+    private boolean isSnapshotDue(Path filePath) throws IOException {
+        if (!filePath.equals(savedFilePath) || isSnapshotRequired) {
+            return true;
+        }
+        Path journalFilePath = getJournalFilePath(filePath);
+        return (Files.exists(journalFilePath) && Files.size(journalFilePath) >= compactionThresholdBytes)
+                || Duration.between(snapshotInstant, Instant.now()).compareTo(compactionInterval) >= 0;
+    }
+
+    private void appendJournalEntry(JsonAdaptedJournalEntry entry, Path filePath) throws IOException {
+        try {
+            JsonUtil.appendJsonValue(entry, getJournalFilePath(filePath));
+        } catch (IOException e) {
+            // the entry may have been partially written, so no more entries can follow it
+            isSnapshotRequired = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code tutorsPet} as a snapshot, then clears the journal.
+     * If this is interrupted between the two steps, the journal entries are ignored on the next read because they
+     * were written against the generation of the previous snapshot.
+     */
+    private void writeSnapshot(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        UUID generation = UUID.randomUUID();
+        snapshotStorage.saveTutorsPet(tutorsPet, filePath, generation);
+        snapshotGeneration = generation;
+        snapshotInstant = Instant.now();
+        isSnapshotRequired = false;
+        Files.deleteIfExists(getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns a {@code TutorsPet} with the given students and classes.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    private static TutorsPet toTutorsPet(List<Student> students, List<ModuleClass> moduleClasses)
+            throws IllegalValueException {
+        TutorsPetLoader loader = new TutorsPetLoader();
+        for (Student student : students) {
+            loader.addStudent(student);
+        }
+        for (ModuleClass moduleClass : moduleClasses) {
+            loader.addModuleClass(moduleClass);
+        }
+        return loader.toTutorsPet();
+    }
+}
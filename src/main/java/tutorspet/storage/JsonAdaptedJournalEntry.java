@@ -0,0 +1,126 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.ListChange;
+import tutorspet.commons.util.PersistentList;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Jackson-friendly version of the changes made to Tutor's Pet between two saves.
+ * Each entry records the generation of the snapshot it was written against, so that entries left behind by an
+ * interrupted compaction are not replayed against a newer snapshot.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_CHANGE = "Journal entry does not match the data it is applied to.";
+
+    private final String generation;
+    private final List<JsonAdaptedListChange<JsonAdaptedStudent>> students = new ArrayList<>();
+    private final List<JsonAdaptedListChange<JsonAdaptedModuleClass>> classes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("generation") String generation,
+            @JsonProperty("students") List<JsonAdaptedListChange<JsonAdaptedStudent>> students,
+            @JsonProperty("classes") List<JsonAdaptedListChange<JsonAdaptedModuleClass>> classes) {
+        this.generation = generation;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+    }
+
+    /**
+     * Converts the given changes into this class for Jackson use.
+     */
+    public static JsonAdaptedJournalEntry fromChanges(UUID generation, List<ListChange<Student>> studentChanges,
+                                                      List<ListChange<ModuleClass>> moduleClassChanges) {
+        List<JsonAdaptedListChange<JsonAdaptedStudent>> students = new ArrayList<>();
+        for (ListChange<Student> change : studentChanges) {
+            List<JsonAdaptedStudent> added = new ArrayList<>();
+            change.getAdded().forEach(student -> added.add(new JsonAdaptedStudent(student)));
+            students.add(new JsonAdaptedListChange<>(change, added));
+        }
+        List<JsonAdaptedListChange<JsonAdaptedModuleClass>> classes = new ArrayList<>();
+        for (ListChange<ModuleClass> change : moduleClassChanges) {
+            List<JsonAdaptedModuleClass> added = new ArrayList<>();
+            change.getAdded().forEach(moduleClass -> added.add(new JsonAdaptedModuleClass(moduleClass)));
+            classes.add(new JsonAdaptedListChange<>(change, added));
+        }
+        return new JsonAdaptedJournalEntry(generation.toString(), students, classes);
+    }
+
+    /**
+     * Returns true if this entry was written against the snapshot of the given generation.
+     */
+    public boolean isOfGeneration(UUID generation) {
+        return generation.toString().equals(this.generation);
+    }
+
+    /**
+     * Returns {@code studentList} with the student changes of this entry applied.
+     *
+     * @throws IllegalValueException if the changes do not fit {@code studentList} or contain invalid students.
+     */
+    public PersistentList<Student> applyToStudents(PersistentList<Student> studentList) throws IllegalValueException {
+        PersistentList<Student> result = studentList;
+        for (JsonAdaptedListChange<JsonAdaptedStudent> change : students) {
+            List<Student> added = new ArrayList<>();
+            for (JsonAdaptedStudent jsonAdaptedStudent : change.getAdded()) {
+                if (jsonAdaptedStudent == null) {
+                    throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT);
+                }
+                added.add(jsonAdaptedStudent.toModelType());
+            }
+            result = toListChange(change, result, added).applyTo(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns {@code moduleClassList} with the class changes of this entry applied.
+     *
+     * @throws IllegalValueException if the changes do not fit {@code moduleClassList} or contain invalid classes.
+     */
+    public PersistentList<ModuleClass> applyToModuleClasses(PersistentList<ModuleClass> moduleClassList)
+            throws IllegalValueException {
+        PersistentList<ModuleClass> result = moduleClassList;
+        for (JsonAdaptedListChange<JsonAdaptedModuleClass> change : classes) {
+            List<ModuleClass> added = new ArrayList<>();
+            for (JsonAdaptedModuleClass jsonAdaptedModuleClass : change.getAdded()) {
+                if (jsonAdaptedModuleClass == null) {
+                    throw new IllegalValueException(JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS);
+                }
+                added.add(jsonAdaptedModuleClass.toModelType());
+            }
+            result = toListChange(change, result, added).applyTo(result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the {@code ListChange} described by {@code change}, taking the removed elements from {@code list}.
+     */
+    private static <T> ListChange<T> toListChange(JsonAdaptedListChange<?> change, List<T> list, List<T> added)
+            throws IllegalValueException {
+        int index = change.getIndex();
+        int removedCount = change.getRemovedCount();
+        if (index < 0 || removedCount < 0 || index > list.size() - removedCount) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+        return new ListChange<>(index, list.subList(index, index + removedCount), added);
+    }
+}
@@ -118,7 +118,7 @@ public class JsonAdaptedLesson {
         if (!isValidVenue(venue)) {
             throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
         }
-        final Venue modelVenue = new Venue(venue);
+        final Venue modelVenue = Venue.of(venue);
 
         if (attendanceRecordList == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -126,7 +126,7 @@ public class JsonAdaptedLesson {
         }
         final AttendanceRecordList modelAttendanceRecordList = attendanceRecordList.toModelType();
 
-        if (modelAttendanceRecordList.getAttendanceRecordList().size() != modelNumberOfOccurrences.value) {
+        if (modelAttendanceRecordList.getNumberOfWeeks() != modelNumberOfOccurrences.value) {
             throw new IllegalValueException(String.format(INVALID_FIELD_MESSAGE_FORMAT,
                     AttendanceRecordList.class.getSimpleName()));
         }
@@ -0,0 +1,55 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorspet.commons.util.ListChange;
+
+/**
+ * Jackson-friendly version of a {@link ListChange}.
+ * Only the number of removed elements is stored, since they can be found in the list the change is applied to.
+ */
+class JsonAdaptedListChange<T> {
+
+    private final int index;
+    private final int removedCount;
+    private final List<T> added = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedListChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedListChange(@JsonProperty("index") int index,
+                                 @JsonProperty("removedCount") int removedCount,
+                                 @JsonProperty("added") List<T> added) {
+        this.index = index;
+        this.removedCount = removedCount;
+        if (added != null) {
+            this.added.addAll(added);
+        }
+    }
+
+    /**
+     * Converts a given {@code ListChange} into this class for Jackson use.
+     *
+     * @param added the Jackson-friendly versions of the elements added by {@code source}.
+     */
+    public JsonAdaptedListChange(ListChange<?> source, List<T> added) {
+        this(source.getIndex(), source.getRemoved().size(), added);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public List<T> getAdded() {
+        return added;
+    }
+}
@@ -4,6 +4,7 @@ import static java.util.UUID.fromString;
 import static tutorspet.storage.JsonAdaptedStudent.STUDENT_UUID_FIELD;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -29,6 +30,10 @@ public class JsonAdaptedModuleClass {
     public static final String DUPLICATE_LESSON_MESSAGE_FORMAT = "%s contains duplicate lesson(s).";
     public static final String OVERLAP_LESSON_MESSAGE_FORMAT = "%s contains overlapping lesson(s).";
 
+    private static final Comparator<Lesson> LESSON_TIME_ORDER = Comparator.comparing(Lesson::getDay)
+            .thenComparing(Lesson::getStartTime)
+            .thenComparing(Lesson::getEndTime);
+
     private final JsonAdaptedName name;
     private final List<JsonAdaptedUuid> studentUuids = new ArrayList<>();
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
@@ -91,7 +96,7 @@ public class JsonAdaptedModuleClass {
      * Duplicates are detected by calling {@code isSameLesson} method in {@code Lesson} class.
      * Returns true if there is a duplicate.
      */
-    private boolean hasDuplicateLessons(List<Lesson> lessons, Lesson lessonToCheck) {
+    private static boolean hasDuplicateLessons(List<Lesson> lessons, Lesson lessonToCheck) {
         return lessons.stream().anyMatch(lessonToCheck::isSameLesson);
     }
 
@@ -100,7 +105,7 @@ public class JsonAdaptedModuleClass {
      * Overlapping lessons are detected by calling the {@code isOverlapLesson} method in {@code Lesson} class.
      * Returns true if there is an overlap.
      */
-    private boolean hasOverlapLessons(List<Lesson> lessons, Lesson lessonToCheck) {
+    private static boolean hasOverlapLessons(List<Lesson> lessons, Lesson lessonToCheck) {
         return lessons.stream().anyMatch(lessonToCheck::isOverlapLesson);
     }
 
@@ -111,35 +116,83 @@ public class JsonAdaptedModuleClass {
      */
     private List<Lesson> getLessonList() throws IllegalValueException {
         List<Lesson> lessonList = new ArrayList<>();
-        for (JsonAdaptedLesson jsonLesson : lessons) {
-            if (jsonLesson == null) {
-                throw new IllegalValueException(
-                        String.format(MISSING_FIELD_MESSAGE_FORMAT, Lesson.class.getSimpleName()));
+        try {
+            for (JsonAdaptedLesson jsonLesson : lessons) {
+                if (jsonLesson == null) {
+                    throw new IllegalValueException(
+                            String.format(MISSING_FIELD_MESSAGE_FORMAT, Lesson.class.getSimpleName()));
+                }
+
+                lessonList.add(jsonLesson.toModelType());
             }
+        } catch (IllegalValueException ive) {
+            // duplicate or overlapping lessons before the invalid lesson are reported first
+            validateLessons(lessonList);
+            throw ive;
+        }
+        validateLessons(lessonList);
+        return lessonList;
+    }
+
+    /**
+     * Checks that no two lessons in {@code lessonList} are duplicates or overlap.
+     * The lessons are sorted by day and time, so that any conflicts are found in a single pass.
+     *
+     * @throws IllegalValueException if any of the {@code Lesson}s are duplicate or overlap.
+     */
+    static void validateLessons(List<Lesson> lessonList) throws IllegalValueException {
+        if (!hasConflictingLessons(lessonList)) {
+            return;
+        }
 
-            if (hasDuplicateLessons(lessonList, jsonLesson.toModelType())) {
+        // find the first conflicting lesson in list order, so the message is the same as when each lesson was checked
+        // against all the lessons before it
+        List<Lesson> checkedLessons = new ArrayList<>();
+        for (Lesson lesson : lessonList) {
+            if (hasDuplicateLessons(checkedLessons, lesson)) {
                 throw new IllegalValueException(String.format(DUPLICATE_LESSON_MESSAGE_FORMAT,
                         ModuleClass.class.getSimpleName()));
-            } else if (hasOverlapLessons(lessonList, jsonLesson.toModelType())) {
+            } else if (hasOverlapLessons(checkedLessons, lesson)) {
                 throw new IllegalValueException(String.format(OVERLAP_LESSON_MESSAGE_FORMAT,
                         ModuleClass.class.getSimpleName()));
-            } else {
-                lessonList.add(jsonLesson.toModelType());
             }
+            checkedLessons.add(lesson);
         }
-        return lessonList;
+    }
+
+    /**
+     * Returns true if any two lessons in {@code lessonList} are duplicates or overlap.
+     */
+    private static boolean hasConflictingLessons(List<Lesson> lessonList) {
+        List<Lesson> sortedLessons = new ArrayList<>(lessonList);
+        sortedLessons.sort(LESSON_TIME_ORDER);
+
+        // a lesson overlaps an earlier lesson on the same day if and only if it overlaps the one that ends last
+        Lesson previousLesson = null;
+        Lesson lastEndingLesson = null;
+        for (Lesson lesson : sortedLessons) {
+            if (lesson.isSameLesson(previousLesson)
+                    || (lastEndingLesson != null && lesson.isOverlapLesson(lastEndingLesson))) {
+                return true;
+            }
+            if (lastEndingLesson == null || lastEndingLesson.getDay() != lesson.getDay()
+                    || lesson.getEndTime().isAfter(lastEndingLesson.getEndTime())) {
+                lastEndingLesson = lesson;
+            }
+            previousLesson = lesson;
+        }
+        return false;
     }
 
     private void validateAttendanceRecords(List<Lesson> lessonList, Set<UUID> studentUuids)
             throws IllegalValueException {
-        Set<UUID> students = lessonList.stream().flatMap(lesson ->
-                lesson.getAttendanceRecordList().getAttendanceRecordList().stream()
-                        .flatMap(record -> record.getAttendanceRecord().keySet().stream()))
-                .collect(Collectors.toUnmodifiableSet());
-        for (UUID studentUuid : students) {
-            if (!studentUuids.contains(studentUuid)) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
-            }
+        // the students are read from the rows of each attendance matrix, without creating a record for each week
+        Set<UUID> students = new HashSet<>();
+        for (Lesson lesson : lessonList) {
+            lesson.getAttendanceRecordList().forEachStudentUuid(students::add);
+        }
+        if (!studentUuids.containsAll(students)) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_LESSON);
         }
     }
 
@@ -0,0 +1,65 @@
+package tutorspet.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedTutorsPetStorage}.
+ * It names the shard file that holds the students, and the shard files that hold the classes in their list order.
+ */
+class JsonAdaptedShardManifest {
+
+    public static final String MESSAGE_INVALID_SHARD = "Manifest contains an invalid shard file name.";
+
+    // shard files are always in the shard directory, so their names cannot contain any path separators
+    private static final Pattern SHARD_FILE_NAME_PATTERN = Pattern.compile("[\\w-]+\\.json");
+
+    private final String students;
+    private final List<String> classes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedShardManifest} with the given shard file names.
+     */
+    @JsonCreator
+    public JsonAdaptedShardManifest(@JsonProperty("students") String students,
+                                    @JsonProperty("classes") List<String> classes) {
+        this.students = students;
+        if (classes != null) {
+            this.classes.addAll(classes);
+        }
+    }
+
+    /**
+     * Returns the name of the shard file that holds the students.
+     *
+     * @throws IllegalValueException if the name is missing or not a valid shard file name.
+     */
+    public String getStudents() throws IllegalValueException {
+        checkShardFileName(students);
+        return students;
+    }
+
+    /**
+     * Returns the names of the shard files that hold the classes, in the order of the classes.
+     *
+     * @throws IllegalValueException if any name is missing or not a valid shard file name.
+     */
+    public List<String> getClasses() throws IllegalValueException {
+        for (String shardFileName : classes) {
+            checkShardFileName(shardFileName);
+        }
+        return new ArrayList<>(classes);
+    }
+
+    private static void checkShardFileName(String shardFileName) throws IllegalValueException {
+        if (shardFileName == null || !SHARD_FILE_NAME_PATTERN.matcher(shardFileName).matches()) {
+            throw new IllegalValueException(MESSAGE_INVALID_SHARD);
+        }
+    }
+}
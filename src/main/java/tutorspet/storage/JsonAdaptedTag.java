@@ -46,6 +46,6 @@ public class JsonAdaptedTag {
         if (Objects.isNull(tagName) || !isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 }
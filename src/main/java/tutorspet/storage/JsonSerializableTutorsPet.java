@@ -1,22 +1,16 @@
 package tutorspet.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.TutorsPet;
-import tutorspet.model.moduleclass.ModuleClass;
-import tutorspet.model.student.Student;
 
 
 /**
@@ -31,6 +25,10 @@ class JsonSerializableTutorsPet {
     public static final String MESSAGE_INVALID_MODULE_CLASS = "Invalid class.";
     public static final String MESSAGE_INVALID_STUDENTS_IN_CLASS = "Invalid student(s) found in class(es).";
 
+    static final String GENERATION_FIELD = "generation";
+    static final String STUDENTS_FIELD = "students";
+    static final String CLASSES_FIELD = "classes";
+
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedModuleClass> classes = new ArrayList<>();
 
@@ -56,57 +54,23 @@ class JsonSerializableTutorsPet {
     }
 
     /**
-     * Converts students into the model's {@code TutorsPet} object.
+     * Converts students into the model's {@code Student} objects and adds them to {@code loader}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    private void studentsToModelType(TutorsPet tutorsPet) throws IllegalValueException {
+    private void studentsToModelType(TutorsPetLoader loader) throws IllegalValueException {
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            if (jsonAdaptedStudent == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENT);
-            }
-
-            Student student = jsonAdaptedStudent.toModelType();
-            if (tutorsPet.hasStudent(student) || tutorsPet.hasStudentUuid(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            tutorsPet.addStudent(student);
+            loader.addStudent(jsonAdaptedStudent);
         }
     }
 
     /**
-     * Converts classes into the model's {@code TutorsPet} object.
+     * Converts classes into the model's {@code ModuleClass} objects and adds them to {@code loader}.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
-    private void classesToModelType(TutorsPet tutorsPet) throws IllegalValueException {
-        // Get all UUIDs under "students" field in tutorspet.json.
-        ObservableList<Student> students = tutorsPet.getStudentList();
-        Set<UUID> uniqueStudentUuids = new HashSet<>();
-        for (Student student : students) {
-            uniqueStudentUuids.add(student.getUuid());
-        }
-
-        for (JsonAdaptedModuleClass jsonAdaptedModuleClass : classes) {
-            if (jsonAdaptedModuleClass == null) {
-                throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
-            }
-
-            ModuleClass moduleClass = jsonAdaptedModuleClass.toModelType();
-            if (tutorsPet.hasModuleClass(moduleClass)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
-            }
-
-            // Check that the set of student UUIDs within a class is a subset of
-            // all student UUIDs in uniqueStudentUuids. Otherwise, Tutor's Pet will not
-            // boot up due to data corruption.
-            Set<UUID> moduleClassStudentUuids = moduleClass.getStudentUuids();
-            if (!uniqueStudentUuids.containsAll(moduleClassStudentUuids)) {
-                throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS);
-            }
-
-            tutorsPet.addModuleClass(moduleClass);
-        }
+    private void classesToModelType(TutorsPetLoader loader) throws IllegalValueException {
+        loader.addModuleClasses(classes);
     }
 
     /**
@@ -115,9 +79,9 @@ class JsonSerializableTutorsPet {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TutorsPet toModelType() throws IllegalValueException {
-        TutorsPet tutorsPet = new TutorsPet();
-        studentsToModelType(tutorsPet);
-        classesToModelType(tutorsPet);
-        return tutorsPet;
+        TutorsPetLoader loader = new TutorsPetLoader();
+        studentsToModelType(loader);
+        classesToModelType(loader);
+        return loader.toTutorsPet();
     }
 }
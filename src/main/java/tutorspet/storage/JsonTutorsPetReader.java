@@ -0,0 +1,131 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.TutorsPet;
+
+/**
+ * Reads a {@code TutorsPet} stored in the format of {@link JsonSerializableTutorsPet} one student or class at a time,
+ * so that the whole file is never held in memory. The classes are converted in parallel, a batch at a time.
+ * The data is checked in the same way, and with the same messages, as {@link JsonSerializableTutorsPet#toModelType()}.
+ */
+class JsonTutorsPetReader {
+
+    public static final String MESSAGE_NOT_JSON_OBJECT = "Tutor's Pet data must be a JSON object.";
+    public static final String MESSAGE_NOT_JSON_ARRAY_FORMAT = "Tutor's Pet %s must be a JSON array.";
+
+    /** The number of classes that are read before they are converted together. */
+    static final int MODULE_CLASS_BATCH_SIZE = 256;
+
+    private final JsonParser parser;
+
+    /**
+     * Creates a {@code JsonTutorsPetReader} that reads from {@code parser}, which must be at the start of the data.
+     */
+    public JsonTutorsPetReader(JsonParser parser) {
+        requireNonNull(parser);
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the data into the model's {@code TutorsPet} object.
+     *
+     * @throws IOException if the data is not valid JSON or cannot be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public TutorsPet read() throws IOException, IllegalValueException {
+        TutorsPetLoader loader = new TutorsPetLoader();
+        readInto(loader);
+        return loader.toTutorsPet();
+    }
+
+    /**
+     * Reads the data into {@code loader}, to which no students or classes have been added.
+     * More classes may be added to {@code loader} afterwards.
+     *
+     * @throws IOException if the data is not valid JSON or cannot be read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void readInto(TutorsPetLoader loader) throws IOException, IllegalValueException {
+        requireNonNull(loader);
+
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, MESSAGE_NOT_JSON_OBJECT);
+        }
+
+        // Classes are checked against the students, so they are only converted once all students are read.
+        // Classes that come after the students are converted in batches, so that only one batch is held in memory.
+        List<JsonAdaptedModuleClass> jsonAdaptedModuleClasses = new ArrayList<>();
+        boolean hasReadStudents = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (JsonSerializableTutorsPet.STUDENTS_FIELD.equals(fieldName)) {
+                while (nextElement(fieldName)) {
+                    loader.addStudent(parser.readValueAs(JsonAdaptedStudent.class));
+                }
+                hasReadStudents = true;
+            } else if (JsonSerializableTutorsPet.CLASSES_FIELD.equals(fieldName)) {
+                while (nextElement(fieldName)) {
+                    jsonAdaptedModuleClasses.add(parser.readValueAs(JsonAdaptedModuleClass.class));
+                    if (hasReadStudents && jsonAdaptedModuleClasses.size() == MODULE_CLASS_BATCH_SIZE) {
+                        loader.addModuleClasses(jsonAdaptedModuleClasses);
+                        jsonAdaptedModuleClasses.clear();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        loader.addModuleClasses(jsonAdaptedModuleClasses);
+    }
+
+    /**
+     * Reads the generation the data was saved with, which is written as its first field, without reading the rest of
+     * the data. Returns {@code Optional.empty()} if the data has no valid generation.
+     *
+     * @throws IOException if the data is not a JSON object or cannot be read.
+     */
+    public Optional<UUID> readGeneration() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw JsonMappingException.from(parser, MESSAGE_NOT_JSON_OBJECT);
+        }
+        if (parser.nextToken() != JsonToken.FIELD_NAME
+                || !JsonSerializableTutorsPet.GENERATION_FIELD.equals(parser.getCurrentName())
+                || parser.nextToken() != JsonToken.VALUE_STRING) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new JsonAdaptedUuid(parser.getText()).toModelType());
+        } catch (IllegalValueException ive) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Moves the parser to the next element of the array value of {@code fieldName}.
+     * Returns false once there are no more elements. A null value is read as an empty array.
+     */
+    private boolean nextElement(String fieldName) throws IOException {
+        // the parser is within the array from its start token until its end token
+        if (parser.getParsingContext().inArray()) {
+            return parser.nextToken() != JsonToken.END_ARRAY;
+        } else if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        throw JsonMappingException.from(parser, String.format(MESSAGE_NOT_JSON_ARRAY_FORMAT, fieldName));
+    }
+}
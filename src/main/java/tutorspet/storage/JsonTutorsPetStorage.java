@@ -3,10 +3,15 @@ package tutorspet.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.commons.exceptions.IllegalValueException;
@@ -17,14 +22,25 @@ import tutorspet.model.ReadOnlyTutorsPet;
 /**
  * A class to access TutorsPet data stored as a json file on the hard disk.
  */
-public class JsonTutorsPetStorage implements TutorsPetStorage {
+public class JsonTutorsPetStorage implements SnapshotTutorsPetStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTutorsPetStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonTutorsPetStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonTutorsPetStorage} for the file at {@code filePath}.
+     *
+     * @param isCompact whether the file is written without indentation, which makes it smaller and faster to write.
+     */
+    public JsonTutorsPetStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getTutorsPetFilePath() {
@@ -38,6 +54,7 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
 
     /**
      * Similar to {@link #readTutorsPet()}.
+     * The file is read one student or class at a time, so it is never held in memory as a whole.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +62,35 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
     public Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTutorsPet> jsonTutorsPet = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTutorsPet.class);
-        if (!jsonTutorsPet.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTutorsPet.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return Optional.of(new JsonTutorsPetReader(parser).read());
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    @Override
+    public Optional<UUID> readGeneration(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return new JsonTutorsPetReader(parser).readGeneration();
+        }
+    }
+
     @Override
     public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
         saveTutorsPet(tutorsPet, filePath);
@@ -66,6 +98,7 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
 
     /**
      * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * The file is written one student or class at a time, so the JSON is never held in memory as a whole.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -74,6 +107,29 @@ public class JsonTutorsPetStorage implements TutorsPetStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTutorsPet(tutorsPet), filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, !isCompact)) {
+                new JsonTutorsPetWriter(generator).write(tutorsPet);
+            }
+        });
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath, UUID generation) throws IOException {
+        requireNonNull(tutorsPet);
+        requireNonNull(filePath);
+        requireNonNull(generation);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, !isCompact)) {
+                new JsonTutorsPetWriter(generator).write(tutorsPet, generation);
+            }
+        });
+    }
+
+    @Override
+    public void compactTutorsPet() {
+        // every save already writes the whole data file
     }
 }
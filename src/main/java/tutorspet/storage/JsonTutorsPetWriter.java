@@ -0,0 +1,85 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * Writes a {@code ReadOnlyTutorsPet} in the format of {@link JsonSerializableTutorsPet} one student or class at a
+ * time, so that neither the JSON nor a {@code JsonSerializableTutorsPet} of the data is held in memory.
+ */
+class JsonTutorsPetWriter {
+
+    private final JsonGenerator generator;
+
+    /**
+     * Creates a {@code JsonTutorsPetWriter} that writes to {@code generator}.
+     */
+    public JsonTutorsPetWriter(JsonGenerator generator) {
+        requireNonNull(generator);
+        this.generator = generator;
+    }
+
+    /**
+     * Writes {@code tutorsPet} and flushes the generator.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    public void write(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        requireNonNull(tutorsPet);
+
+        write(tutorsPet.getStudentList(), tutorsPet.getModuleClassList());
+    }
+
+    /**
+     * Writes {@code tutorsPet}, marked with {@code generation}, and flushes the generator.
+     * The generation is written first, so that it can be read without reading the rest of the data.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    public void write(ReadOnlyTutorsPet tutorsPet, UUID generation) throws IOException {
+        requireAllNonNull(tutorsPet, generation);
+
+        generator.writeStartObject();
+        generator.writeStringField(JsonSerializableTutorsPet.GENERATION_FIELD, generation.toString());
+        writeFields(tutorsPet.getStudentList(), tutorsPet.getModuleClassList());
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    /**
+     * Writes the given students and classes and flushes the generator.
+     *
+     * @throws IOException if the data cannot be written.
+     */
+    public void write(List<Student> students, List<ModuleClass> moduleClasses) throws IOException {
+        requireAllNonNull(students, moduleClasses);
+
+        generator.writeStartObject();
+        writeFields(students, moduleClasses);
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private void writeFields(List<Student> students, List<ModuleClass> moduleClasses) throws IOException {
+        generator.writeArrayFieldStart(JsonSerializableTutorsPet.STUDENTS_FIELD);
+        for (Student student : students) {
+            generator.writeObject(new JsonAdaptedStudent(student));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(JsonSerializableTutorsPet.CLASSES_FIELD);
+        for (ModuleClass moduleClass : moduleClasses) {
+            generator.writeObject(new JsonAdaptedModuleClass(moduleClass));
+        }
+        generator.writeEndArray();
+    }
+}
@@ -1,11 +1,17 @@
 package tutorspet.storage;
 
+import static tutorspet.model.VersionedTutorsPet.DEFAULT_HISTORY_LIMIT;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import tutorspet.commons.core.LogsCenter;
 import tutorspet.commons.exceptions.DataConversionException;
 import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.DataFileFormat;
+import tutorspet.model.HistoryMode;
 import tutorspet.model.ReadOnlyUserPrefs;
 import tutorspet.model.UserPrefs;
 
@@ -14,6 +20,8 @@ import tutorspet.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -33,10 +41,39 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     /**
      * Similar to {@link #readUserPrefs()}
      * @param prefsFilePath location of the data. Cannot be null.
+     * Invalid values in the file are replaced with their default values.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> replaceInvalidValues(prefs, prefsFilePath));
+        return userPrefs;
+    }
+
+    /**
+     * Replaces the values in {@code userPrefs} that were read without going through its setters, and are invalid,
+     * with their default values.
+     */
+    private static void replaceInvalidValues(UserPrefs userPrefs, Path prefsFilePath) {
+        if (userPrefs.getHistoryMode() == null) {
+            logger.warning("Missing history mode in " + prefsFilePath + ", using " + HistoryMode.SNAPSHOT);
+            userPrefs.setHistoryMode(HistoryMode.SNAPSHOT);
+        }
+        if (userPrefs.getHistoryLimit() <= 0) {
+            logger.warning("Invalid history limit " + userPrefs.getHistoryLimit() + " in " + prefsFilePath
+                    + ", using " + DEFAULT_HISTORY_LIMIT);
+            userPrefs.setHistoryLimit(DEFAULT_HISTORY_LIMIT);
+        }
+        if (userPrefs.getDataFileFormat() == null) {
+            logger.warning("Missing data file format in " + prefsFilePath + ", using " + DataFileFormat.JSON);
+            userPrefs.setDataFileFormat(DataFileFormat.JSON);
+        }
+        if (userPrefs.getLastDataFileFormat() == null) {
+            // assume the data file is already in the chosen format, so that nothing is overwritten by a conversion
+            logger.warning("Missing last data file format in " + prefsFilePath + ", using "
+                    + userPrefs.getDataFileFormat());
+            userPrefs.setLastDataFileFormat(userPrefs.getDataFileFormat());
+        }
     }
 
     @Override
@@ -0,0 +1,308 @@
+package tutorspet.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorspet.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import tutorspet.commons.core.LogsCenter;
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.FileUtil;
+import tutorspet.commons.util.FileUtil.ContentWriter;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.commons.util.ListChange;
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+
+/**
+ * A class to access TutorsPet data stored as a directory of json shard files on the hard disk.
+ * The students are stored in one shard, and each class, with its lessons and attendance, in a shard of its own.
+ * A manifest file names the shards that make up the data.
+ * Saving only writes the shards whose contents changed since the last read or save, in parallel, so changing one
+ * class does not rewrite the others.
+ */
+public class ShardedTutorsPetStorage implements TutorsPetStorage {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String SHARD_DIRECTORY_NAME = "shards";
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s named in the manifest is missing.";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTutorsPetStorage.class);
+    private static final String STUDENTS_SHARD_PREFIX = "students-";
+    private static final String CLASS_SHARD_PREFIX = "class-";
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private final Path filePath;
+    private final boolean isCompact;
+
+    // The data last read or saved, and the shards it is stored in. Saves to other files write every shard.
+    private Path savedFilePath;
+    private List<Student> savedStudents;
+    private String savedStudentsShard;
+    private List<String> savedModuleClassShards;
+    private Map<ModuleClass, String> savedModuleClassShardMap = new IdentityHashMap<>();
+
+    public ShardedTutorsPetStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code ShardedTutorsPetStorage} with its manifest at {@code filePath}.
+     * The shards are kept in a directory next to the manifest.
+     *
+     * @param isCompact whether the shards are written without indentation, which makes them smaller and faster to
+     *                  write.
+     */
+    public ShardedTutorsPetStorage(Path filePath, boolean isCompact) {
+        requireNonNull(filePath);
+
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the manifest of the sharded data that is kept instead of the data file at
+     * {@code jsonFilePath}, in a directory named after the data file, e.g. {@code data/tutorspet/manifest.json}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName).resolve(MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the path of the directory that holds the shards named in the manifest at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        return filePath.resolveSibling(SHARD_DIRECTORY_NAME);
+    }
+
+    @Override
+    public Path getTutorsPetFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTutorsPet> readTutorsPet() throws DataConversionException {
+        return readTutorsPet(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTutorsPet()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or any shard is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyTutorsPet> readTutorsPet(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonAdaptedShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonAdaptedShardManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Map<ModuleClass, String> moduleClassShardMap = new IdentityHashMap<>();
+        String studentsShard;
+        List<String> moduleClassShards;
+        TutorsPet tutorsPet;
+        try {
+            studentsShard = manifest.get().getStudents();
+            TutorsPetLoader loader = new TutorsPetLoader();
+            readStudentsShard(shardDirectoryPath.resolve(studentsShard), loader);
+            moduleClassShards = manifest.get().getClasses();
+            List<JsonAdaptedModuleClass> jsonAdaptedModuleClasses = new ArrayList<>();
+            for (String moduleClassShard : moduleClassShards) {
+                jsonAdaptedModuleClasses.add(readModuleClassShard(shardDirectoryPath.resolve(moduleClassShard)));
+            }
+            loader.addModuleClasses(jsonAdaptedModuleClasses);
+            tutorsPet = loader.toTutorsPet();
+            for (int i = 0; i < moduleClassShards.size(); i++) {
+                moduleClassShardMap.put(tutorsPet.getModuleClassList().get(i), moduleClassShards.get(i));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        savedFilePath = filePath;
+        savedStudents = tutorsPet.getStudentListSnapshot();
+        savedStudentsShard = studentsShard;
+        savedModuleClassShards = moduleClassShards;
+        savedModuleClassShardMap = moduleClassShardMap;
+        return Optional.of(tutorsPet);
+    }
+
+    @Override
+    public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        saveTutorsPet(tutorsPet, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTutorsPet(ReadOnlyTutorsPet)}.
+     * Only the shards that changed since the last read or save are written, and the manifest is only written if any
+     * shard was written or the classes were reordered.
+     * The manifest is written after the shards, so the data is never left partially saved.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+        requireAllNonNull(tutorsPet, filePath);
+
+        boolean isSavedFile = filePath.equals(savedFilePath);
+        List<Student> students = new ArrayList<>(tutorsPet.getStudentList());
+        Map<String, ContentWriter> changedShards = new LinkedHashMap<>();
+
+        String studentsShard = savedStudentsShard;
+        if (!isSavedFile || !ListChange.diff(savedStudents, students).isEmpty()) {
+            studentsShard = createShardFileName(STUDENTS_SHARD_PREFIX);
+            changedShards.put(studentsShard, out -> {
+                try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, !isCompact)) {
+                    new JsonTutorsPetWriter(generator).write(students, Collections.emptyList());
+                }
+            });
+        }
+
+        // classes are immutable, so a class that is the same object as one already saved is still in its shard
+        List<String> moduleClassShards = new ArrayList<>();
+        Map<ModuleClass, String> moduleClassShardMap = new IdentityHashMap<>();
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            String moduleClassShard = isSavedFile ? savedModuleClassShardMap.get(moduleClass) : null;
+            if (moduleClassShard == null) {
+                moduleClassShard = createShardFileName(CLASS_SHARD_PREFIX);
+                changedShards.put(moduleClassShard, out -> {
+                    try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, !isCompact)) {
+                        generator.writeObject(new JsonAdaptedModuleClass(moduleClass));
+                    }
+                });
+            }
+            moduleClassShards.add(moduleClassShard);
+            moduleClassShardMap.put(moduleClass, moduleClassShard);
+        }
+
+        if (changedShards.isEmpty() && moduleClassShards.equals(savedModuleClassShards)) {
+            return;
+        }
+
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectoryPath);
+        writeShards(shardDirectoryPath, changedShards);
+        JsonUtil.saveJsonFile(new JsonAdaptedShardManifest(studentsShard, moduleClassShards), filePath);
+        logger.fine("Wrote " + changedShards.size() + " shards of " + filePath);
+
+        Set<String> usedShards = new HashSet<>(moduleClassShards);
+        usedShards.add(studentsShard);
+        deleteUnusedShards(shardDirectoryPath, usedShards);
+
+        savedFilePath = filePath;
+        savedStudents = students;
+        savedStudentsShard = studentsShard;
+        savedModuleClassShards = moduleClassShards;
+        savedModuleClassShardMap = moduleClassShardMap;
+    }
+
+    @Override
+    public void compactTutorsPet() {
+        // shards are always written whole, so there is nothing to compact
+    }
+
+    /**
+     * Reads the students in the shard at {@code shardFilePath} into {@code loader}.
+     *
+     * @throws DataConversionException if the shard cannot be read.
+     * @throws IllegalValueException if the shard is missing or there were any data constraints violated.
+     */
+    private static void readStudentsShard(Path shardFilePath, TutorsPetLoader loader)
+            throws DataConversionException, IllegalValueException {
+        if (!Files.exists(shardFilePath)) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath.getFileName()));
+        }
+
+        try (JsonParser parser = JsonUtil.createJsonParser(shardFilePath)) {
+            new JsonTutorsPetReader(parser).readInto(loader);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + shardFilePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the class in the shard at {@code shardFilePath}.
+     *
+     * @throws DataConversionException if the shard cannot be read.
+     * @throws IllegalValueException if the shard is missing.
+     */
+    private static JsonAdaptedModuleClass readModuleClassShard(Path shardFilePath)
+            throws DataConversionException, IllegalValueException {
+        Optional<JsonAdaptedModuleClass> jsonAdaptedModuleClass =
+                JsonUtil.readJsonFile(shardFilePath, JsonAdaptedModuleClass.class);
+        if (!jsonAdaptedModuleClass.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath.getFileName()));
+        }
+        return jsonAdaptedModuleClass.get();
+    }
+
+    /**
+     * Writes the given shards to {@code shardDirectoryPath} in parallel.
+     * Shards are never overwritten, because each is written to a new file, so the data is intact if this fails.
+     */
+    private static void writeShards(Path shardDirectoryPath, Map<String, ContentWriter> shards) throws IOException {
+        try {
+            shards.entrySet().parallelStream().forEach(shard -> {
+                try {
+                    FileUtil.writeToFile(shardDirectoryPath.resolve(shard.getKey()), shard.getValue());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Deletes the shards in {@code shardDirectoryPath} that are not in {@code usedShards}, such as those replaced by
+     * the last save, or those left behind by a save that was interrupted before the manifest was written.
+     * Failures are only logged, as the data has already been saved.
+     */
+    private static void deleteUnusedShards(Path shardDirectoryPath, Set<String> usedShards) {
+        try (DirectoryStream<Path> shardFilePaths =
+                     Files.newDirectoryStream(shardDirectoryPath, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path shardFilePath : shardFilePaths) {
+                if (!usedShards.contains(shardFilePath.getFileName().toString())) {
+                    Files.deleteIfExists(shardFilePath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete unused shards in " + shardDirectoryPath + ": " + e);
+        }
+    }
+
+    private static String createShardFileName(String prefix) {
+        return prefix + UUID.randomUUID() + SHARD_FILE_EXTENSION;
+    }
+}
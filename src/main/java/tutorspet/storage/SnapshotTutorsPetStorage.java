@@ -0,0 +1,32 @@
+package tutorspet.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+
+/**
+ * Represents a storage for {@link tutorspet.model.TutorsPet} that writes the whole data on every save, and can mark
+ * the data written with a generation that identifies that save.
+ */
+public interface SnapshotTutorsPetStorage extends TutorsPetStorage {
+
+    /**
+     * Returns the generation the data at {@code filePath} was saved with, without reading the rest of the data.
+     *   Returns {@code Optional.empty()} if the file is not found, or the data was saved without a generation.
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    Optional<UUID> readGeneration(Path filePath) throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyTutorsPet} to {@code filePath}, marked with {@code generation}.
+     * Data saved by {@link #saveTutorsPet(ReadOnlyTutorsPet, Path)} is not marked with a generation used by any
+     * other save.
+     * @param tutorsPet cannot be null.
+     * @param generation cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath, UUID generation) throws IOException;
+}
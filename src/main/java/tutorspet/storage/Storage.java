@@ -28,4 +28,18 @@ public interface Storage extends TutorsPetStorage, UserPrefsStorage {
 
     @Override
     void saveTutorsPet(ReadOnlyTutorsPet tutorsPet) throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyTutorsPet} to the storage on a background thread.
+     * Saves requested in quick succession are coalesced, so only the latest data is written.
+     * @param tutorsPet cannot be null.
+     * @throws IOException if the previous background save failed. {@code tutorsPet} is still scheduled to be saved.
+     */
+    void saveTutorsPetInBackground(ReadOnlyTutorsPet tutorsPet) throws IOException;
+
+    /**
+     * Waits until all background saves have been written to the storage.
+     * @throws IOException if the last background save failed.
+     */
+    void flushTutorsPet() throws IOException;
 }
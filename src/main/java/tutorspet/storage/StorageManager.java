@@ -19,6 +19,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TutorsPetStorage tutorsPetStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundTutorsPetSaver backgroundTutorsPetSaver;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TutorsPetStorage} and {@code UserPrefStorage}.
@@ -27,6 +28,7 @@ public class StorageManager implements Storage {
         super();
         this.tutorsPetStorage = tutorsPetStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.backgroundTutorsPetSaver = new BackgroundTutorsPetSaver(tutorsPetStorage);
     }
 
     // ================ UserPrefs methods ==============================
@@ -75,4 +77,21 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         tutorsPetStorage.saveTutorsPet(tutorsPet, filePath);
     }
+
+    @Override
+    public void saveTutorsPetInBackground(ReadOnlyTutorsPet tutorsPet) throws IOException {
+        logger.fine("Scheduling a write to data file: " + tutorsPetStorage.getTutorsPetFilePath());
+        backgroundTutorsPetSaver.save(tutorsPet);
+    }
+
+    @Override
+    public void flushTutorsPet() throws IOException {
+        backgroundTutorsPetSaver.flush();
+    }
+
+    @Override
+    public void compactTutorsPet() throws IOException {
+        logger.fine("Attempting to compact data file: " + tutorsPetStorage.getTutorsPetFilePath());
+        tutorsPetStorage.compactTutorsPet();
+    }
 }
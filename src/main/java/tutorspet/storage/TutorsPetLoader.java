@@ -0,0 +1,161 @@
+package tutorspet.storage;
+
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.components.name.Name;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+import tutorspet.model.student.Telegram;
+
+/**
+ * Builds a {@code TutorsPet} from students and classes that are loaded one at a time, checking them in the same way,
+ * and with the same messages, as {@link JsonSerializableTutorsPet#toModelType()}.
+ * Uniqueness is checked with hash sets as the data is added, and each list of the {@code TutorsPet} is only set once,
+ * by {@link #toTutorsPet()}, so loading takes linear time and each list reports a single change.
+ * All students must be added before any class, as the students of each class are checked when it is added.
+ */
+class TutorsPetLoader {
+
+    private final List<Student> students = new ArrayList<>();
+    private final Set<Telegram> studentTelegrams = new HashSet<>();
+    private final Set<Email> studentEmails = new HashSet<>();
+    private final Set<UUID> studentUuids = new HashSet<>();
+    private final List<ModuleClass> moduleClasses = new ArrayList<>();
+    private final Set<Name> moduleClassNames = new HashSet<>();
+
+    /**
+     * Converts {@code jsonAdaptedStudent} into a {@code Student} and adds it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void addStudent(JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException {
+        if (jsonAdaptedStudent == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENT);
+        }
+
+        addStudent(jsonAdaptedStudent.toModelType());
+    }
+
+    /**
+     * Adds {@code student}.
+     *
+     * @throws IllegalValueException if {@code student} is a duplicate of, or has the same UUID as, a student that was
+     *     already added.
+     */
+    public void addStudent(Student student) throws IllegalValueException {
+        // a student is the same as another if either the telegram or the email is the same
+        if (studentTelegrams.contains(student.getTelegram()) || studentEmails.contains(student.getEmail())
+                || studentUuids.contains(student.getUuid())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        }
+
+        studentTelegrams.add(student.getTelegram());
+        studentEmails.add(student.getEmail());
+        studentUuids.add(student.getUuid());
+        students.add(student);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedModuleClasses} into {@code ModuleClass}es and adds them in order.
+     * Each class is converted independently, so the conversions run in parallel on the common fork-join pool.
+     * The classes are then added one at a time, so the error reported is the same as if they were also converted
+     * one at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void addModuleClasses(List<JsonAdaptedModuleClass> jsonAdaptedModuleClasses)
+            throws IllegalValueException {
+        List<ModuleClassConversion> conversions = jsonAdaptedModuleClasses.parallelStream()
+                .map(ModuleClassConversion::new)
+                .collect(Collectors.toList());
+        for (ModuleClassConversion conversion : conversions) {
+            addModuleClass(conversion.getModuleClass());
+        }
+    }
+
+    /**
+     * Adds {@code moduleClass}.
+     *
+     * @throws IllegalValueException if {@code moduleClass} is a duplicate of a class that was already added, or has
+     *     students that were not added.
+     */
+    public void addModuleClass(ModuleClass moduleClass) throws IllegalValueException {
+        if (moduleClassNames.contains(moduleClass.getName())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_MODULE_CLASS);
+        }
+
+        // Check that the set of student UUIDs within a class is a subset of
+        // all student UUIDs. Otherwise, Tutor's Pet will not
+        // boot up due to data corruption.
+        if (!studentUuids.containsAll(moduleClass.getStudentUuids())) {
+            throw new IllegalValueException(MESSAGE_INVALID_STUDENTS_IN_CLASS);
+        }
+
+        moduleClassNames.add(moduleClass.getName());
+        moduleClasses.add(moduleClass);
+    }
+
+    /**
+     * Returns a {@code TutorsPet} with the students and classes added so far, in the order they were added.
+     */
+    public TutorsPet toTutorsPet() {
+        TutorsPet tutorsPet = new TutorsPet();
+        tutorsPet.setStudents(students);
+        tutorsPet.setModuleClasses(moduleClasses);
+        return tutorsPet;
+    }
+
+    /**
+     * The result of converting a {@code JsonAdaptedModuleClass}, which holds either the class or the reason it could
+     * not be converted.
+     */
+    private static class ModuleClassConversion {
+
+        private final ModuleClass moduleClass;
+        private final IllegalValueException exception;
+
+        /**
+         * Converts {@code jsonAdaptedModuleClass}, which may be null.
+         */
+        ModuleClassConversion(JsonAdaptedModuleClass jsonAdaptedModuleClass) {
+            ModuleClass convertedModuleClass = null;
+            IllegalValueException conversionException = null;
+            try {
+                if (jsonAdaptedModuleClass == null) {
+                    throw new IllegalValueException(MESSAGE_INVALID_MODULE_CLASS);
+                }
+                convertedModuleClass = jsonAdaptedModuleClass.toModelType();
+            } catch (IllegalValueException ive) {
+                conversionException = ive;
+            }
+            moduleClass = convertedModuleClass;
+            exception = conversionException;
+        }
+
+        /**
+         * Returns the converted class.
+         *
+         * @throws IllegalValueException if the class could not be converted.
+         */
+        ModuleClass getModuleClass() throws IllegalValueException {
+            if (exception != null) {
+                throw exception;
+            }
+            return moduleClass;
+        }
+    }
+}
@@ -42,4 +42,10 @@ public interface TutorsPetStorage {
      * @see #saveTutorsPet(ReadOnlyTutorsPet)
      */
     void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException;
+
+    /**
+     * Rewrites any data that was saved as a series of changes as a single snapshot of the data.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactTutorsPet() throws IOException;
 }
@@ -36,6 +36,6 @@ public class JsonAdaptedAttendance {
         if (!Attendance.isValidParticipationScore(participationScore)) {
             throw new IllegalValueException(Attendance.MESSAGE_CONSTRAINTS);
         }
-        return new Attendance(participationScore);
+        return Attendance.of(participationScore);
     }
 }
@@ -1,12 +1,11 @@
 package tutorspet.storage.attendance;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -16,6 +15,7 @@ import tutorspet.commons.core.index.Index;
 import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
 import tutorspet.model.attendance.Week;
 
 /**
@@ -46,9 +46,18 @@ public class JsonAdaptedAttendanceRecord {
      */
     public JsonAdaptedAttendanceRecord(Week week, AttendanceRecord source) {
         this.week = week.getOneBasedWeekIndex();
-        attendances.addAll(source.getAttendanceRecord().entrySet().stream().map(entry ->
-                new JsonAdaptedStudentAttendance(entry.getKey(), entry.getValue()))
-                .collect(Collectors.toUnmodifiableList()));
+        source.forEachAttendance((studentUuid, attendance) ->
+                attendances.add(new JsonAdaptedStudentAttendance(studentUuid, attendance)));
+    }
+
+    /**
+     * Converts the attendances of {@code source} in the given {@code Week} into this class for Jackson use,
+     * without creating an {@code AttendanceRecord} for that {@code Week}.
+     */
+    public JsonAdaptedAttendanceRecord(Week week, AttendanceRecordList source) {
+        this.week = week.getOneBasedWeekIndex();
+        source.forEachAttendance(week, (studentUuid, attendance) ->
+                attendances.add(new JsonAdaptedStudentAttendance(studentUuid, attendance)));
     }
 
     /**
@@ -58,7 +67,9 @@ public class JsonAdaptedAttendanceRecord {
      *         or attendances.
      */
     public Pair<Week, AttendanceRecord> toKeyValuePair() throws IllegalValueException {
-        final Map<UUID, Attendance> attendancesMap = new HashMap<>();
+        final Set<UUID> studentUuids = new HashSet<>();
+        final UUID[] studentUuidArray = new UUID[attendances.size()];
+        final int[] participationScores = new int[attendances.size()];
 
         if (!(week > 0) || !Week.isValidWeek(Index.fromOneBased(week))) {
             throw new IllegalValueException(Week.MESSAGE_CONSTRAINTS);
@@ -69,14 +80,17 @@ public class JsonAdaptedAttendanceRecord {
         }
 
         // Using a enhanced for-loop instead of streams since map cannot handle checked exceptions nicely.
-        for (JsonAdaptedStudentAttendance attendance : attendances) {
-            Pair<UUID, Attendance> pair = attendance.toKeyValuePair();
-            if (attendancesMap.containsKey(pair.getKey())) {
+        for (int i = 0; i < attendances.size(); i++) {
+            Pair<UUID, Attendance> pair = attendances.get(i).toKeyValuePair();
+            if (!studentUuids.add(pair.getKey())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ATTENDANCE);
             }
-            attendancesMap.put(pair.getKey(), pair.getValue());
+            studentUuidArray[i] = pair.getKey();
+            participationScores[i] = pair.getValue().getParticipationScore();
         }
 
-        return new Pair<>(new Week(Index.fromOneBased(week)), new AttendanceRecord(attendancesMap));
+        // the attendance map is only built when it is first used
+        return new Pair<>(new Week(Index.fromOneBased(week)),
+                AttendanceRecord.of(studentUuidArray, participationScores));
     }
 }
@@ -41,11 +41,8 @@ public class JsonAdaptedAttendanceRecordList {
      * Converts a given {@code AttendanceRecordList} into this class for Jackson use.
      */
     public JsonAdaptedAttendanceRecordList(AttendanceRecordList source) {
-        List<AttendanceRecord> attendanceRecordList = source.getAttendanceRecordList();
-        for (int i = 0; i < attendanceRecordList.size(); i++) {
-            JsonAdaptedAttendanceRecord record =
-                    new JsonAdaptedAttendanceRecord(new Week(Index.fromZeroBased(i)), attendanceRecordList.get(i));
-            recordList.add(record);
+        for (int i = 0; i < source.getNumberOfWeeks(); i++) {
+            recordList.add(new JsonAdaptedAttendanceRecord(new Week(Index.fromZeroBased(i)), source));
         }
     }
 
@@ -0,0 +1,58 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.commons.util.CsvUtil.MESSAGE_UNEXPECTED_QUOTE;
+import static tutorspet.commons.util.CsvUtil.MESSAGE_UNTERMINATED_QUOTE;
+import static tutorspet.commons.util.CsvUtil.parseLine;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_nullLine_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> parseLine(null));
+    }
+
+    @Test
+    public void parseLine_unquotedValues_success() throws Exception {
+        // EP: empty line
+        assertEquals(List.of(""), parseLine(""));
+
+        // EP: empty values
+        assertEquals(List.of("", "", ""), parseLine(",,"));
+
+        // EP: values with spaces are not trimmed
+        assertEquals(List.of("Alex Yeoh", " alexyeoh ", "a@example.com"),
+                parseLine("Alex Yeoh, alexyeoh ,a@example.com"));
+    }
+
+    @Test
+    public void parseLine_quotedValues_success() throws Exception {
+        // EP: quoted value containing separators
+        assertEquals(List.of("friends,colleagues", "x"), parseLine("\"friends,colleagues\",x"));
+
+        // EP: escaped quotes
+        assertEquals(List.of("say \"hi\"", ""), parseLine("\"say \"\"hi\"\"\","));
+
+        // EP: empty quoted value at end of line
+        assertEquals(List.of("a", ""), parseLine("a,\"\""));
+    }
+
+    @Test
+    public void parseLine_unterminatedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, MESSAGE_UNTERMINATED_QUOTE, () -> parseLine("a,\"b"));
+        assertThrows(IllegalValueException.class, MESSAGE_UNTERMINATED_QUOTE, () -> parseLine("\"a\"\""));
+    }
+
+    @Test
+    public void parseLine_unexpectedQuote_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, MESSAGE_UNEXPECTED_QUOTE, () -> parseLine("a\"b\",c"));
+        assertThrows(IllegalValueException.class, MESSAGE_UNEXPECTED_QUOTE, () -> parseLine("\"a\"b,c"));
+    }
+}
@@ -0,0 +1,121 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ListChangeTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ListChange<>(0, null, List.of()));
+        assertThrows(NullPointerException.class, () -> new ListChange<>(0, List.of(), null));
+    }
+
+    @Test
+    public void inverse_swapsRemovedAndAdded() {
+        ListChange<String> change = new ListChange<>(1, List.of("a"), List.of("b", "c"));
+        assertEquals(new ListChange<>(1, List.of("b", "c"), List.of("a")), change.inverse());
+        assertEquals(change, change.inverse().inverse());
+    }
+
+    @Test
+    public void applyTo_validChanges_returnsChangedList() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        // replaced, removed and inserted elements
+        assertEquals(List.of("a", "x", "c"), new ListChange<>(1, List.of("b"), List.of("x")).applyTo(list));
+        assertEquals(List.of("a", "c"), new ListChange<>(1, List.of("b"), List.of()).applyTo(list));
+        assertEquals(List.of("a", "b", "c", "d"), new ListChange<>(3, List.of(), List.of("d")).applyTo(list));
+
+        // every element replaced
+        assertEquals(List.of("x"), new ListChange<>(0, List.of("a", "b", "c"), List.of("x")).applyTo(list));
+
+        // original list is not modified
+        assertEquals(List.of("a", "b", "c"), list);
+    }
+
+    @Test
+    public void diff_changedLists_returnsChangesThatTurnOldListIntoNewList() {
+        String a = "a";
+        String b = "b";
+        String c = "c";
+        String x = "x";
+        List<String> oldList = List.of(a, b, c);
+
+        // no changes
+        assertEquals(List.of(), ListChange.diff(oldList, List.of(a, b, c)));
+
+        // replaced, removed and inserted elements
+        assertEquals(List.of(new ListChange<>(1, List.of(b), List.of(x))),
+                ListChange.diff(oldList, List.of(a, x, c)));
+        assertEquals(List.of(new ListChange<>(0, List.of(a), List.of()), new ListChange<>(1, List.of(), List.of(x))),
+                ListChange.diff(oldList, List.of(b, x, c)));
+
+        // reordered elements
+        assertEquals(List.of(new ListChange<>(0, oldList, List.of(c, b, a))),
+                ListChange.diff(oldList, List.of(c, b, a)));
+
+        // applying the changes in order gives the new list
+        List<String> newList = List.of(x, b, "y", "z");
+        PersistentList<String> result = PersistentList.copyOf(oldList);
+        for (ListChange<String> change : ListChange.diff(oldList, newList)) {
+            result = change.applyTo(result);
+        }
+        assertEquals(newList, result);
+    }
+
+    @Test
+    public void diff_persistentListVersions_sameAsDiffOfCopies() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add("element" + i);
+        }
+        PersistentList<String> oldList = PersistentList.copyOf(elements);
+
+        // changes at both ends and in the middle, so that only part of the lists is compared
+        PersistentList<String> newList = oldList.with(10, "x").minus(50).plus(80, "y").plus(80, "z");
+        List<ListChange<String>> changes = ListChange.diff(oldList, newList);
+        assertEquals(ListChange.diff(new ArrayList<>(oldList), new ArrayList<>(newList)), changes);
+
+        // reordered elements are replaced between the unchanged start and end
+        PersistentList<String> reorderedList = oldList.with(20, oldList.get(30)).with(30, oldList.get(20));
+        assertEquals(List.of(new ListChange<>(20, oldList.subList(20, 31), reorderedList.subList(20, 31))),
+                ListChange.diff(oldList, reorderedList));
+
+        // applying the changes in order gives the new list
+        for (PersistentList<String> changedList : List.of(newList, reorderedList, oldList)) {
+            PersistentList<String> result = oldList;
+            for (ListChange<String> change : ListChange.diff(oldList, changedList)) {
+                result = change.applyTo(result);
+            }
+            assertEquals(changedList, result);
+        }
+    }
+
+    @Test
+    public void equals() {
+        ListChange<String> change = new ListChange<>(1, List.of("a"), List.of("b"));
+
+        // same values -> returns true
+        assertTrue(change.equals(new ListChange<>(1, List.of("a"), List.of("b"))));
+
+        // same object -> returns true
+        assertTrue(change.equals(change));
+
+        // null -> returns false
+        assertFalse(change.equals(null));
+
+        // different index -> returns false
+        assertFalse(change.equals(new ListChange<>(0, List.of("a"), List.of("b"))));
+
+        // different elements -> returns false
+        assertFalse(change.equals(change.inverse()));
+    }
+}
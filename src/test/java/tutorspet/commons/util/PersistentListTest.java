@@ -0,0 +1,161 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_isEmpty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> persistentList = PersistentList.copyOf(elements);
+        assertEquals(elements, persistentList);
+        assertEquals(elements, new ArrayList<>(persistentList)); // uses iterator
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameList() {
+        PersistentList<Integer> persistentList = PersistentList.copyOf(Arrays.asList(1, 2, 3));
+        assertSame(persistentList, PersistentList.copyOf(persistentList));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void plusWithMinus_oldVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> inserted = original.plus(0, "z");
+        PersistentList<String> replaced = original.with(1, "x");
+        PersistentList<String> removed = original.minus(1);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("z", "a", "b", "c"), inserted);
+        assertEquals(Arrays.asList("a", "x", "c"), replaced);
+        assertEquals(Arrays.asList("a", "c"), removed);
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> persistentList = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> persistentList.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> persistentList.with(-1, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> persistentList.plus(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> persistentList.minus(2));
+    }
+
+    @Test
+    public void mutators_throwUnsupportedOperationException() {
+        PersistentList<String> persistentList = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> persistentList.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> persistentList.set(0, "c"));
+        assertThrows(UnsupportedOperationException.class, () -> persistentList.remove(0));
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_changedVersions_countsUnchangedElements() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.copyOf(elements);
+
+        // same list
+        assertEquals(100, original.commonPrefixLength(original));
+        assertEquals(100, original.commonSuffixLength(original));
+
+        // replaced, inserted and removed elements
+        PersistentList<Integer> replaced = original.with(40, -1);
+        assertEquals(40, original.commonPrefixLength(replaced));
+        assertEquals(59, original.commonSuffixLength(replaced));
+        PersistentList<Integer> inserted = original.plus(70, -1);
+        assertEquals(70, original.commonPrefixLength(inserted));
+        assertEquals(30, original.commonSuffixLength(inserted));
+        PersistentList<Integer> removed = original.minus(0);
+        assertEquals(0, original.commonPrefixLength(removed));
+        assertEquals(99, original.commonSuffixLength(removed));
+
+        // lists that do not share structure are compared element by element
+        PersistentList<Integer> copy = PersistentList.copyOf(new ArrayList<>(elements.subList(0, 50)));
+        assertEquals(50, original.commonPrefixLength(copy));
+        assertEquals(0, original.commonSuffixLength(copy));
+        assertEquals(0, original.commonPrefixLength(PersistentList.empty()));
+    }
+
+    @Test
+    public void commonPrefixAndSuffixLength_randomVersions_matchElementByElementComparison() {
+        Random random = new Random(2103);
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            elements.add(i);
+        }
+        PersistentList<Integer> original = PersistentList.copyOf(elements);
+        PersistentList<Integer> changed = original;
+        for (int i = 0; i < 50; i++) {
+            int index = random.nextInt(changed.size());
+            changed = random.nextBoolean() ? changed.minus(index) : changed.plus(index, -i - 1);
+
+            int prefixLength = 0;
+            while (prefixLength < Math.min(original.size(), changed.size())
+                    && original.get(prefixLength) == changed.get(prefixLength)) {
+                prefixLength++;
+            }
+            int suffixLength = 0;
+            while (suffixLength < Math.min(original.size(), changed.size())
+                    && original.get(original.size() - suffixLength - 1)
+                    == changed.get(changed.size() - suffixLength - 1)) {
+                suffixLength++;
+            }
+            assertEquals(prefixLength, original.commonPrefixLength(changed));
+            assertEquals(suffixLength, original.commonSuffixLength(changed));
+        }
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.plus(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.with(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+}
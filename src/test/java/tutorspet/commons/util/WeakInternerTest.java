@@ -0,0 +1,47 @@
+package tutorspet.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String, List<String>> interner = new WeakInterner<>(list -> list.get(0));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String, String>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null, List::of));
+        assertThrows(NullPointerException.class, () -> interner.intern("a", null));
+    }
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        List<String> instance = interner.intern("a", List::of);
+        assertSame(instance, interner.intern(new String("a"), key -> List.of("other")));
+        assertNotSame(instance, interner.intern("b", List::of));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_instanceNoLongerUsed_instanceForgotten() throws Exception {
+        interner.intern(new String("a"), key -> new ArrayList<>(List.of(key)));
+
+        // the instance is only referred to by the interner, so it is forgotten once it is garbage collected
+        for (int i = 0; i < 100 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+    }
+}
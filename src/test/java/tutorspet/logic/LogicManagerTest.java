@@ -1,6 +1,8 @@
 package tutorspet.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
 import static tutorspet.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutorspet.logic.LogicManager.FILE_OPS_ERROR_MESSAGE;
@@ -13,6 +15,7 @@ import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalStudent.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,11 +25,13 @@ import org.junit.jupiter.api.io.TempDir;
 import tutorspet.commons.core.GuiSettings;
 import tutorspet.logic.commands.CommandResult;
 import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
 import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
 import tutorspet.model.UserPrefs;
 import tutorspet.model.student.Student;
 import tutorspet.storage.JsonTutorsPetStorage;
@@ -45,6 +50,7 @@ public class LogicManagerTest {
     private ReadOnlyTutorsPet tutorsPet = model.getTutorsPet();
     private Path tutorsPetFilePath = model.getTutorsPetFilePath();
     private GuiSettings guiSetting = model.getGuiSettings();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -52,7 +58,7 @@ public class LogicManagerTest {
         JsonTutorsPetStorage tutorsPetStorage =
                 new JsonTutorsPetStorage(temporaryFolder.resolve("tutorsPet.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
+        storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -75,23 +81,49 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         // Setup LogicManager with JsonTutorsPetIoExceptionThrowingStub
         JsonTutorsPetStorage tutorsPetStorage =
                 new JsonTutorsPetIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionTutorsPet.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
+        storage = new StorageManager(tutorsPetStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
 
-        // Execute add student command
+        // Execute add student command, which is saved in the background
         String addStudentCommand = COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY;
         Student expectedStudent = new StudentBuilder(AMY).withTags().build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
         expectedModel.commit(String.format(MESSAGE_COMMIT, expectedStudent.getName()));
+        logic.execute(addStudentCommand);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storage.flushTutorsPet());
+
+        // Execute delete student command, which reports the failed save
+        expectedModel.deleteStudent(expectedStudent);
+        expectedModel.commit(String.format(DeleteStudentCommand.MESSAGE_COMMIT, expectedStudent.getName()));
         String expectedMessage = FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addStudentCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandFailure(DeleteStudentCommand.COMMAND_WORD + " 1", CommandException.class, expectedMessage,
+                expectedModel);
+        assertTrue(logic.hasUnsavedChanges());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storage.flushTutorsPet());
+
+        // the changes are saved again by the next command, even though it does not change the data,
+        // which reports that the last save failed too
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(ListStudentCommand.COMMAND_WORD));
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), () -> storage.flushTutorsPet());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        storage.flushTutorsPet();
+        assertFalse(Files.exists(temporaryFolder.resolve("tutorsPet.json")));
+
+        logic.execute(COMMAND_WORD + NAME_DESC_AMY + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY);
+        storage.flushTutorsPet();
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(new TutorsPet(model.getTutorsPet()), new TutorsPet(storage.readTutorsPet().get()));
     }
 
     @Test
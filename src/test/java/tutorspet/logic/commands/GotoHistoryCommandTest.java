@@ -0,0 +1,95 @@
+package tutorspet.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.GotoHistoryCommand.MESSAGE_ALREADY_CURRENT_STATE;
+import static tutorspet.logic.commands.GotoHistoryCommand.MESSAGE_INVALID_HISTORY_INDEX;
+import static tutorspet.logic.commands.GotoHistoryCommand.MESSAGE_SUCCESS;
+import static tutorspet.model.VersionedTutorsPet.INITIAL_COMMIT_MESSAGE;
+import static tutorspet.model.VersionedTutorsPetTest.COMMIT_MESSAGE_1;
+import static tutorspet.model.VersionedTutorsPetTest.COMMIT_MESSAGE_2;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_THIRD_ITEM;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+
+public class GotoHistoryCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addStudent(AMY);
+            m.commit(COMMIT_MESSAGE_1);
+            m.deleteStudent(ALICE);
+            m.commit(COMMIT_MESSAGE_2);
+        }
+    }
+
+    @Test
+    public void execute_earlierState_success() {
+        String expectedMessage = String.format(MESSAGE_SUCCESS, INITIAL_COMMIT_MESSAGE);
+        expectedModel.undo();
+        expectedModel.undo();
+
+        assertCommandSuccess(new GotoHistoryCommand(INDEX_THIRD_ITEM), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_laterState_success() {
+        model.undo();
+        model.undo();
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, COMMIT_MESSAGE_1);
+        expectedModel.undo();
+
+        assertCommandSuccess(new GotoHistoryCommand(INDEX_SECOND_ITEM), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        assertCommandFailure(new GotoHistoryCommand(Index.fromOneBased(4)), model, MESSAGE_INVALID_HISTORY_INDEX);
+    }
+
+    @Test
+    public void execute_currentState_throwsCommandException() {
+        assertCommandFailure(new GotoHistoryCommand(INDEX_FIRST_ITEM), model, MESSAGE_ALREADY_CURRENT_STATE);
+    }
+
+    @Test
+    public void equals() {
+        GotoHistoryCommand gotoFirstCommand = new GotoHistoryCommand(INDEX_FIRST_ITEM);
+        GotoHistoryCommand gotoSecondCommand = new GotoHistoryCommand(INDEX_SECOND_ITEM);
+
+        // same object -> returns true
+        assertTrue(gotoFirstCommand.equals(gotoFirstCommand));
+
+        // same values -> returns true
+        assertTrue(gotoFirstCommand.equals(new GotoHistoryCommand(INDEX_FIRST_ITEM)));
+
+        // different types -> returns false
+        assertFalse(gotoFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(gotoFirstCommand.equals(null));
+
+        // different index -> returns false
+        assertFalse(gotoFirstCommand.equals(gotoSecondCommand));
+    }
+}
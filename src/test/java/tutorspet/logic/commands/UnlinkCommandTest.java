@@ -1,5 +1,6 @@
 package tutorspet.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
@@ -10,20 +11,19 @@ import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorspet.logic.commands.CommandTestUtil.showModuleClassAtIndex;
 import static tutorspet.logic.commands.CommandTestUtil.showStudentAtIndex;
 import static tutorspet.logic.commands.UnlinkCommand.MESSAGE_SUCCESS;
-import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_THIRD_ITEM;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL_NO_STUDENTS;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_WITHOUT_ALICE;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,7 +31,6 @@ import tutorspet.commons.core.index.Index;
 import tutorspet.model.Model;
 import tutorspet.model.ModelManager;
 import tutorspet.model.UserPrefs;
-import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.student.Student;
 
@@ -57,10 +56,12 @@ public class UnlinkCommandTest {
         Index moduleClassIndex = INDEX_FIRST_ITEM;
         Index studentIndex = INDEX_FIRST_ITEM;
 
-        // manually unlink first student from first class
+        // first student is ALICE and first class is CS2103T_TUTORIAL
         ModuleClass moduleClass = model.getFilteredModuleClassList().get(moduleClassIndex.getZeroBased());
         Student student = model.getFilteredStudentList().get(studentIndex.getZeroBased());
-        ModuleClass modifiedModuleClass = manualUnlinkStudentFromModuleClass(moduleClass, student);
+        assertEquals(CS2103T_TUTORIAL, moduleClass);
+        assertEquals(ALICE, student);
+        ModuleClass modifiedModuleClass = CS2103T_TUTORIAL_WITHOUT_ALICE;
 
         String expectedMessage =
                 String.format(MESSAGE_SUCCESS, student.getName(), modifiedModuleClass);
@@ -78,10 +79,12 @@ public class UnlinkCommandTest {
         Index moduleClassIndex = INDEX_FIRST_ITEM;
         Index studentIndex = INDEX_FIRST_ITEM;
 
-        // manually unlink first student from first class
+        // first student is ALICE and first class is CS2100_TUTORIAL
         ModuleClass moduleClass = model.getFilteredModuleClassList().get(moduleClassIndex.getZeroBased());
         Student student = model.getFilteredStudentList().get(studentIndex.getZeroBased());
-        ModuleClass modifiedModuleClass = manualUnlinkStudentFromModuleClass(moduleClass, student);
+        assertEquals(CS2100_TUTORIAL, moduleClass);
+        assertEquals(ALICE, student);
+        ModuleClass modifiedModuleClass = CS2100_TUTORIAL_NO_STUDENTS;
 
         String expectedMessage =
                 String.format(MESSAGE_SUCCESS, student.getName(), modifiedModuleClass);
@@ -180,22 +183,4 @@ public class UnlinkCommandTest {
         expectedModel.updateFilteredModuleClassList(c -> c.isSameModuleClass(toSet));
         return expectedModel;
     }
-
-    /**
-     * Returns a new {@code ModuleClass} based on the given {@code moduleClass} but with the specified {@code student}
-     * removed.
-     * Requires {@code student} to be linked to {@code moduleClass}.
-     */
-    private static ModuleClass manualUnlinkStudentFromModuleClass(ModuleClass moduleClass, Student student) {
-        Set<UUID> studentUuids = new HashSet<>(moduleClass.getStudentUuids());
-
-        assertTrue(studentUuids.contains(student.getUuid()), "Test precondition error: The selected module class"
-                        + " does not contain the selected student.");
-
-        studentUuids.remove(student.getUuid());
-        List<Lesson> lessons = new ArrayList<>(moduleClass.getLessons());
-        List<Lesson> modifiedLessons = lessons.stream().map(lesson ->
-                deleteStudentFromLesson(lesson, ALICE)).collect(Collectors.toUnmodifiableList());
-        return new ModuleClass(moduleClass.getName(), studentUuids, modifiedLessons);
-    }
 }
@@ -0,0 +1,222 @@
+package tutorspet.logic.commands.attendance;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_LESSON_DISPLAYED_INDEX;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX;
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_WEEK;
+import static tutorspet.commons.core.Messages.MESSAGE_MISSING_LINK;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_ATTENDANCE;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_1;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_5;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorspet.logic.commands.attendance.RollCallCommand.MESSAGE_COMMIT;
+import static tutorspet.logic.commands.attendance.RollCallCommand.MESSAGE_NO_STUDENTS;
+import static tutorspet.logic.commands.attendance.RollCallCommand.MESSAGE_SUCCESS;
+import static tutorspet.logic.util.ModuleClassUtil.getLessonFromModuleClass;
+import static tutorspet.logic.util.ModuleClassUtil.setAttendancesInModuleClass;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_THIRD_ITEM;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.exceptions.CommandException;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.Week;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RollCallCommand}.
+ */
+public class RollCallCommandTest {
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        List<Index> noIndexes = Collections.emptyList();
+
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(null, INDEX_FIRST_ITEM,
+                VALID_WEEK_1, VALID_ATTENDANCE, noIndexes, noIndexes));
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(INDEX_FIRST_ITEM, null,
+                VALID_WEEK_1, VALID_ATTENDANCE, noIndexes, noIndexes));
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM,
+                null, VALID_ATTENDANCE, noIndexes, noIndexes));
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM,
+                VALID_WEEK_1, null, noIndexes, noIndexes));
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM,
+                VALID_WEEK_1, VALID_ATTENDANCE, null, noIndexes));
+        assertThrows(NullPointerException.class, () -> new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM,
+                VALID_WEEK_1, VALID_ATTENDANCE, noIndexes, null));
+    }
+
+    @Test
+    public void execute_allStudentsInClass_success() throws CommandException {
+        ModuleClass moduleClass = model.getFilteredModuleClassList().get(INDEX_FIRST_ITEM.getZeroBased());
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.emptyList());
+
+        assertRollCallSuccess(rollCallCommand, moduleClass, VALID_WEEK_1, moduleClass.getStudentUuids());
+    }
+
+    @Test
+    public void execute_selectedStudent_success() throws CommandException {
+        ModuleClass moduleClass = model.getFilteredModuleClassList().get(INDEX_FIRST_ITEM.getZeroBased());
+        UUID studentUuid = model.getFilteredStudentList().get(INDEX_FIRST_ITEM.getZeroBased()).getUuid();
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_5,
+                VALID_ATTENDANCE, Collections.singletonList(INDEX_FIRST_ITEM), Collections.emptyList());
+
+        assertRollCallSuccess(rollCallCommand, moduleClass, VALID_WEEK_5, Collections.singletonList(studentUuid));
+    }
+
+    @Test
+    public void execute_excludedStudent_success() throws CommandException {
+        ModuleClass moduleClass = model.getFilteredModuleClassList().get(INDEX_FIRST_ITEM.getZeroBased());
+        UUID excludedStudentUuid = model.getFilteredStudentList().get(INDEX_SECOND_ITEM.getZeroBased()).getUuid();
+        List<UUID> expectedStudentUuids = new ArrayList<>(moduleClass.getStudentUuids());
+        expectedStudentUuids.remove(excludedStudentUuid);
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_5,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.singletonList(INDEX_SECOND_ITEM));
+
+        assertRollCallSuccess(rollCallCommand, moduleClass, VALID_WEEK_5, expectedStudentUuids);
+    }
+
+    @Test
+    public void execute_allStudentsExcluded_failure() {
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                VALID_ATTENDANCE, Collections.singletonList(INDEX_FIRST_ITEM),
+                Collections.singletonList(INDEX_FIRST_ITEM));
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_NO_STUDENTS);
+    }
+
+    @Test
+    public void execute_studentNotInClass_failure() {
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                VALID_ATTENDANCE, Arrays.asList(INDEX_FIRST_ITEM, INDEX_THIRD_ITEM), Collections.emptyList());
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_MISSING_LINK);
+    }
+
+    @Test
+    public void execute_invalidClassIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredModuleClassList().size() + 1);
+
+        RollCallCommand rollCallCommand = new RollCallCommand(outOfBoundIndex, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.emptyList());
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_INVALID_MODULE_CLASS_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_invalidLessonIndex_failure() {
+        ModuleClass moduleClass = model.getFilteredModuleClassList().get(INDEX_FIRST_ITEM.getZeroBased());
+        Index outOfBoundIndex = Index.fromOneBased(moduleClass.getLessons().size() + 1);
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, outOfBoundIndex, VALID_WEEK_1,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.emptyList());
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_INVALID_LESSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_invalidStudentIndex_failure() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredStudentList().size() + 1);
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.singletonList(outOfBoundIndex));
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_INVALID_STUDENT_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_invalidWeek_failure() {
+        Lesson lesson = model.getFilteredModuleClassList().get(INDEX_FIRST_ITEM.getZeroBased())
+                .getLessons().get(INDEX_FIRST_ITEM.getZeroBased());
+        Week invalidWeek =
+                new Week(Index.fromOneBased(lesson.getAttendanceRecordList().getAttendanceRecordList().size() + 1));
+
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, invalidWeek,
+                VALID_ATTENDANCE, Collections.emptyList(), Collections.emptyList());
+
+        assertCommandFailure(rollCallCommand, model, MESSAGE_INVALID_WEEK);
+    }
+
+    @Test
+    public void equals() {
+        List<Index> noIndexes = Collections.emptyList();
+        List<Index> firstIndex = Collections.singletonList(INDEX_FIRST_ITEM);
+        RollCallCommand rollCallCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                new Attendance(90), noIndexes, noIndexes);
+
+        // same object -> returns true
+        assertTrue(rollCallCommand.equals(rollCallCommand));
+
+        // same value -> returns true
+        assertTrue(rollCallCommand.equals(new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                new Attendance(90), noIndexes, noIndexes)));
+
+        // different type -> returns false
+        assertFalse(rollCallCommand.equals(5));
+
+        // null -> returns false
+        assertFalse(rollCallCommand.equals(null));
+
+        // different attendance -> returns false
+        assertFalse(rollCallCommand.equals(new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                new Attendance(80), noIndexes, noIndexes)));
+
+        // different week -> returns false
+        assertFalse(rollCallCommand.equals(new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_5,
+                new Attendance(90), noIndexes, noIndexes)));
+
+        // different students -> returns false
+        assertFalse(rollCallCommand.equals(new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                new Attendance(90), firstIndex, noIndexes)));
+
+        // different excluded students -> returns false
+        assertFalse(rollCallCommand.equals(new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, VALID_WEEK_1,
+                new Attendance(90), noIndexes, firstIndex)));
+    }
+
+    /**
+     * Executes {@code rollCallCommand} and confirms that {@code VALID_ATTENDANCE} is recorded in {@code week} of the
+     * first lesson of {@code moduleClass} for exactly the students in {@code expectedStudentUuids}.
+     */
+    private void assertRollCallSuccess(RollCallCommand rollCallCommand, ModuleClass moduleClass, Week week,
+                                       Collection<UUID> expectedStudentUuids) throws CommandException {
+        Lesson lesson = getLessonFromModuleClass(moduleClass, INDEX_FIRST_ITEM);
+        ModuleClass modifiedModuleClass = setAttendancesInModuleClass(
+                moduleClass, INDEX_FIRST_ITEM, week, expectedStudentUuids, VALID_ATTENDANCE);
+
+        String commitMessage = String.format(MESSAGE_COMMIT, expectedStudentUuids.size(), moduleClass.getName(),
+                lesson.printLesson(), week);
+        String expectedMessage = String.format(MESSAGE_SUCCESS, expectedStudentUuids.size(), moduleClass.getName(),
+                lesson.printLesson(), week, VALID_ATTENDANCE);
+        Model expectedModel = new ModelManager(model.getTutorsPet(), new UserPrefs());
+        expectedModel.setModuleClass(moduleClass, modifiedModuleClass);
+        expectedModel.commit(commitMessage);
+
+        assertCommandSuccess(rollCallCommand, model, expectedMessage, expectedModel);
+    }
+}
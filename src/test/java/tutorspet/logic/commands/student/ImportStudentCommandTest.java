@@ -0,0 +1,186 @@
+package tutorspet.logic.commands.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.commons.core.Messages.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_NAME_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_NAME_CS2103T_TUTORIAL;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_TAG_AVERAGE;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_TAG_EXPERIENCED;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_TELEGRAM_AMY;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_TELEGRAM_BOB;
+import static tutorspet.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MAX_REPORTED_ROW_ERRORS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_DUPLICATE_STUDENT_IN_FILE;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_FILE_NOT_READ;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_INVALID_VALUE_COUNT;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_MORE_ROW_ERRORS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_NO_STUDENTS_IMPORTED;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_ROWS_SKIPPED;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_ROW_ERROR;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_SUCCESS;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_UNKNOWN_MODULE_CLASS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.logic.commands.CommandResult;
+import tutorspet.model.Model;
+import tutorspet.model.ModelManager;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.UserPrefs;
+import tutorspet.model.components.tag.Tag;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Email;
+import tutorspet.model.student.Student;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportStudentCommand}.
+ */
+public class ImportStudentCommandTest {
+
+    private static final String ROW_AMY = VALID_NAME_AMY + "," + VALID_TELEGRAM_AMY + "," + VALID_EMAIL_AMY
+            + "," + VALID_TAG_EXPERIENCED + ";" + VALID_TAG_AVERAGE + "," + VALID_NAME_CS2103T_TUTORIAL;
+    private static final String ROW_BOB = VALID_NAME_BOB + "," + VALID_TELEGRAM_BOB + "," + VALID_EMAIL_BOB;
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalTutorsPet(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportStudentCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_success() throws Exception {
+        Path filePath = writeCsv("name,telegram,email,tags,classes", ROW_AMY, "", ROW_BOB);
+        int studentCount = model.getTutorsPet().getStudentList().size();
+
+        CommandResult result = new ImportStudentCommand(filePath).execute(model);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, 2, filePath), result.getFeedbackToUser());
+        List<Student> students = model.getTutorsPet().getStudentList();
+        assertEquals(studentCount + 2, students.size());
+        Student amy = students.get(studentCount);
+        assertEquals(VALID_NAME_AMY, amy.getName().fullName);
+        assertTrue(amy.getTags().contains(Tag.of(VALID_TAG_AVERAGE)));
+        assertEquals(VALID_NAME_BOB, students.get(studentCount + 1).getName().fullName);
+
+        ModuleClass moduleClass = model.getTutorsPet().getModuleClassList().get(0);
+        assertEquals(VALID_NAME_CS2103T_TUTORIAL, moduleClass.getName().fullName);
+        assertTrue(moduleClass.getStudentUuids().contains(amy.getUuid()));
+
+        // the whole import is undone at once
+        model.undo();
+        assertEquals(new TutorsPet(getTypicalTutorsPet()), new TutorsPet(model.getTutorsPet()));
+    }
+
+    @Test
+    public void execute_invalidRows_skippedAndReported() throws Exception {
+        String aliceRow = ALICE.getName() + "," + ALICE.getTelegram() + "," + ALICE.getEmail();
+        String unknownClassRow = "Carl Kurz,carl_k,carl@example.com,,CS9999 Lab";
+        String duplicateInFileRow = "Amy Lee,amy_lee," + VALID_EMAIL_AMY;
+        Path filePath = writeCsv(ROW_AMY, VALID_NAME_BOB + ",bob!", aliceRow, unknownClassRow,
+                duplicateInFileRow, "Dan,dan,dan@example.com,,,extra");
+        int studentCount = model.getTutorsPet().getStudentList().size();
+
+        CommandResult result = new ImportStudentCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 1, filePath)
+                + String.format(MESSAGE_ROWS_SKIPPED, 5)
+                + String.format(MESSAGE_ROW_ERROR, 2, String.format(MESSAGE_INVALID_VALUE_COUNT, 2))
+                + String.format(MESSAGE_ROW_ERROR, 3, MESSAGE_DUPLICATE_STUDENT)
+                + String.format(MESSAGE_ROW_ERROR, 4, String.format(MESSAGE_UNKNOWN_MODULE_CLASS, "CS9999 Lab"))
+                + String.format(MESSAGE_ROW_ERROR, 5, MESSAGE_DUPLICATE_STUDENT_IN_FILE)
+                + String.format(MESSAGE_ROW_ERROR, 6, String.format(MESSAGE_INVALID_VALUE_COUNT, 6));
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertEquals(studentCount + 1, model.getTutorsPet().getStudentList().size());
+    }
+
+    @Test
+    public void execute_invalidField_skippedAndReported() throws Exception {
+        Path filePath = writeCsv(ROW_BOB, "Amy Lee,amy_lee,amy!example.com");
+
+        CommandResult result = new ImportStudentCommand(filePath).execute(model);
+
+        String expectedMessage = String.format(MESSAGE_SUCCESS, 1, filePath)
+                + String.format(MESSAGE_ROWS_SKIPPED, 1)
+                + String.format(MESSAGE_ROW_ERROR, 2, Email.MESSAGE_CONSTRAINTS);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportTruncated() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(ROW_BOB);
+        for (int i = 0; i < MAX_REPORTED_ROW_ERRORS + 5; i++) {
+            rows.add("invalid");
+        }
+        Path filePath = writeCsv(rows.toArray(new String[0]));
+
+        String feedback = new ImportStudentCommand(filePath).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(MESSAGE_ROWS_SKIPPED, MAX_REPORTED_ROW_ERRORS + 5)));
+        assertTrue(feedback.endsWith(String.format(MESSAGE_MORE_ROW_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_noValidRows_throwsCommandException() throws Exception {
+        Path filePath = writeCsv("name,telegram,email", "invalid");
+
+        String expectedMessage = String.format(MESSAGE_NO_STUDENTS_IMPORTED, filePath)
+                + String.format(MESSAGE_ROWS_SKIPPED, 1)
+                + String.format(MESSAGE_ROW_ERROR, 2, String.format(MESSAGE_INVALID_VALUE_COUNT, 1));
+        assertCommandFailure(new ImportStudentCommand(filePath), model, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+
+        assertCommandFailure(new ImportStudentCommand(filePath), model,
+                String.format(MESSAGE_FILE_NOT_READ, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportStudentCommand importFirstCommand = new ImportStudentCommand(Path.of("first.csv"));
+        ImportStudentCommand importSecondCommand = new ImportStudentCommand(Path.of("second.csv"));
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportStudentCommand(Path.of("first.csv"))));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importFirstCommand.equals(importSecondCommand));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.write(filePath, List.of(lines));
+        return filePath;
+    }
+}
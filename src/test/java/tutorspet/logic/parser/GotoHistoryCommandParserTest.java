@@ -0,0 +1,27 @@
+package tutorspet.logic.parser;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.GotoHistoryCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.GotoHistoryCommand;
+
+public class GotoHistoryCommandParserTest {
+
+    private GotoHistoryCommandParser parser = new GotoHistoryCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsGotoHistoryCommand() {
+        assertParseSuccess(parser, "1", new GotoHistoryCommand(INDEX_FIRST_ITEM));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+        assertParseFailure(parser, "0", String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE));
+    }
+}
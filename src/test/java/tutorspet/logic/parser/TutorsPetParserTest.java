@@ -8,6 +8,7 @@ import static tutorspet.logic.commands.CommandTestUtil.VALID_ATTENDANCE_33;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_1;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_INDEX;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_PARTICIPATION_SCORE;
 import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
@@ -22,13 +23,16 @@ import static tutorspet.testutil.StudentTestUtil.getEditStudentDescriptorDetails
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import tutorspet.logic.commands.ExitCommand;
+import tutorspet.logic.commands.GotoHistoryCommand;
 import tutorspet.logic.commands.HelpCommand;
 import tutorspet.logic.commands.LinkCommand;
 import tutorspet.logic.commands.ListCommand;
@@ -42,6 +46,7 @@ import tutorspet.logic.commands.attendance.DeleteAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand;
 import tutorspet.logic.commands.attendance.EditAttendanceCommand.EditAttendanceDescriptor;
 import tutorspet.logic.commands.attendance.FindAttendanceCommand;
+import tutorspet.logic.commands.attendance.RollCallCommand;
 import tutorspet.logic.commands.attendance.StatisticsCommand;
 import tutorspet.logic.commands.lesson.AddLessonCommand;
 import tutorspet.logic.commands.lesson.DeleteLessonCommand;
@@ -61,6 +66,7 @@ import tutorspet.logic.commands.student.DeleteStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand;
 import tutorspet.logic.commands.student.EditStudentCommand.EditStudentDescriptor;
 import tutorspet.logic.commands.student.FindStudentCommand;
+import tutorspet.logic.commands.student.ImportStudentCommand;
 import tutorspet.logic.commands.student.ListStudentCommand;
 import tutorspet.logic.commands.student.ListStudentInClassCommand;
 import tutorspet.logic.parser.exceptions.ParseException;
@@ -131,6 +137,13 @@ public class TutorsPetParserTest {
         assertEquals(new FindStudentCommand(new NameContainsKeywordsPredicate<>(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_importStudent() throws Exception {
+        ImportStudentCommand command = (ImportStudentCommand) parser.parseCommand(
+                ImportStudentCommand.COMMAND_WORD + " data/students.csv");
+        assertEquals(new ImportStudentCommand(Paths.get("data/students.csv")), command);
+    }
+
     @Test
     public void parseCommand_addModuleClass() throws Exception {
         ModuleClass moduleClass = new ModuleClassBuilder().build();
@@ -281,6 +294,22 @@ public class TutorsPetParserTest {
         assertEquals(expectedCommand, command);
     }
 
+    @Test
+    public void parseCommand_rollCall() throws Exception {
+        Week week = new Week(INDEX_FIRST_ITEM);
+        Attendance attendance = new Attendance(VALID_PARTICIPATION_SCORE_80);
+        RollCallCommand expectedCommand = new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, week, attendance,
+                Collections.emptyList(), Collections.singletonList(INDEX_SECOND_ITEM));
+        RollCallCommand command =
+                (RollCallCommand) parser.parseCommand(RollCallCommand.COMMAND_WORD + " "
+                        + PREFIX_CLASS_INDEX + INDEX_FIRST_ITEM.getOneBased() + " "
+                        + PREFIX_LESSON_INDEX + INDEX_FIRST_ITEM.getOneBased() + " "
+                        + PREFIX_WEEK + INDEX_FIRST_ITEM.getOneBased() + " "
+                        + PREFIX_PARTICIPATION_SCORE + "80 "
+                        + PREFIX_EXCLUDED_STUDENT_INDEX + INDEX_SECOND_ITEM.getOneBased());
+        assertEquals(expectedCommand, command);
+    }
+
     @Test
     public void parseCommand_unlink() throws Exception {
         UnlinkCommand expectedCommand = new UnlinkCommand(INDEX_SECOND_ITEM, INDEX_FIRST_ITEM);
@@ -307,6 +336,13 @@ public class TutorsPetParserTest {
         assertEquals(expectedCommand, altCommand);
     }
 
+    @Test
+    public void parseCommand_gotoHistory() throws Exception {
+        GotoHistoryCommand command = (GotoHistoryCommand) parser.parseCommand(
+                GotoHistoryCommand.COMMAND_WORD + " " + INDEX_FIRST_ITEM.getOneBased());
+        assertEquals(new GotoHistoryCommand(INDEX_FIRST_ITEM), command);
+    }
+
     @Test
     public void parseCommand_undo() throws Exception {
         assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
@@ -0,0 +1,134 @@
+package tutorspet.logic.parser.attendance;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_PARTICIPATION_UPPER_BOUND_SCORE_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.INVALID_WEEK_LOWER_BOUND_DESC;
+import static tutorspet.logic.commands.CommandTestUtil.PARTICIPATION_SCORE_DESC_80;
+import static tutorspet.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_VALUE_5;
+import static tutorspet.logic.commands.CommandTestUtil.WEEK_DESC_WEEK_VALUE_5;
+import static tutorspet.logic.commands.attendance.RollCallCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_CLASS_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_EXCLUDED_STUDENT_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_LESSON_INDEX;
+import static tutorspet.logic.parser.CliSyntax.PREFIX_STUDENT_INDEX;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_SECOND_ITEM;
+import static tutorspet.testutil.TypicalIndexes.INDEX_THIRD_ITEM;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.core.index.Index;
+import tutorspet.logic.commands.attendance.RollCallCommand;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.Week;
+
+public class RollCallCommandParserTest {
+
+    private RollCallCommandParser parser = new RollCallCommandParser();
+
+    @Test
+    public void parse_compulsoryFieldsPresent_success() {
+        Attendance expectedAttendance = new Attendance(VALID_PARTICIPATION_SCORE_80);
+        Week expectedWeek = new Week(Index.fromOneBased(VALID_WEEK_VALUE_5));
+
+        // whitespace only preamble, no student indexes
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80,
+                new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, expectedWeek, expectedAttendance,
+                        Collections.emptyList(), Collections.emptyList()));
+
+        // multiple student and excluded student indexes - all accepted in order
+        assertParseSuccess(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1" + " "
+                + PREFIX_STUDENT_INDEX + "2" + " "
+                + PREFIX_STUDENT_INDEX + "1" + " "
+                + PREFIX_EXCLUDED_STUDENT_INDEX + "3"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80,
+                new RollCallCommand(INDEX_FIRST_ITEM, INDEX_FIRST_ITEM, expectedWeek, expectedAttendance,
+                        Arrays.asList(INDEX_SECOND_ITEM, INDEX_FIRST_ITEM),
+                        Collections.singletonList(INDEX_THIRD_ITEM)));
+    }
+
+    @Test
+    public void parse_compulsoryFieldMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // missing class prefix
+        assertParseFailure(parser, " "
+                + PREFIX_LESSON_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+
+        // missing lesson prefix
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+
+        // missing week prefix
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+
+        // missing participation score prefix
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5, expectedMessage);
+
+        // non-empty preamble
+        assertParseFailure(parser, "1 "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // invalid student index
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1" + " "
+                + PREFIX_STUDENT_INDEX + "&"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+
+        // invalid excluded student index
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1" + " "
+                + PREFIX_EXCLUDED_STUDENT_INDEX + "0"
+                + WEEK_DESC_WEEK_VALUE_5
+                + PARTICIPATION_SCORE_DESC_80, expectedMessage);
+
+        // invalid week value
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + INVALID_WEEK_LOWER_BOUND_DESC
+                + PARTICIPATION_SCORE_DESC_80, Week.MESSAGE_CONSTRAINTS);
+
+        // invalid participation score
+        assertParseFailure(parser, " "
+                + PREFIX_CLASS_INDEX + "1" + " "
+                + PREFIX_LESSON_INDEX + "1"
+                + WEEK_DESC_WEEK_VALUE_5
+                + INVALID_PARTICIPATION_UPPER_BOUND_SCORE_DESC, Attendance.MESSAGE_CONSTRAINTS);
+    }
+}
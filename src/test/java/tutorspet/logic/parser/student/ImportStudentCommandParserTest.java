@@ -0,0 +1,34 @@
+package tutorspet.logic.parser.student;
+
+import static tutorspet.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorspet.logic.commands.student.ImportStudentCommand.MESSAGE_USAGE;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorspet.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.logic.commands.student.ImportStudentCommand;
+
+public class ImportStudentCommandParserTest {
+
+    private ImportStudentCommandParser parser = new ImportStudentCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsImportStudentCommand() {
+        assertParseSuccess(parser, "  data/students.csv  ",
+                new ImportStudentCommand(Paths.get("data/students.csv")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MESSAGE_USAGE);
+
+        // missing file path
+        assertParseFailure(parser, "   ", expectedMessage);
+
+        // invalid file path
+        assertParseFailure(parser, "students\u0000.csv", expectedMessage);
+    }
+}
@@ -12,9 +12,7 @@ import static tutorspet.logic.commands.CommandTestUtil.VALID_START_TIME_0900;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_1;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_WEEK_5;
 import static tutorspet.logic.util.LessonUtil.addAttendanceToLesson;
-import static tutorspet.logic.util.LessonUtil.deleteAllStudentsFromLesson;
 import static tutorspet.logic.util.LessonUtil.deleteAttendanceFromLesson;
-import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.logic.util.LessonUtil.editAttendanceInLesson;
 import static tutorspet.logic.util.ModuleClassUtil.addAttendanceToModuleClass;
 import static tutorspet.logic.util.ModuleClassUtil.addLessonToModuleClass;
@@ -32,20 +30,17 @@ import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalIndexes.INDEX_FIRST_ITEM;
 import static tutorspet.testutil.TypicalModuleClass.CS2100_TUTORIAL;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_NO_STUDENTS;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_WITHOUT_ALICE;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.CARL;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -63,15 +58,7 @@ public class ModuleClassUtilTest {
 
     @Test
     public void deleteStudentFromModuleClass_validParameters_success() {
-        Set<UUID> modifiedUuids = new HashSet<>(CS2103T_TUTORIAL.getStudentUuids());
-        modifiedUuids.remove(ALICE.getUuid());
-        List<Lesson> lessons = new ArrayList<>(CS2103T_TUTORIAL.getLessons());
-        List<Lesson> modifiedLessons = lessons.stream().map(lesson ->
-                deleteStudentFromLesson(lesson, ALICE)).collect(Collectors.toUnmodifiableList());
-        ModuleClass expectedModuleClass = new ModuleClass(CS2103T_TUTORIAL.getName(), modifiedUuids,
-                modifiedLessons);
-
-        assertEquals(expectedModuleClass, deleteStudentFromModuleClass(CS2103T_TUTORIAL, ALICE));
+        assertEquals(CS2103T_TUTORIAL_WITHOUT_ALICE, deleteStudentFromModuleClass(CS2103T_TUTORIAL, ALICE));
     }
 
     @Test
@@ -82,13 +69,7 @@ public class ModuleClassUtilTest {
 
     @Test
     public void deleteAllStudentsFromModuleClass_validParameters_success() {
-        List<Lesson> lessons = new ArrayList<>(CS2103T_TUTORIAL.getLessons());
-        List<Lesson> modifiedLessons = lessons.stream().map(lesson ->
-                deleteAllStudentsFromLesson(lesson)).collect(Collectors.toUnmodifiableList());
-        ModuleClass expectedModuleClass = new ModuleClass(CS2103T_TUTORIAL.getName(), Collections.emptySet(),
-                modifiedLessons);
-
-        assertEquals(expectedModuleClass, deleteAllStudentsFromModuleClass(CS2103T_TUTORIAL));
+        assertEquals(CS2103T_TUTORIAL_NO_STUDENTS, deleteAllStudentsFromModuleClass(CS2103T_TUTORIAL));
     }
 
     @Test
@@ -2,33 +2,28 @@ package tutorspet.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_TAG_AVERAGE;
-import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_WITHOUT_ALICE;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
 import static tutorspet.testutil.TypicalStudent.BENSON;
 import static tutorspet.testutil.TypicalStudent.GEORGE;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
@@ -76,6 +71,20 @@ public class TutorsPetTest {
         assertThrows(DuplicateStudentException.class, () -> tutorsPet.resetData(newData));
     }
 
+    @Test
+    public void getModificationCount_dataModified_countChanges() {
+        long modificationCount = tutorsPet.getModificationCount();
+        tutorsPet.hasStudent(ALICE);
+        tutorsPet.getStudentList();
+        assertEquals(modificationCount, tutorsPet.getModificationCount());
+
+        tutorsPet.addStudent(ALICE);
+        assertTrue(tutorsPet.getModificationCount() > modificationCount);
+        modificationCount = tutorsPet.getModificationCount();
+        tutorsPet.deleteStudent(ALICE);
+        assertTrue(tutorsPet.getModificationCount() > modificationCount);
+    }
+
     @Test
     public void hasStudent_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> tutorsPet.hasStudent(null));
@@ -118,17 +127,8 @@ public class TutorsPetTest {
 
         tutorsPet.deleteStudent(ALICE);
 
-        // manually remove UUID
-        Set<UUID> modifiedUuids = new HashSet<>(CS2103T_TUTORIAL.getStudentUuids());
-        modifiedUuids.remove(ALICE.getUuid());
-        List<Lesson> lessons = new ArrayList<>(CS2103T_TUTORIAL.getLessons());
-        List<Lesson> modifiedLessons = lessons.stream().map(lesson ->
-                deleteStudentFromLesson(lesson, ALICE)).collect(Collectors.toUnmodifiableList());
-        ModuleClass modifiedTutorial = new ModuleClass(CS2103T_TUTORIAL.getName(), modifiedUuids,
-                modifiedLessons);
-
         TutorsPet expectedTutorsPet =
-                new TutorsPetBuilder().withStudent(BENSON).withModuleClass(modifiedTutorial).build();
+                new TutorsPetBuilder().withStudent(BENSON).withModuleClass(CS2103T_TUTORIAL_WITHOUT_ALICE).build();
         assertEquals(expectedTutorsPet, tutorsPet);
     }
 
@@ -255,6 +255,31 @@ public class TutorsPetTest {
         assertFalse(tutorsPet.hasModuleClass(CS2100_LAB));
     }
 
+    @Test
+    public void asSnapshot_laterChanges_sharesListSnapshotsTakenBeforeChanges() {
+        tutorsPet.addStudent(ALICE);
+        tutorsPet.addModuleClass(CS2100_LAB);
+        List<Student> studentListSnapshot = tutorsPet.getStudentListSnapshot();
+        ReadOnlyTutorsPet snapshot = tutorsPet.asSnapshot();
+
+        tutorsPet.addStudent(BENSON);
+
+        assertSame(studentListSnapshot, snapshot.getStudentListSnapshot());
+        assertEquals(List.of(ALICE), snapshot.getStudentList());
+        assertEquals(List.of(CS2100_LAB), snapshot.getModuleClassListSnapshot());
+    }
+
+    @Test
+    public void getStudentListSnapshot_readOnlyTutorsPet_copiesList() {
+        TutorsPetStub stub = new TutorsPetStub(List.of(ALICE), List.of(CS2100_LAB));
+        List<Student> studentListSnapshot = stub.getStudentListSnapshot();
+
+        stub.getStudentList().add(BENSON);
+
+        assertEquals(List.of(ALICE), studentListSnapshot);
+        assertEquals(List.of(CS2100_LAB), stub.getModuleClassListSnapshot());
+    }
+
     @Test
     public void equals() {
         tutorsPet.resetData(getTypicalTutorsPet());
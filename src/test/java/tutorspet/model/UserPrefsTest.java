@@ -17,4 +17,29 @@ public class UserPrefsTest {
         UserPrefs userPrefs = new UserPrefs();
         assertThrows(NullPointerException.class, () -> userPrefs.setTutorsPetFilePath(null));
     }
+
+    @Test
+    public void setHistoryMode_nullHistoryMode_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setHistoryMode(null));
+    }
+
+    @Test
+    public void setDataFileFormat_nullDataFileFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setDataFileFormat(null));
+    }
+
+    @Test
+    public void setLastDataFileFormat_nullDataFileFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setLastDataFileFormat(null));
+    }
+
+    @Test
+    public void setHistoryLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setHistoryLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setHistoryLimit(-1));
+    }
 }
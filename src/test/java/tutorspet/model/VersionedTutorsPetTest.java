@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.model.VersionedTutorsPet.INITIAL_COMMIT_MESSAGE;
 import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
+import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalStudent.BENSON;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
 import java.util.Arrays;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import tutorspet.model.exception.RedoStateException;
 import tutorspet.model.exception.UndoStateException;
+import tutorspet.testutil.StudentBuilder;
 
 public class VersionedTutorsPetTest {
 
@@ -38,6 +42,47 @@ public class VersionedTutorsPetTest {
         assertFalse(versionedTutorsPet.canRedo());
     }
 
+    @Test
+    public void commit_exceedsHistoryLimit_evictsOldestStates() {
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.SNAPSHOT, 2);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        TutorsPet oldestData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        versionedTutorsPet.deleteModuleClass(CS2100_LAB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_3);
+
+        assertEquals(new StateRecords(2, Arrays.asList(COMMIT_MESSAGE_1, COMMIT_MESSAGE_2, COMMIT_MESSAGE_3)),
+                versionedTutorsPet.viewStateRecords());
+        versionedTutorsPet.undo();
+        versionedTutorsPet.undo();
+        assertFalse(versionedTutorsPet.canUndo());
+        assertEquals(oldestData, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void commit_exceedsHistoryLimitDeltaMode_evictsOldestStates() {
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.DELTA, 1);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        TutorsPet oldestData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+
+        assertEquals(new StateRecords(1, Arrays.asList(COMMIT_MESSAGE_1, COMMIT_MESSAGE_2)),
+                versionedTutorsPet.viewStateRecords());
+        versionedTutorsPet.undo();
+        assertFalse(versionedTutorsPet.canUndo());
+        assertEquals(oldestData, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void constructor_nonPositiveHistoryLimit_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.SNAPSHOT, 0));
+    }
+
     @Test
     public void canUndo_hasPreviousState_returnsTrue() {
         versionedTutorsPet.commit(COMMIT_MESSAGE_1);
@@ -62,11 +107,108 @@ public class VersionedTutorsPetTest {
         assertTrue(versionedTutorsPet.canRedo());
     }
 
+    @Test
+    public void undo_afterModifications_restoresPreviousData() {
+        TutorsPet initialData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        TutorsPet intermediateData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.deleteModuleClass(CS2100_LAB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+
+        versionedTutorsPet.undo();
+        assertEquals(intermediateData, new TutorsPet(versionedTutorsPet));
+        versionedTutorsPet.undo();
+        assertEquals(initialData, new TutorsPet(versionedTutorsPet));
+        versionedTutorsPet.redo();
+        assertEquals(intermediateData, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void undo_deltaMode_restoresPreviousData() {
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.DELTA);
+        TutorsPet initialData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.setStudent(BENSON, new StudentBuilder(BENSON).withName("Benson Tan").build());
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        TutorsPet intermediateData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.deleteStudent(ALICE);
+        versionedTutorsPet.deleteModuleClass(CS2100_LAB);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+        TutorsPet finalData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.deleteAllStudents();
+        versionedTutorsPet.deleteAllModuleClasses();
+        versionedTutorsPet.commit(COMMIT_MESSAGE_3);
+
+        assertEquals(COMMIT_MESSAGE_3, versionedTutorsPet.undo());
+        assertEquals(finalData, new TutorsPet(versionedTutorsPet));
+        assertEquals(COMMIT_MESSAGE_2, versionedTutorsPet.undo());
+        assertEquals(intermediateData, new TutorsPet(versionedTutorsPet));
+        assertEquals(COMMIT_MESSAGE_1, versionedTutorsPet.undo());
+        assertEquals(initialData, new TutorsPet(versionedTutorsPet));
+        assertEquals(COMMIT_MESSAGE_1, versionedTutorsPet.redo());
+        assertEquals(intermediateData, new TutorsPet(versionedTutorsPet));
+        assertEquals(COMMIT_MESSAGE_2, versionedTutorsPet.redo());
+        assertEquals(finalData, new TutorsPet(versionedTutorsPet));
+    }
+
+    @Test
+    public void undo_deltaModeUncommittedChanges_discardsUncommittedChanges() {
+        versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.DELTA);
+        TutorsPet initialData = new TutorsPet(versionedTutorsPet);
+        versionedTutorsPet.addStudent(AMY);
+        versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+        versionedTutorsPet.deleteStudent(ALICE);
+
+        versionedTutorsPet.undo();
+        assertEquals(initialData, new TutorsPet(versionedTutorsPet));
+    }
+
     @Test
     public void undo_noPreviousState_throwsUndoStateException() {
         assertThrows(UndoStateException.class, () -> versionedTutorsPet.undo());
     }
 
+    @Test
+    public void gotoState_validIndex_restoresState() {
+        for (HistoryMode historyMode : HistoryMode.values()) {
+            versionedTutorsPet = new VersionedTutorsPet(getTypicalTutorsPet(), historyMode);
+            TutorsPet initialData = new TutorsPet(versionedTutorsPet);
+            versionedTutorsPet.addStudent(AMY);
+            versionedTutorsPet.commit(COMMIT_MESSAGE_1);
+            TutorsPet intermediateData = new TutorsPet(versionedTutorsPet);
+            versionedTutorsPet.deleteStudent(ALICE);
+            versionedTutorsPet.deleteModuleClass(CS2100_LAB);
+            versionedTutorsPet.commit(COMMIT_MESSAGE_2);
+            TutorsPet finalData = new TutorsPet(versionedTutorsPet);
+            versionedTutorsPet.deleteAllStudents();
+
+            assertEquals(INITIAL_COMMIT_MESSAGE, versionedTutorsPet.gotoState(0));
+            assertEquals(initialData, new TutorsPet(versionedTutorsPet));
+            assertEquals(COMMIT_MESSAGE_2, versionedTutorsPet.gotoState(2));
+            assertEquals(finalData, new TutorsPet(versionedTutorsPet));
+            assertEquals(COMMIT_MESSAGE_1, versionedTutorsPet.gotoState(1));
+            assertEquals(intermediateData, new TutorsPet(versionedTutorsPet));
+            assertEquals(new StateRecords(1,
+                            Arrays.asList(INITIAL_COMMIT_MESSAGE, COMMIT_MESSAGE_1, COMMIT_MESSAGE_2)),
+                    versionedTutorsPet.viewStateRecords());
+
+            // undo and redo continue from the restored state
+            versionedTutorsPet.undo();
+            assertEquals(initialData, new TutorsPet(versionedTutorsPet));
+            versionedTutorsPet.redo();
+            versionedTutorsPet.redo();
+            assertEquals(finalData, new TutorsPet(versionedTutorsPet));
+        }
+    }
+
+    @Test
+    public void gotoState_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> versionedTutorsPet.gotoState(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> versionedTutorsPet.gotoState(-1));
+    }
+
     @Test
     public void canRedo_hasNextState_returnsTrue() {
         versionedTutorsPet.commit(COMMIT_MESSAGE_1);
@@ -169,5 +311,8 @@ public class VersionedTutorsPetTest {
         VersionedTutorsPet versionedTutorsPetDifferentCurrentState = new VersionedTutorsPet(getTypicalTutorsPet());
         versionedTutorsPetDifferentCurrentState.addStudent(AMY);
         assertFalse(versionedTutorsPet.equals(versionedTutorsPetDifferentCurrentState));
+
+        // different history mode -> returns false
+        assertFalse(versionedTutorsPet.equals(new VersionedTutorsPet(getTypicalTutorsPet(), HistoryMode.DELTA)));
     }
 }
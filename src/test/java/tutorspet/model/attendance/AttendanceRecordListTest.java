@@ -2,8 +2,11 @@ package tutorspet.model.attendance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_NUMBER_OF_OCCURRENCES_7_LESSON_WED_2_TO_4;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_33;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_51;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_PARTICIPATION_SCORE_80;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
@@ -11,9 +14,14 @@ import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
 import static tutorspet.testutil.TypicalAttendanceRecord.getTypicalAttendanceRecord;
 import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -99,6 +107,138 @@ public class AttendanceRecordListTest {
         assertFalse(recordList.hasAttendance(ALICE, VALID_WEEK));
     }
 
+    @Test
+    public void getAttendances_existingStudent_success() {
+        AttendanceRecordList attendanceRecordList = createAliceRecordList();
+        List<Optional<Attendance>> attendances = attendanceRecordList.getAttendances(ALICE);
+        assertEquals(7, attendances.size());
+        assertEquals(Optional.of(new Attendance(VALID_PARTICIPATION_SCORE_80)), attendances.get(0));
+        for (int i = 1; i < attendances.size(); i++) {
+            assertEquals(Optional.empty(), attendances.get(i));
+        }
+    }
+
+    @Test
+    public void getAttendances_nonExistingStudent_allEmpty() {
+        List<Optional<Attendance>> attendances = recordList.getAttendances(BENSON);
+        assertEquals(7, attendances.size());
+        assertTrue(attendances.stream().allMatch(Optional::isEmpty));
+    }
+
+    @Test
+    public void getAttendanceRecordList_trailingEmptyWeeks_sameRecords() {
+        List<AttendanceRecord> list = new ArrayList<>();
+        list.add(RECORD_EMPTY);
+        list.add(RECORD_ALICE_51_BENSON_33);
+        list.add(RECORD_ALICE_80);
+        list.add(RECORD_EMPTY);
+        list.add(RECORD_EMPTY);
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(list);
+
+        assertEquals(list, attendanceRecordList.getAttendanceRecordList());
+        assertEquals(attendanceRecordList, new AttendanceRecordList(attendanceRecordList.getAttendanceRecordList()));
+    }
+
+    @Test
+    public void forEachAttendance_invalidWeek_throwsInvalidWeekException() {
+        assertThrows(InvalidWeekException.class, () ->
+                recordList.forEachAttendance(INVALID_WEEK, (uuid, attendance) -> {}));
+    }
+
+    @Test
+    public void forEachAttendance_validWeeks_sameAsAttendanceRecords() {
+        List<AttendanceRecord> list = List.of(RECORD_EMPTY, RECORD_ALICE_51_BENSON_33, RECORD_ALICE_80, RECORD_EMPTY);
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(list);
+
+        assertEquals(list.size(), attendanceRecordList.getNumberOfWeeks());
+        for (int i = 0; i < list.size(); i++) {
+            Map<UUID, Attendance> attendances = new LinkedHashMap<>();
+            attendanceRecordList.forEachAttendance(new Week(Index.fromZeroBased(i)), attendances::put);
+            Map<UUID, Attendance> expectedAttendances = new LinkedHashMap<>();
+            list.get(i).forEachAttendance(expectedAttendances::put);
+            assertEquals(new ArrayList<>(expectedAttendances.entrySet()), new ArrayList<>(attendances.entrySet()));
+        }
+    }
+
+    @Test
+    public void forEachStudentUuid_studentsInManyWeeks_eachStudentVisitedOnce() {
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(
+                List.of(RECORD_EMPTY, RECORD_ALICE_51_BENSON_33, RECORD_ALICE_80, RECORD_EMPTY));
+
+        List<UUID> studentUuids = new ArrayList<>();
+        attendanceRecordList.forEachStudentUuid(studentUuids::add);
+        List<UUID> expectedStudentUuids = new ArrayList<>(List.of(ALICE.getUuid(), BENSON.getUuid()));
+        expectedStudentUuids.sort(null);
+        assertEquals(expectedStudentUuids, studentUuids);
+    }
+
+    @Test
+    public void forEachStudentUuid_noAttendances_nothingVisited() {
+        List<UUID> studentUuids = new ArrayList<>();
+        new AttendanceRecordList(List.of(RECORD_EMPTY, RECORD_EMPTY)).forEachStudentUuid(studentUuids::add);
+        assertTrue(studentUuids.isEmpty());
+    }
+
+    @Test
+    public void equals_differentInsertionOrder_returnsTrue() {
+        Map<UUID, Attendance> aliceFirst = new LinkedHashMap<>();
+        aliceFirst.put(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51));
+        aliceFirst.put(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33));
+        Map<UUID, Attendance> bensonFirst = new LinkedHashMap<>();
+        bensonFirst.put(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33));
+        bensonFirst.put(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51));
+
+        AttendanceRecordList aliceFirstList = new AttendanceRecordList(List.of(new AttendanceRecord(aliceFirst)));
+        AttendanceRecordList bensonFirstList = new AttendanceRecordList(List.of(new AttendanceRecord(bensonFirst)));
+        assertEquals(aliceFirstList, bensonFirstList);
+        assertEquals(aliceFirstList.hashCode(), bensonFirstList.hashCode());
+    }
+
+    @Test
+    public void toBuilder_noChanges_returnsSameList() {
+        AttendanceRecordList attendanceRecordList = createAliceRecordList();
+        assertSame(attendanceRecordList, attendanceRecordList.toBuilder().build());
+        assertSame(attendanceRecordList, attendanceRecordList.toBuilder().removeStudent(BENSON.getUuid()).build());
+    }
+
+    @Test
+    public void toBuilder_manyChanges_success() {
+        Week secondWeek = new Week(Index.fromOneBased(2));
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
+        AttendanceRecordList.Builder builder = attendanceRecordList.toBuilder()
+                .setAttendance(ALICE.getUuid(), VALID_WEEK, new Attendance(VALID_PARTICIPATION_SCORE_80))
+                .removeAttendance(ALICE.getUuid(), secondWeek)
+                .removeStudent(BENSON.getUuid());
+        assertTrue(builder.hasAttendance(ALICE.getUuid(), VALID_WEEK));
+        assertFalse(builder.hasAttendance(ALICE.getUuid(), secondWeek));
+        assertEquals(new Attendance(VALID_PARTICIPATION_SCORE_80), builder.getAttendance(ALICE.getUuid(), VALID_WEEK));
+
+        List<AttendanceRecord> list = new ArrayList<>();
+        list.add(RECORD_ALICE_80);
+        list.add(RECORD_EMPTY);
+        list.add(new AttendanceRecord(Map.of(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51))));
+        assertEquals(new AttendanceRecordList(list), builder.build());
+
+        // the original list is unchanged
+        assertEquals(new AttendanceRecordList(getTypicalAttendanceRecord()), attendanceRecordList);
+    }
+
+    @Test
+    public void toBuilder_removeAllStudents_success() {
+        AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
+        AttendanceRecordList expectedAttendanceRecordList =
+                new AttendanceRecordList(new NumberOfOccurrences(getTypicalAttendanceRecord().size()));
+        assertEquals(expectedAttendanceRecordList, attendanceRecordList.toBuilder().removeAllStudents().build());
+    }
+
+    @Test
+    public void toBuilder_invalidWeek_throwsInvalidWeekException() {
+        AttendanceRecordList.Builder builder = recordList.toBuilder();
+        assertThrows(InvalidWeekException.class, () ->
+                builder.setAttendance(ALICE.getUuid(), INVALID_WEEK, new Attendance(VALID_PARTICIPATION_SCORE_80)));
+        assertThrows(InvalidWeekException.class, () -> builder.removeAttendance(ALICE.getUuid(), INVALID_WEEK));
+    }
+
     @Test
     public void equals() {
         AttendanceRecordList attendanceRecordList = new AttendanceRecordList(getTypicalAttendanceRecord());
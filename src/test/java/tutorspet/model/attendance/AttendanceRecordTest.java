@@ -40,6 +40,47 @@ public class AttendanceRecordTest {
         assertEquals(value, record.getAttendanceRecord().get(key));
     }
 
+    @Test
+    public void of_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AttendanceRecord.of(null, new int[0]));
+        assertThrows(NullPointerException.class, () -> AttendanceRecord.of(new UUID[0], null));
+    }
+
+    @Test
+    public void of_invalidArguments_throwsIllegalArgumentException() {
+        UUID[] studentUuids = {ALICE.getUuid()};
+        assertThrows(IllegalArgumentException.class, () -> AttendanceRecord.of(studentUuids, new int[0]));
+        assertThrows(IllegalArgumentException.class, Attendance.MESSAGE_CONSTRAINTS, () ->
+                AttendanceRecord.of(studentUuids, new int[] {Attendance.UPPER_BOUND + 1}));
+    }
+
+    @Test
+    public void of_validArguments_sameAsMapRecord() {
+        HashMap<UUID, Attendance> hashMap = new HashMap<>();
+        hashMap.put(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33));
+        hashMap.put(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_80));
+        AttendanceRecord record = AttendanceRecord.of(new UUID[] {ALICE.getUuid(), BENSON.getUuid()},
+                new int[] {VALID_PARTICIPATION_SCORE_33, VALID_PARTICIPATION_SCORE_80});
+
+        // the attendances can be read before the attendance map is built
+        HashMap<UUID, Attendance> forEachMap = new HashMap<>();
+        record.forEachAttendance(forEachMap::put);
+        assertEquals(hashMap, forEachMap);
+
+        assertEquals(new AttendanceRecord(hashMap), record);
+        assertEquals(hashMap, record.getAttendanceRecord());
+        assertEquals(new Attendance(VALID_PARTICIPATION_SCORE_80), record.getAttendance(BENSON.getUuid()));
+    }
+
+    @Test
+    public void forEachAttendance_mapRecord_allAttendances() {
+        HashMap<UUID, Attendance> hashMap = new HashMap<>();
+        hashMap.put(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33));
+        HashMap<UUID, Attendance> forEachMap = new HashMap<>();
+        new AttendanceRecord(hashMap).forEachAttendance(forEachMap::put);
+        assertEquals(hashMap, forEachMap);
+    }
+
     @Test
     public void getAttendance_nullUuid_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> attendanceRecord.getAttendance(null));
@@ -1,6 +1,8 @@
 package tutorspet.model.attendance;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
 
@@ -16,6 +18,19 @@ class AttendanceTest {
         assertThrows(IllegalArgumentException.class, () -> new Attendance(invalidParticipationScore));
     }
 
+    @Test
+    public void of_invalidAttendance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Attendance.of(Attendance.LOWER_BOUND - 1));
+        assertThrows(IllegalArgumentException.class, () -> Attendance.of(Attendance.UPPER_BOUND + 1));
+    }
+
+    @Test
+    public void of_validAttendance_returnsSameAttendance() {
+        assertSame(Attendance.of(Attendance.LOWER_BOUND), Attendance.of(Attendance.LOWER_BOUND));
+        assertSame(Attendance.of(Attendance.UPPER_BOUND), Attendance.of(Attendance.UPPER_BOUND));
+        assertEquals(ATTENDANCE_ONE, Attendance.of(3));
+    }
+
     @Test
     public void isValidParticipationScore() {
         // invalid score
@@ -1,7 +1,12 @@
 package tutorspet.model.components.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static tutorspet.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
@@ -17,6 +22,31 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(""));
+    }
+
+    @Test
+    public void of_sameTagName_returnsSameTag() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertEquals(new Tag("friends"), Tag.of("friends"));
+    }
+
+    @Test
+    public void ofSet_equalTags_returnsSameSet() {
+        Set<Tag> tags = new HashSet<>(Set.of(new Tag("friends"), new Tag("owesMoney")));
+        Set<Tag> sharedTags = Tag.ofSet(tags);
+        assertEquals(tags, sharedTags);
+        assertSame(sharedTags, Tag.ofSet(new HashSet<>(tags)));
+
+        // later changes to the given set do not affect the shared set
+        tags.add(new Tag("colleagues"));
+        assertEquals(2, sharedTags.size());
+        assertThrows(UnsupportedOperationException.class, () -> sharedTags.add(new Tag("colleagues")));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
@@ -4,6 +4,7 @@ import static java.time.LocalTime.parse;
 import static java.util.UUID.fromString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_DAY_FRI_LESSON_FRI_8_TO_10;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_DAY_WED_LESSON_WED_2_TO_4;
@@ -14,6 +15,7 @@ import static tutorspet.logic.commands.CommandTestUtil.VALID_START_TIME_0900;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_START_TIME_1400_LESSON_WED_2_TO_4;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_UUID_AMY;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_VENUE_COM1_B111_LESSON_WED_2_TO_4;
+import static tutorspet.logic.commands.CommandTestUtil.VALID_VENUE_S17_0302_LESSON_FRI_8_TO_10;
 import static tutorspet.model.lesson.Lesson.TIME_FORMATTER;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalLesson.LESSON_FRI_8_TO_10;
@@ -197,6 +199,28 @@ public class LessonTest {
         assertEquals(expectedString, lesson.printLesson());
     }
 
+    @Test
+    public void toBuilder_noChanges_returnsSameLesson() {
+        assertSame(LESSON_WED_2_TO_4, LESSON_WED_2_TO_4.toBuilder().build());
+    }
+
+    @Test
+    public void toBuilder_changes_success() {
+        Lesson editedLesson = LESSON_WED_2_TO_4.toBuilder()
+                .withStartTime(parse(VALID_START_TIME_0900))
+                .withVenue(new Venue(VALID_VENUE_S17_0302_LESSON_FRI_8_TO_10))
+                .build();
+        Lesson expectedLesson = new LessonBuilder(LESSON_WED_2_TO_4).withStartTime(parse(VALID_START_TIME_0900))
+                .withVenue(VALID_VENUE_S17_0302_LESSON_FRI_8_TO_10).build();
+        assertEquals(expectedLesson, editedLesson);
+    }
+
+    @Test
+    public void toBuilder_invalidStartTimeEndTime_throwsIllegalArgumentException() {
+        Lesson.Builder builder = LESSON_WED_2_TO_4.toBuilder().withEndTime(parse(VALID_START_TIME_0900));
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
     @Test
     public void equals() {
         // same object -> returns true
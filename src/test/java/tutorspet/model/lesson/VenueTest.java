@@ -1,6 +1,8 @@
 package tutorspet.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
 
@@ -19,6 +21,18 @@ public class VenueTest {
         assertThrows(IllegalArgumentException.class, () -> new Venue(invalidVenue));
     }
 
+    @Test
+    public void of_invalidVenue_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> Venue.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Venue.of(""));
+    }
+
+    @Test
+    public void of_sameVenue_returnsSameVenue() {
+        assertSame(Venue.of("COM1-B103"), Venue.of("COM1-B103"));
+        assertEquals(new Venue("COM1-B103"), Venue.of("COM1-B103"));
+    }
+
     @Test
     public void isValidVenue() {
         // null venue
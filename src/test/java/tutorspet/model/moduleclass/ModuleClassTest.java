@@ -2,6 +2,7 @@ package tutorspet.model.moduleclass;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.logic.commands.CommandTestUtil.VALID_NAME_CS2100_LAB;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.Test;
 
 import tutorspet.model.components.name.Name;
 import tutorspet.model.lesson.Lesson;
+import tutorspet.testutil.LessonBuilder;
 import tutorspet.testutil.ModuleClassBuilder;
 
 public class ModuleClassTest {
@@ -200,4 +202,55 @@ public class ModuleClassTest {
         editedCs2103t = new ModuleClassBuilder(CS2103T_TUTORIAL).withLessons(LESSON_FRI_8_TO_10).build();
         assertFalse(CS2103T_TUTORIAL.equals(editedCs2103t));
     }
+
+    @Test
+    public void toBuilder_noChanges_returnsSameModuleClass() {
+        assertSame(CS2103T_TUTORIAL, CS2103T_TUTORIAL.toBuilder().build());
+    }
+
+    @Test
+    public void toBuilder_removeAbsentStudentUuid_returnsSameModuleClass() {
+        assertSame(CS2103T_TUTORIAL, CS2103T_TUTORIAL.toBuilder().removeStudentUuid(AMY.getUuid()).build());
+    }
+
+    @Test
+    public void toBuilder_addPresentStudentUuid_returnsSameModuleClass() {
+        assertSame(CS2103T_TUTORIAL, CS2103T_TUTORIAL.toBuilder().addStudentUuid(ALICE.getUuid()).build());
+    }
+
+    @Test
+    public void toBuilder_removeAllStudentUuidsWithoutStudents_returnsSameModuleClass() {
+        ModuleClass moduleClass = new ModuleClassBuilder().build();
+        assertSame(moduleClass, moduleClass.toBuilder().removeAllStudentUuids().build());
+    }
+
+    @Test
+    public void toBuilder_removePresentStudentUuid_success() {
+        ModuleClass editedModuleClass = CS2103T_TUTORIAL.toBuilder().removeStudentUuid(BENSON.getUuid()).build();
+        assertEquals(Set.of(ALICE.getUuid()), editedModuleClass.getStudentUuids());
+    }
+
+    @Test
+    public void toBuilder_manyChanges_success() {
+        ModuleClass.Builder builder = CS2103T_TUTORIAL.toBuilder()
+                .withName(new Name(VALID_NAME_CS2100_LAB))
+                .removeStudentUuid(BENSON.getUuid())
+                .addLesson(LESSON_FRI_8_TO_10);
+        builder.getLessonBuilder(0).getAttendanceRecordListBuilder().removeStudent(BENSON.getUuid());
+
+        Lesson expectedLesson = new LessonBuilder(CS2103T_TUTORIAL.getLessons().get(0))
+                .withAttendanceRecordList(CS2103T_TUTORIAL.getLessons().get(0).getAttendanceRecordList().toBuilder()
+                        .removeStudent(BENSON.getUuid()).build())
+                .build();
+        ModuleClass expectedModuleClass = new ModuleClassBuilder().withName(VALID_NAME_CS2100_LAB)
+                .withStudentUuids(ALICE.getUuid()).withLessons(expectedLesson, LESSON_FRI_8_TO_10).build();
+        assertEquals(expectedModuleClass, builder.build());
+    }
+
+    @Test
+    public void toBuilder_removeLesson_success() {
+        ModuleClass editedModuleClass = CS2100_LAB.toBuilder().removeLesson(0).build();
+        assertEquals(CS2100_LAB.getLessons().subList(1, CS2100_LAB.getLessons().size()),
+                editedModuleClass.getLessons());
+    }
 }
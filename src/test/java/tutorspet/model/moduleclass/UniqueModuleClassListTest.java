@@ -3,27 +3,22 @@ package tutorspet.model.moduleclass;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static tutorspet.logic.util.LessonUtil.deleteStudentFromLesson;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalModuleClass.CS2100_LAB;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL;
 import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_NO_STUDENTS;
+import static tutorspet.testutil.TypicalModuleClass.CS2103T_TUTORIAL_WITHOUT_ALICE;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.AMY;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.exceptions.DuplicateModuleClassException;
 import tutorspet.model.moduleclass.exceptions.ModuleClassNotFoundException;
 import tutorspet.model.student.Student;
@@ -126,6 +121,29 @@ public class UniqueModuleClassListTest {
         assertEquals(expectedUniqueModuleClassList, uniqueModuleClassList);
     }
 
+    @Test
+    public void remove_firstModuleClass_laterModuleClassesStillFound() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.add(CS2100_LAB);
+        uniqueModuleClassList.remove(CS2103T_TUTORIAL);
+        assertFalse(uniqueModuleClassList.contains(CS2103T_TUTORIAL));
+
+        ModuleClass editedClass = new ModuleClassBuilder(CS2100_LAB).withStudentUuids(AMY.getUuid()).build();
+        uniqueModuleClassList.setModuleClass(CS2100_LAB, editedClass);
+        uniqueModuleClassList.remove(editedClass);
+        assertEquals(new UniqueModuleClassList(), uniqueModuleClassList);
+    }
+
+    @Test
+    public void setModuleClass_editedModuleClassHasDifferentName_releasesOldName() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.setModuleClass(CS2103T_TUTORIAL, CS2100_LAB);
+        assertFalse(uniqueModuleClassList.contains(CS2103T_TUTORIAL));
+        assertTrue(uniqueModuleClassList.contains(CS2100_LAB));
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        assertEquals(Arrays.asList(CS2100_LAB, CS2103T_TUTORIAL), uniqueModuleClassList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void removeUuid_nullUuid_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueModuleClassList.removeStudent(null));
@@ -137,15 +155,31 @@ public class UniqueModuleClassListTest {
         uniqueModuleClassList.removeStudent(ALICE);
 
         UniqueModuleClassList expectedUniqueModuleClassList = new UniqueModuleClassList();
-        Set<UUID> modifiedUuids = new HashSet<>(CS2103T_TUTORIAL.getStudentUuids());
-        UUID uuidToRemove = CS2103T_TUTORIAL.getStudentUuids().iterator().next();
-        modifiedUuids.remove(uuidToRemove);
-        List<Lesson> lessons = new ArrayList<>(CS2103T_TUTORIAL.getLessons());
-        List<Lesson> modifiedLessons = lessons.stream().map(lesson ->
-                        deleteStudentFromLesson(lesson, ALICE)).collect(Collectors.toUnmodifiableList());
-        ModuleClass modifiedModuleClass = new ModuleClass(CS2103T_TUTORIAL.getName(), modifiedUuids,
-                modifiedLessons);
-        expectedUniqueModuleClassList.add(modifiedModuleClass);
+        expectedUniqueModuleClassList.add(CS2103T_TUTORIAL_WITHOUT_ALICE);
+
+        assertEquals(expectedUniqueModuleClassList, uniqueModuleClassList);
+    }
+
+    @Test
+    public void removeUuid_existingUuid_onlyUpdatesEnrolledModuleClasses() {
+        uniqueModuleClassList.add(CS2103T_TUTORIAL);
+        uniqueModuleClassList.add(CS2100_LAB);
+        uniqueModuleClassList.removeStudent(ALICE);
+
+        List<ModuleClass> moduleClasses = uniqueModuleClassList.asUnmodifiableObservableList();
+        assertFalse(moduleClasses.get(0).hasStudentUuid(ALICE.getUuid()));
+        assertSame(CS2100_LAB, moduleClasses.get(1));
+    }
+
+    @Test
+    public void removeUuid_uuidLinkedByEdit_updatesEditedModuleClass() {
+        uniqueModuleClassList.add(CS2100_LAB);
+        ModuleClass linkedModuleClass = new ModuleClassBuilder(CS2100_LAB).withStudentUuids(ALICE.getUuid()).build();
+        uniqueModuleClassList.setModuleClass(CS2100_LAB, linkedModuleClass);
+        uniqueModuleClassList.removeStudent(ALICE);
+
+        UniqueModuleClassList expectedUniqueModuleClassList = new UniqueModuleClassList();
+        expectedUniqueModuleClassList.add(CS2100_LAB);
 
         assertEquals(expectedUniqueModuleClassList, uniqueModuleClassList);
     }
@@ -12,12 +12,14 @@ import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.BENSON;
 import static tutorspet.testutil.TypicalStudent.BOB;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import tutorspet.commons.util.ListChange;
 import tutorspet.model.student.exceptions.DuplicateStudentException;
 import tutorspet.model.student.exceptions.StudentNotFoundException;
 import tutorspet.testutil.StudentBuilder;
@@ -97,6 +99,38 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueStudentList.addAll(null));
+    }
+
+    @Test
+    public void addAll_uniqueStudents_addsAsOneChange() {
+        uniqueStudentList.add(ALICE);
+        List<ListChange<Student>> changes = new ArrayList<>();
+        uniqueStudentList.setChangeListener(changes::add);
+        uniqueStudentList.addAll(Arrays.asList(BENSON, BOB));
+
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.setStudent(Arrays.asList(ALICE, BENSON, BOB));
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertEquals(List.of(new ListChange<>(1, List.of(), List.of(BENSON, BOB))), changes);
+    }
+
+    @Test
+    public void addAll_duplicateStudents_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+
+        // duplicate of a student in the list
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, ALICE)));
+
+        // duplicates among the added students
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.addAll(Arrays.asList(BOB, BOB)));
+
+        // list is unchanged
+        assertEquals(List.of(ALICE), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setStudent_nullTargetStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent(null, ALICE));
@@ -148,6 +182,24 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, BOB));
     }
 
+    @Test
+    public void setStudent_editedStudentSharesEmailWithAnotherStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        Student editedAlice = new StudentBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_releasesOldIdentity() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.containsUuid(ALICE));
+        assertTrue(uniqueStudentList.contains(BOB));
+        assertTrue(uniqueStudentList.containsUuid(BOB));
+    }
+
     @Test
     public void remove_nullStudent_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.remove(null));
@@ -166,6 +218,28 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_studentAfterRemovedStudent_removesStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.remove(BOB);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(BENSON);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void remove_existingStudent_releasesIdentity() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.remove(ALICE);
+        assertFalse(uniqueStudentList.contains(ALICE));
+        assertFalse(uniqueStudentList.containsUuid(ALICE));
+        uniqueStudentList.add(ALICE);
+        assertTrue(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudent((UniqueStudentList) null));
@@ -201,6 +275,15 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithDuplicateStudents_keepsOwnList() {
+        uniqueStudentList.add(BENSON);
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudent(listWithDuplicateStudents));
+        assertTrue(uniqueStudentList.contains(BENSON));
+        assertFalse(uniqueStudentList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -231,6 +314,54 @@ public class UniqueStudentListTest {
         assertFalse(uniqueStudentList.equals(otherStudentClassList));
     }
 
+    @Test
+    public void setChangeListener_listModified_reportsChanges() {
+        List<ListChange<Student>> changes = new ArrayList<>();
+        uniqueStudentList.setChangeListener(changes::add);
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(ALICE, BOB);
+        uniqueStudentList.remove(BOB);
+
+        List<ListChange<Student>> expectedChanges = Arrays.asList(
+                new ListChange<>(0, List.of(), List.of(ALICE)),
+                new ListChange<>(0, List.of(ALICE), List.of(BOB)),
+                new ListChange<>(0, List.of(BOB), List.of()));
+        assertEquals(expectedChanges, changes);
+    }
+
+    @Test
+    public void applyChange_inverseOfReportedChanges_restoresList() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        List<ListChange<Student>> changes = new ArrayList<>();
+        uniqueStudentList.setChangeListener(changes::add);
+        uniqueStudentList.remove(ALICE);
+        uniqueStudentList.setStudent(BENSON, BOB);
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.setStudent(Collections.singletonList(BENSON));
+
+        UniqueStudentList modifiedStudentList = new UniqueStudentList();
+        modifiedStudentList.setStudent(uniqueStudentList);
+        uniqueStudentList.setChangeListener(change -> {});
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            uniqueStudentList.applyChange(changes.get(i).inverse());
+        }
+        assertEquals(Arrays.asList(ALICE, BENSON), uniqueStudentList.asUnmodifiableObservableList());
+
+        for (ListChange<Student> change : changes) {
+            uniqueStudentList.applyChange(change);
+        }
+        assertEquals(modifiedStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void applyChange_duplicateStudent_throwsDuplicateStudentException() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BENSON);
+        assertThrows(DuplicateStudentException.class, () ->
+                uniqueStudentList.applyChange(new ListChange<>(1, List.of(), List.of(ALICE))));
+    }
+
     @Test
     public void hashCode_sameContents_sameHashCode() {
         uniqueStudentList.add(ALICE);
@@ -0,0 +1,150 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.AMY;
+import static tutorspet.testutil.TypicalStudent.BOB;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+
+public class BackgroundTutorsPetSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BackgroundTutorsPetSaver(null));
+    }
+
+    @Test
+    public void save_thenFlush_savesData() throws Exception {
+        JsonTutorsPetStorage storage = new JsonTutorsPetStorage(testFolder.resolve("data.json"));
+        BackgroundTutorsPetSaver saver = new BackgroundTutorsPetSaver(storage);
+        TutorsPet original = getTypicalTutorsPet();
+
+        saver.save(original);
+        // changes made after the save is scheduled are not saved
+        TutorsPet expected = new TutorsPet(original);
+        original.addStudent(AMY);
+        saver.flush();
+        assertEquals(expected, new TutorsPet(storage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void save_duringSlowSave_coalescesLaterSaves() throws Exception {
+        BlockingTutorsPetStorageStub storage = new BlockingTutorsPetStorageStub(testFolder.resolve("data.json"));
+        BackgroundTutorsPetSaver saver = new BackgroundTutorsPetSaver(storage);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        saver.save(tutorsPet);
+        storage.saveStarted.await();
+        tutorsPet.addStudent(AMY);
+        saver.save(tutorsPet);
+        tutorsPet.addStudent(BOB);
+        saver.save(tutorsPet);
+        storage.canFinishSave.countDown();
+        saver.flush();
+
+        int initialSize = getTypicalTutorsPet().getStudentList().size();
+        assertEquals(List.of(initialSize, initialSize + 2), storage.savedStudentCounts);
+    }
+
+    @Test
+    public void flush_saveFailed_throwsIoException() throws Exception {
+        BackgroundTutorsPetSaver saver = new BackgroundTutorsPetSaver(new FailingTutorsPetStorageStub());
+        saver.save(new TutorsPet());
+        assertThrows(IOException.class, saver::flush);
+
+        // the failure is reported by the next save, which is still scheduled and fails again
+        assertThrows(IOException.class, () -> saver.save(new TutorsPet()));
+        assertThrows(IOException.class, saver::flush);
+    }
+
+    @Test
+    public void save_afterFailedSave_savesLatestDataBeforeExit() throws Exception {
+        FailingOnceTutorsPetStorageStub storage =
+                new FailingOnceTutorsPetStorageStub(testFolder.resolve("data.json"));
+        BackgroundTutorsPetSaver saver = new BackgroundTutorsPetSaver(storage);
+        TutorsPet tutorsPet = getTypicalTutorsPet();
+
+        saver.save(tutorsPet);
+        assertThrows(IOException.class, saver::flush);
+
+        // the data that reports the failure is still saved, so nothing is lost on exit
+        tutorsPet.addStudent(AMY);
+        assertThrows(IOException.class, () -> saver.save(tutorsPet));
+        saver.flush();
+        assertEquals(tutorsPet, new TutorsPet(storage.readTutorsPet().get()));
+    }
+
+    /**
+     * A stub that blocks its first save until {@code canFinishSave} is counted down.
+     */
+    private static class BlockingTutorsPetStorageStub extends JsonTutorsPetStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch canFinishSave = new CountDownLatch(1);
+        private final List<Integer> savedStudentCounts = Collections.synchronizedList(new ArrayList<>());
+
+        private BlockingTutorsPetStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                canFinishSave.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            savedStudentCounts.add(tutorsPet.getStudentList().size());
+        }
+    }
+
+    /**
+     * A stub that fails its first save.
+     */
+    private static class FailingOnceTutorsPetStorageStub extends JsonTutorsPetStorage {
+        private boolean hasFailed = false;
+
+        private FailingOnceTutorsPetStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+            if (!hasFailed) {
+                hasFailed = true;
+                throw new IOException("dummy exception");
+            }
+            super.saveTutorsPet(tutorsPet, filePath);
+        }
+    }
+
+    /**
+     * A stub that fails every save.
+     */
+    private static class FailingTutorsPetStorageStub extends JsonTutorsPetStorage {
+        private FailingTutorsPetStorageStub() {
+            super(Path.of("unused.json"));
+        }
+
+        @Override
+        public void saveTutorsPet(ReadOnlyTutorsPet tutorsPet, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.testutil.TutorsPetDataGenerator;
+
+public class BinaryTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "tutorspet.bin"),
+                BinaryTutorsPetStorage.getBinaryFilePath(Paths.get("data", "tutorspet.json")));
+        assertEquals(Paths.get("tutorspet.bin"), BinaryTutorsPetStorage.getBinaryFilePath(Paths.get("tutorspet")));
+    }
+
+    @Test
+    public void readTutorsPet_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryTutorsPetStorage(null).readTutorsPet(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryTutorsPetStorage(testFolder.resolve("missing.bin")).readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.bin");
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        TutorsPet original = getTypicalTutorsPet();
+
+        storage.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+
+        original.addStudent(HOON);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_generatedDataWithAttendance_success() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.bin");
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        TutorsPet original = new TutorsPetDataGenerator().withStudents(200).withClasses(10).withLessonsPerClass(3)
+                .withEnrollmentDensity(0.2).withAttendanceFillRatio(0.5).generate();
+
+        storage.saveTutorsPet(original);
+        assertEquals(original, new TutorsPet(storage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void readTutorsPet_notBinaryDataFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.bin");
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(getTypicalTutorsPet());
+
+        assertThrows(DataConversionException.class, () -> new BinaryTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readGeneration_savedWithGeneration_returnsGeneration() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.bin");
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        UUID generation = UUID.randomUUID();
+
+        storage.saveTutorsPet(getTypicalTutorsPet(), filePath, generation);
+        assertEquals(Optional.of(generation), storage.readGeneration(filePath));
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(storage.readTutorsPet().get()));
+
+        // saved without a generation
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        assertNotEquals(Optional.of(generation), storage.readGeneration(filePath));
+    }
+
+    @Test
+    public void readTutorsPet_corruptedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("tutorspet.bin");
+        BinaryTutorsPetStorage storage = new BinaryTutorsPetStorage(filePath);
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        byte[] data = Files.readAllBytes(filePath);
+
+        // truncated file
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+        assertThrows(DataConversionException.class, storage::readTutorsPet);
+
+        // changed byte
+        byte[] changedData = data.clone();
+        changedData[data.length / 2]++;
+        Files.write(filePath, changedData);
+        assertThrows(DataConversionException.class, storage::readTutorsPet);
+
+        // unsupported version
+        byte[] newerData = data.clone();
+        newerData[5]++;
+        Files.write(filePath, newerData);
+        assertThrows(DataConversionException.class, storage::readTutorsPet);
+    }
+
+    @Test
+    public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryTutorsPetStorage(testFolder.resolve("tutorspet.bin")).saveTutorsPet(null));
+    }
+}
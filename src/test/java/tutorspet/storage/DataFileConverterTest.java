@@ -0,0 +1,104 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.model.TutorsPet;
+
+public class DataFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private TutorsPetStorage jsonStorage;
+    private TutorsPetStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        Path jsonFilePath = testFolder.resolve("tutorspet.json");
+        jsonStorage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(jsonFilePath));
+        binaryStorage = new JournalingTutorsPetStorage(
+                new BinaryTutorsPetStorage(BinaryTutorsPetStorage.getBinaryFilePath(jsonFilePath)));
+    }
+
+    @Test
+    public void convert_noData_returnsFalse() throws Exception {
+        assertFalse(DataFileConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getTutorsPetFilePath()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        jsonStorage.saveTutorsPet(original);
+
+        assertTrue(DataFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, new TutorsPet(binaryStorage.readTutorsPet().get()));
+
+        original.addStudent(HOON);
+        binaryStorage.saveTutorsPet(original);
+        assertTrue(DataFileConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(original, new TutorsPet(jsonStorage.readTutorsPet().get()));
+    }
+
+    @Test
+    public void convert_targetHasData_targetBackedUp() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        binaryStorage.saveTutorsPet(original);
+        TutorsPet converted = getTypicalTutorsPet();
+        converted.addStudent(HOON);
+        jsonStorage.saveTutorsPet(converted);
+
+        assertTrue(DataFileConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(converted, new TutorsPet(binaryStorage.readTutorsPet().get()));
+        Path backupFilePath = DataFileConverter.getBackupPath(binaryStorage.getTutorsPetFilePath());
+        assertEquals(original, new TutorsPet(binaryStorage.readTutorsPet(backupFilePath).get()));
+    }
+
+    @Test
+    public void backUp_noData_returnsEmpty() throws Exception {
+        assertFalse(DataFileConverter.backUp(jsonStorage).isPresent());
+    }
+
+    @Test
+    public void backUp_withJournal_journalCopied() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        jsonStorage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        jsonStorage.saveTutorsPet(original);
+        assertTrue(Files.exists(JournalingTutorsPetStorage.getJournalFilePath(jsonStorage.getTutorsPetFilePath())));
+
+        Path backupFilePath = DataFileConverter.backUp(jsonStorage).get();
+        assertEquals(DataFileConverter.getBackupPath(jsonStorage.getTutorsPetFilePath()), backupFilePath);
+        assertEquals(original, new TutorsPet(jsonStorage.readTutorsPet(backupFilePath).get()));
+    }
+
+    @Test
+    public void backUp_sharded_directoryCopied() throws Exception {
+        Path manifestFilePath = ShardedTutorsPetStorage.getManifestFilePath(testFolder.resolve("tutorspet.json"));
+        TutorsPetStorage shardedStorage = new ShardedTutorsPetStorage(manifestFilePath);
+        TutorsPet original = getTypicalTutorsPet();
+        shardedStorage.saveTutorsPet(original);
+
+        Path backupDirectoryPath = DataFileConverter.backUp(shardedStorage).get();
+        TutorsPetStorage backupStorage = new ShardedTutorsPetStorage(
+                backupDirectoryPath.resolve(ShardedTutorsPetStorage.MANIFEST_FILE_NAME));
+        assertEquals(original, new TutorsPet(backupStorage.readTutorsPet().get()));
+
+        // an earlier backup is replaced
+        original.addStudent(HOON);
+        shardedStorage.saveTutorsPet(original);
+        DataFileConverter.backUp(shardedStorage);
+        assertEquals(original, new TutorsPet(backupStorage.readTutorsPet().get()));
+    }
+}
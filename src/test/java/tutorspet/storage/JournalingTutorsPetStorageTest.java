@@ -0,0 +1,170 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalStudent.IDA;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+
+public class JournalingTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournalingTutorsPetStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("tutorspet.json");
+        journalFilePath = JournalingTutorsPetStorage.getJournalFilePath(filePath);
+        storage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalingTutorsPetStorage(null));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void saveTutorsPet_firstSave_writesSnapshot() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_laterSaves_appendsChangesToJournal() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        String snapshot = Files.readString(filePath);
+
+        original.addStudent(HOON);
+        original.deleteStudent(ALICE);
+        storage.saveTutorsPet(original);
+        ModuleClass moduleClass = original.getModuleClassList().get(0);
+        original.setModuleClass(moduleClass, new ModuleClassBuilder(moduleClass).withName("CS1101S").build());
+        original.setStudent(HOON, new StudentBuilder(HOON).withTelegram("hoon_meier").build());
+        storage.saveTutorsPet(original);
+
+        // the snapshot is not rewritten, and each change is appended as a single line
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        // the snapshot with the journal replayed gives the saved data
+        JournalingTutorsPetStorage newStorage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath));
+        assertEquals(original, newStorage.readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_unchangedData_journalNotWritten() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        storage.saveTutorsPet(original);
+
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveTutorsPet_journalOverThreshold_writesSnapshot() throws Exception {
+        storage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath), 1, Duration.ofDays(1));
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+        assertTrue(Files.exists(journalFilePath));
+
+        original.addStudent(IDA);
+        storage.saveTutorsPet(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void compactTutorsPet_withJournal_writesSnapshot() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        storage.compactTutorsPet();
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void readTutorsPet_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        // a snapshot written after the journal already contains its changes, even if the file time is unchanged
+        FileTime snapshotTime = Files.getLastModifiedTime(filePath);
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(original, filePath, UUID.randomUUID());
+        Files.setLastModifiedTime(filePath, snapshotTime);
+
+        JournalingTutorsPetStorage newStorage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath));
+        assertEquals(original, newStorage.readTutorsPet().get());
+    }
+
+    @Test
+    public void readTutorsPet_journalWithPartialEntry_replaysCompleteEntries() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+        Files.writeString(journalFilePath, Files.readString(journalFilePath) + "{\"generation\": \"1\", \"stud");
+
+        JournalingTutorsPetStorage newStorage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath));
+        assertEquals(original, newStorage.readTutorsPet().get());
+
+        // the next save writes a snapshot instead of appending after the partial entry
+        original.addStudent(IDA);
+        newStorage.saveTutorsPet(original);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new JsonTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void readTutorsPet_journalDoesNotMatchSnapshot_throwsDataConversionException() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        // the journal adds HOON, who is already in the snapshot of the same generation
+        JsonTutorsPetStorage snapshotStorage = new JsonTutorsPetStorage(filePath);
+        snapshotStorage.saveTutorsPet(original, filePath, snapshotStorage.readGeneration(filePath).get());
+
+        JournalingTutorsPetStorage newStorage = new JournalingTutorsPetStorage(new JsonTutorsPetStorage(filePath));
+        assertThrows(DataConversionException.class, () -> newStorage.readTutorsPet());
+    }
+}
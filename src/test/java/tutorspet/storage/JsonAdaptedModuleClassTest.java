@@ -28,6 +28,7 @@ import tutorspet.commons.exceptions.IllegalValueException;
 import tutorspet.model.attendance.Attendance;
 import tutorspet.model.attendance.AttendanceRecord;
 import tutorspet.model.components.name.Name;
+import tutorspet.model.lesson.Day;
 import tutorspet.model.lesson.Lesson;
 import tutorspet.model.moduleclass.ModuleClass;
 import tutorspet.storage.attendance.JsonAdaptedAttendanceRecordList;
@@ -169,4 +170,63 @@ public class JsonAdaptedModuleClassTest {
                 OVERLAP_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, moduleClass::toModelType);
     }
+
+    @Test
+    public void toModelType_overlapWithEarlierLongerLesson_throwsIllegalValueException() {
+        // the last lesson only overlaps the first, which ends after the lesson in between
+        List<JsonAdaptedLesson> invalidLessons = List.of(
+                createJsonAdaptedLesson(Day.MONDAY, "09:00", "13:00"),
+                createJsonAdaptedLesson(Day.MONDAY, "10:00", "11:00"),
+                createJsonAdaptedLesson(Day.TUESDAY, "09:00", "13:00"),
+                createJsonAdaptedLesson(Day.MONDAY, "12:00", "14:00"));
+        JsonAdaptedModuleClass moduleClass = new JsonAdaptedModuleClass(
+                VALID_CLASS_JSON_ADAPTED_NAME, VALID_JSON_ADAPTED_UUIDS, invalidLessons);
+        String expectedMessage = String.format(
+                OVERLAP_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, moduleClass::toModelType);
+    }
+
+    @Test
+    public void toModelType_overlapBeforeDuplicateLesson_throwsOverlapException() {
+        List<JsonAdaptedLesson> invalidLessons = List.of(
+                createJsonAdaptedLesson(Day.MONDAY, "09:00", "11:00"),
+                createJsonAdaptedLesson(Day.MONDAY, "10:00", "12:00"),
+                createJsonAdaptedLesson(Day.MONDAY, "09:00", "11:00"));
+        JsonAdaptedModuleClass moduleClass = new JsonAdaptedModuleClass(
+                VALID_CLASS_JSON_ADAPTED_NAME, VALID_JSON_ADAPTED_UUIDS, invalidLessons);
+        String expectedMessage = String.format(
+                OVERLAP_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, moduleClass::toModelType);
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeNullLesson_throwsDuplicateException() {
+        List<JsonAdaptedLesson> invalidLessons = new ArrayList<>(VALID_JSON_ADAPTED_LESSONS);
+        invalidLessons.add(invalidLessons.get(0));
+        invalidLessons.add(null);
+        JsonAdaptedModuleClass moduleClass = new JsonAdaptedModuleClass(
+                VALID_CLASS_JSON_ADAPTED_NAME, VALID_JSON_ADAPTED_UUIDS, invalidLessons);
+        String expectedMessage = String.format(
+                DUPLICATE_LESSON_MESSAGE_FORMAT, ModuleClass.class.getSimpleName());
+        assertThrows(IllegalValueException.class, expectedMessage, moduleClass::toModelType);
+    }
+
+    @Test
+    public void toModelType_manyAdjacentLessons_returnsModuleClass() throws Exception {
+        List<JsonAdaptedLesson> validLessons = new ArrayList<>();
+        for (Day day : Day.values()) {
+            for (int hour = 20; hour > 8; hour--) {
+                validLessons.add(createJsonAdaptedLesson(day, String.format("%02d:00", hour),
+                        String.format("%02d:00", hour + 1)));
+            }
+        }
+        JsonAdaptedModuleClass moduleClass = new JsonAdaptedModuleClass(
+                VALID_CLASS_JSON_ADAPTED_NAME, VALID_JSON_ADAPTED_UUIDS, validLessons);
+        assertEquals(validLessons.size(), moduleClass.toModelType().getLessons().size());
+    }
+
+    private static JsonAdaptedLesson createJsonAdaptedLesson(Day day, String startTime, String endTime) {
+        return new JsonAdaptedLesson(new LessonBuilder().withDay(day).withStartTime(LocalTime.parse(startTime))
+                .withEndTime(LocalTime.parse(endTime)).build());
+    }
 }
@@ -6,6 +6,9 @@ import static tutorspet.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -507,4 +510,23 @@ public class JsonSerializableTutorsPetTest {
                 Attendance.class.getSimpleName());
         assertThrows(IllegalValueException.class, expectedMessage, dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_manyInvalidClasses_throwsFirstInvalidClassException() {
+        TutorsPet typicalTutorsPet = TypicalTutorsPet.getTypicalTutorsPet();
+        List<JsonAdaptedStudent> students = typicalTutorsPet.getStudentList().stream()
+                .map(JsonAdaptedStudent::new).collect(Collectors.toList());
+        JsonAdaptedModuleClass moduleClass = new JsonAdaptedModuleClass(typicalTutorsPet.getModuleClassList().get(0));
+
+        // the duplicate comes before the null class, so it is reported even though the classes are converted together
+        JsonSerializableTutorsPet duplicateFirst = new JsonSerializableTutorsPet(students,
+                Arrays.asList(moduleClass, moduleClass, null));
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS,
+                duplicateFirst::toModelType);
+
+        JsonSerializableTutorsPet nullFirst = new JsonSerializableTutorsPet(students,
+                Arrays.asList(moduleClass, null, moduleClass));
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS,
+                nullFirst::toModelType);
+    }
 }
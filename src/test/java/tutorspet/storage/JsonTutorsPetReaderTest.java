@@ -0,0 +1,100 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.commons.util.JsonUtil;
+import tutorspet.model.TutorsPet;
+import tutorspet.testutil.TutorsPetDataGenerator;
+import tutorspet.testutil.TypicalTutorsPet;
+
+public class JsonTutorsPetReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableTutorsPetTest");
+    private static final Path TYPICAL_TUTORS_PET_FILE = TEST_DATA_FOLDER.resolve("typicalTutorsPet.json");
+
+    private static final String STUDENTS = "\"students\" : [ { \"uuid\" : \"0c527a3f-8a6f-4c16-b57d-563a9c43cf6b\", "
+            + "\"name\" : \"Alice Pauline\", \"telegram\" : \"A1ice_P\", \"email\" : \"alice@example.com\" } ]";
+    private static final String CLASSES = "\"classes\" : [ { \"name\" : \"CS2100 Lab\", "
+            + "\"studentUuids\" : [ \"0c527a3f-8a6f-4c16-b57d-563a9c43cf6b\" ] } ]";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JsonTutorsPetReader(null));
+    }
+
+    @Test
+    public void read_typicalStudentsAndClassesFile_success() throws Exception {
+        assertEquals(TypicalTutorsPet.getTypicalTutorsPet(), read(TYPICAL_TUTORS_PET_FILE));
+    }
+
+    @Test
+    public void read_classesBeforeStudents_success() throws Exception {
+        TutorsPet expected = read(writeJson("{" + STUDENTS + ", " + CLASSES + "}"));
+        assertEquals(expected, read(writeJson("{" + CLASSES + ", " + STUDENTS + "}")));
+        assertEquals(1, expected.getModuleClassList().get(0).getStudentUuids().size());
+    }
+
+    @Test
+    public void read_moreClassesThanBatchSize_success() throws Exception {
+        TutorsPet original = new TutorsPetDataGenerator().withStudents(50)
+                .withClasses(2 * JsonTutorsPetReader.MODULE_CLASS_BATCH_SIZE + 1).withLessonsPerClass(1).generate();
+        Path filePath = testFolder.resolve("generated.json");
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(original);
+
+        assertEquals(original, read(filePath));
+    }
+
+    @Test
+    public void read_unknownAndNullFields_success() throws Exception {
+        TutorsPet tutorsPet = read(writeJson("{ \"_comment\" : { \"a\" : [ 1, 2 ] }, \"classes\" : null, "
+                + STUDENTS + " }"));
+        assertEquals(1, tutorsPet.getStudentList().size());
+        assertEquals(0, tutorsPet.getModuleClassList().size());
+    }
+
+    @Test
+    public void read_invalidData_throwsSameExceptionAsJsonSerializableTutorsPet() {
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT, () ->
+                read(TEST_DATA_FOLDER.resolve("Student").resolve("duplicateStudentUuidTutorsPet.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT, () ->
+                read(TEST_DATA_FOLDER.resolve("Student").resolve("nullStudentTutorsPet.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS, () ->
+                read(TEST_DATA_FOLDER.resolve("Class").resolve("duplicateClassTutorsPet.json")));
+        assertThrows(IllegalValueException.class, JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS, () ->
+                read(writeJson("{" + CLASSES + "}")));
+    }
+
+    @Test
+    public void read_notExpectedStructure_throwsIoException() {
+        assertThrows(IOException.class, () -> read(writeJson("[ ]")));
+        assertThrows(IOException.class, () -> read(writeJson("{ \"students\" : \"Alice\" }")));
+        assertThrows(IOException.class, () -> read(writeJson("{ \"students\" : [ { \"uuid\" : ")));
+    }
+
+    private TutorsPet read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            return new JsonTutorsPetReader(parser).read();
+        }
+    }
+
+    private Path writeJson(String json) throws IOException {
+        Path filePath = Files.createTempFile(testFolder, "tutorspet", ".json");
+        Files.writeString(filePath, json);
+        return filePath;
+    }
+}
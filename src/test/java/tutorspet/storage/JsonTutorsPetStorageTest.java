@@ -2,6 +2,7 @@ package tutorspet.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorspet.testutil.Assert.assertThrows;
 import static tutorspet.testutil.TypicalStudent.ALICE;
 import static tutorspet.testutil.TypicalStudent.HOON;
@@ -9,14 +10,18 @@ import static tutorspet.testutil.TypicalStudent.IDA;
 import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.commons.util.JsonUtil;
 import tutorspet.model.ReadOnlyTutorsPet;
 import tutorspet.model.TutorsPet;
 
@@ -106,6 +111,42 @@ public class JsonTutorsPetStorageTest {
         assertEquals(original, new TutorsPet(readBack));
     }
 
+    @Test
+    public void readGeneration_savedWithGeneration_returnsGeneration() throws Exception {
+        Path filePath = testFolder.resolve("TempTutorsPet.json");
+        JsonTutorsPetStorage jsonTutorsPetStorage = new JsonTutorsPetStorage(filePath);
+        UUID generation = UUID.randomUUID();
+
+        jsonTutorsPetStorage.saveTutorsPet(getTypicalTutorsPet(), filePath, generation);
+        assertEquals(Optional.of(generation), jsonTutorsPetStorage.readGeneration(filePath));
+        assertEquals(getTypicalTutorsPet(), new TutorsPet(jsonTutorsPetStorage.readTutorsPet().get()));
+
+        // saved without a generation
+        jsonTutorsPetStorage.saveTutorsPet(getTypicalTutorsPet(), filePath);
+        assertEquals(Optional.empty(), jsonTutorsPetStorage.readGeneration(filePath));
+
+        // missing file
+        assertEquals(Optional.empty(), jsonTutorsPetStorage.readGeneration(testFolder.resolve("missing.json")));
+    }
+
+    @Test
+    public void saveTutorsPet_prettyAndCompact_sameData() throws Exception {
+        Path prettyFilePath = testFolder.resolve("pretty.json");
+        Path compactFilePath = testFolder.resolve("compact.json");
+        TutorsPet original = getTypicalTutorsPet();
+
+        new JsonTutorsPetStorage(prettyFilePath).saveTutorsPet(original);
+        new JsonTutorsPetStorage(compactFilePath, true).saveTutorsPet(original);
+
+        // pretty files are formatted as before
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableTutorsPet(original)), Files.readString(prettyFilePath));
+        assertFalse(Files.readString(compactFilePath).contains("\n"));
+        assertTrue(Files.size(compactFilePath) < Files.size(prettyFilePath));
+
+        assertEquals(original, new JsonTutorsPetStorage(prettyFilePath).readTutorsPet().get());
+        assertEquals(original, new JsonTutorsPetStorage(compactFilePath).readTutorsPet().get());
+    }
+
     @Test
     public void saveTutorsPet_nullTutorsPet_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveTutorsPet(null, "SomeFile.json"));
@@ -73,6 +73,12 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_invalidHistoryValuesInFile_defaultValuesUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("InvalidHistoryUserPrefs.json").get();
+        assertEquals(new UserPrefs(), actual);
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(new GuiSettings(1000, 500, 300, 100, Stylesheet.LIGHT.toString()));
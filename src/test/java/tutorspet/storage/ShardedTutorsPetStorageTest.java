@@ -0,0 +1,159 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.HOON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.commons.exceptions.DataConversionException;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.testutil.ModuleClassBuilder;
+
+public class ShardedTutorsPetStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path shardDirectoryPath;
+    private ShardedTutorsPetStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = ShardedTutorsPetStorage.getManifestFilePath(testFolder.resolve("tutorspet.json"));
+        shardDirectoryPath = ShardedTutorsPetStorage.getShardDirectoryPath(filePath);
+        storage = new ShardedTutorsPetStorage(filePath);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ShardedTutorsPetStorage(null));
+    }
+
+    @Test
+    public void getManifestFilePath() {
+        assertEquals(Paths.get("data", "tutorspet", ShardedTutorsPetStorage.MANIFEST_FILE_NAME),
+                ShardedTutorsPetStorage.getManifestFilePath(Paths.get("data", "tutorspet.json")));
+    }
+
+    @Test
+    public void readTutorsPet_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTutorsPet().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTutorsPet_allInOrder_success() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+
+        // one shard for the students and one for each class
+        assertEquals(original.getModuleClassList().size() + 1, getShards().size());
+        assertEquals(original, new ShardedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_oneClassChanged_onlyThatShardWritten() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        Set<String> shards = getShards();
+
+        ModuleClass moduleClass = original.getModuleClassList().get(0);
+        original.setModuleClass(moduleClass, new ModuleClassBuilder(moduleClass).withName("CS1101S").build());
+        storage.saveTutorsPet(original);
+
+        Set<String> unchangedShards = new HashSet<>(getShards());
+        unchangedShards.retainAll(shards);
+        assertEquals(shards.size() - 1, unchangedShards.size());
+        assertEquals(shards.size(), getShards().size());
+        assertEquals(original, new ShardedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_studentAdded_classShardsNotWritten() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        Set<String> shards = getShards();
+
+        original.addStudent(HOON);
+        storage.saveTutorsPet(original);
+
+        Set<String> unchangedShards = new HashSet<>(getShards());
+        unchangedShards.retainAll(shards);
+        assertEquals(original.getModuleClassList().size(), unchangedShards.size());
+        assertEquals(original, new ShardedTutorsPetStorage(filePath).readTutorsPet().get());
+    }
+
+    @Test
+    public void saveTutorsPet_unchangedData_nothingWritten() throws Exception {
+        TutorsPet original = getTypicalTutorsPet();
+        storage.saveTutorsPet(original);
+        Set<String> shards = getShards();
+        Files.delete(filePath);
+
+        storage.saveTutorsPet(original);
+        assertEquals(shards, getShards());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void saveTutorsPet_afterRead_onlyChangedShardsWritten() throws Exception {
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        Set<String> shards = getShards();
+
+        ShardedTutorsPetStorage newStorage = new ShardedTutorsPetStorage(filePath);
+        TutorsPet tutorsPet = new TutorsPet(newStorage.readTutorsPet().get());
+        tutorsPet.addStudent(HOON);
+        newStorage.saveTutorsPet(tutorsPet);
+
+        Set<String> unchangedShards = new HashSet<>(getShards());
+        unchangedShards.retainAll(shards);
+        assertEquals(shards.size() - 1, unchangedShards.size());
+    }
+
+    @Test
+    public void readTutorsPet_missingShard_throwsDataConversionException() throws Exception {
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        Files.delete(shardDirectoryPath.resolve(getShards().iterator().next()));
+
+        assertThrows(DataConversionException.class, () -> new ShardedTutorsPetStorage(filePath).readTutorsPet());
+    }
+
+    @Test
+    public void readTutorsPet_shardOutsideShardDirectory_throwsDataConversionException() throws Exception {
+        Files.createDirectories(filePath.getParent());
+        Files.writeString(filePath, "{ \"students\" : \"../../tutorspet.json\", \"classes\" : [ ] }");
+
+        assertThrows(DataConversionException.class, () -> storage.readTutorsPet());
+    }
+
+    @Test
+    public void saveTutorsPet_leftoverShard_deleted() throws Exception {
+        Files.createDirectories(shardDirectoryPath);
+        Files.writeString(shardDirectoryPath.resolve("class-leftover.json"), "{}");
+
+        storage.saveTutorsPet(getTypicalTutorsPet());
+        assertTrue(Files.notExists(shardDirectoryPath.resolve("class-leftover.json")));
+    }
+
+    private Set<String> getShards() throws IOException {
+        try (Stream<Path> shardFilePaths = Files.list(shardDirectoryPath)) {
+            return shardFilePaths.map(path -> path.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
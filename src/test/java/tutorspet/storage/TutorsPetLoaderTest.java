@@ -0,0 +1,91 @@
+package tutorspet.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_DUPLICATE_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_MODULE_CLASS;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENT;
+import static tutorspet.storage.JsonSerializableTutorsPet.MESSAGE_INVALID_STUDENTS_IN_CLASS;
+import static tutorspet.testutil.Assert.assertThrows;
+import static tutorspet.testutil.TypicalStudent.ALICE;
+import static tutorspet.testutil.TypicalStudent.BENSON;
+import static tutorspet.testutil.TypicalTutorsPet.getTypicalTutorsPet;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import tutorspet.commons.exceptions.IllegalValueException;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.testutil.ModuleClassBuilder;
+import tutorspet.testutil.StudentBuilder;
+import tutorspet.testutil.TypicalModuleClass;
+import tutorspet.testutil.TypicalStudent;
+
+public class TutorsPetLoaderTest {
+
+    private final TutorsPetLoader loader = new TutorsPetLoader();
+
+    @Test
+    public void toTutorsPet_typicalData_success() throws Exception {
+        for (Student student : TypicalStudent.getTypicalStudents()) {
+            loader.addStudent(student);
+        }
+        for (ModuleClass moduleClass : TypicalModuleClass.getTypicalModuleClasses()) {
+            loader.addModuleClass(moduleClass);
+        }
+        assertEquals(getTypicalTutorsPet(), loader.toTutorsPet());
+    }
+
+    @Test
+    public void addStudent_nullJsonAdaptedStudent_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_STUDENT, () ->
+                loader.addStudent((JsonAdaptedStudent) null));
+    }
+
+    @Test
+    public void addStudent_duplicateTelegram_throwsIllegalValueException() throws Exception {
+        loader.addStudent(ALICE);
+        Student student = new StudentBuilder(BENSON).withTelegram(ALICE.getTelegram().value).build();
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_STUDENT, () -> loader.addStudent(student));
+    }
+
+    @Test
+    public void addStudent_duplicateEmail_throwsIllegalValueException() throws Exception {
+        loader.addStudent(ALICE);
+        Student student = new StudentBuilder(BENSON).withEmail(ALICE.getEmail().value).build();
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_STUDENT, () -> loader.addStudent(student));
+    }
+
+    @Test
+    public void addStudent_duplicateUuid_throwsIllegalValueException() throws Exception {
+        loader.addStudent(ALICE);
+        Student student = new StudentBuilder(BENSON).withUuid(ALICE.getUuid().toString()).build();
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_STUDENT, () -> loader.addStudent(student));
+    }
+
+    @Test
+    public void addModuleClass_duplicateName_throwsIllegalValueException() throws Exception {
+        loader.addModuleClass(new ModuleClassBuilder().withName("CS2103T Tutorial").build());
+        ModuleClass moduleClass = new ModuleClassBuilder().withName("CS2103T Tutorial")
+                .withStudentUuids(ALICE.getUuid()).build();
+        assertThrows(IllegalValueException.class, MESSAGE_DUPLICATE_MODULE_CLASS, () ->
+                loader.addModuleClass(moduleClass));
+    }
+
+    @Test
+    public void addModuleClass_unknownStudent_throwsIllegalValueException() throws Exception {
+        loader.addStudent(ALICE);
+        ModuleClass moduleClass = new ModuleClassBuilder().withStudentUuids(ALICE.getUuid(), BENSON.getUuid()).build();
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_STUDENTS_IN_CLASS, () ->
+                loader.addModuleClass(moduleClass));
+    }
+
+    @Test
+    public void addModuleClasses_nullJsonAdaptedModuleClass_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, MESSAGE_INVALID_MODULE_CLASS, () ->
+                loader.addModuleClasses(Arrays.asList(new JsonAdaptedModuleClass(
+                        new ModuleClassBuilder().build()), null)));
+    }
+}
@@ -1,6 +1,7 @@
 package tutorspet.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -82,6 +83,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public String gotoState(int stateIndex) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public StateRecords viewStateRecords() {
         throw new AssertionError("This method should not be called.");
@@ -102,6 +113,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addStudents(List<Student> students) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         throw new AssertionError("This method should not be called.");
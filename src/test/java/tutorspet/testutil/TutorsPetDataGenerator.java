@@ -0,0 +1,283 @@
+package tutorspet.testutil;
+
+import static tutorspet.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import tutorspet.model.TutorsPet;
+import tutorspet.model.attendance.Attendance;
+import tutorspet.model.attendance.AttendanceRecord;
+import tutorspet.model.attendance.AttendanceRecordList;
+import tutorspet.model.lesson.Day;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.JsonTutorsPetStorage;
+
+/**
+ * A utility class to generate large, reproducible {@code TutorsPet} data sets for load testing.
+ * The same configuration and seed always generate the same data.
+ * Example usage: <br>
+ *     {@code TutorsPet tp = new TutorsPetDataGenerator().withStudents(10000).withClasses(100).generate();}
+ * <p>
+ * Can also be run from the command line to write a {@code tutorspet.json} file, e.g. <br>
+ *     {@code ./gradlew generateData -PgeneratorArgs="--students=50000 --classes=1000 --output=data/large.json"}
+ */
+public class TutorsPetDataGenerator {
+
+    public static final int DEFAULT_STUDENTS = 1000;
+    public static final int DEFAULT_CLASSES = 100;
+    public static final int DEFAULT_LESSONS_PER_CLASS = 2;
+    public static final int DEFAULT_WEEKS = 13;
+    public static final double DEFAULT_ENROLLMENT_DENSITY = 0.03;
+    public static final double DEFAULT_ATTENDANCE_FILL_RATIO = 0.8;
+    public static final long DEFAULT_SEED = 2103L;
+    public static final String DEFAULT_OUTPUT = "tutorspet.json";
+
+    /** Lessons are two hours long and start on the hour between 08:00 and 20:00 on every day of the week. */
+    public static final int LESSON_SLOTS_PER_DAY = 7;
+    public static final int MAX_LESSONS_PER_CLASS = LESSON_SLOTS_PER_DAY * Day.values().length;
+    public static final int MAX_WEEKS = 52;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy",
+        "Bob", "Carl", "Daniel", "Elle", "Fiona", "George", "Hoon", "Ida"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Bee",
+        "Choo", "Kurz", "Meier", "Meyer", "Kunz", "Best", "Tan", "Mueller"};
+    private static final String[] TAGS = {"Average", "Good", "Experienced", "Struggling", "Weak"};
+
+    private int students;
+    private int classes;
+    private int lessonsPerClass;
+    private int weeks;
+    private double enrollmentDensity;
+    private double attendanceFillRatio;
+    private long seed;
+
+    /**
+     * Creates a {@code TutorsPetDataGenerator} with the default configuration.
+     */
+    public TutorsPetDataGenerator() {
+        students = DEFAULT_STUDENTS;
+        classes = DEFAULT_CLASSES;
+        lessonsPerClass = DEFAULT_LESSONS_PER_CLASS;
+        weeks = DEFAULT_WEEKS;
+        enrollmentDensity = DEFAULT_ENROLLMENT_DENSITY;
+        attendanceFillRatio = DEFAULT_ATTENDANCE_FILL_RATIO;
+        seed = DEFAULT_SEED;
+    }
+
+    /**
+     * Sets the number of students to generate.
+     */
+    public TutorsPetDataGenerator withStudents(int students) {
+        checkArgument(students >= 0, "Number of students must not be negative.");
+        this.students = students;
+        return this;
+    }
+
+    /**
+     * Sets the number of classes to generate.
+     */
+    public TutorsPetDataGenerator withClasses(int classes) {
+        checkArgument(classes >= 0, "Number of classes must not be negative.");
+        this.classes = classes;
+        return this;
+    }
+
+    /**
+     * Sets the number of non-overlapping lessons in each generated class.
+     */
+    public TutorsPetDataGenerator withLessonsPerClass(int lessonsPerClass) {
+        checkArgument(lessonsPerClass >= 0 && lessonsPerClass <= MAX_LESSONS_PER_CLASS,
+                "Number of lessons per class must be between 0 and " + MAX_LESSONS_PER_CLASS + ".");
+        this.lessonsPerClass = lessonsPerClass;
+        return this;
+    }
+
+    /**
+     * Sets the number of weeks, i.e. the {@code NumberOfOccurrences}, of each generated lesson.
+     */
+    public TutorsPetDataGenerator withWeeks(int weeks) {
+        checkArgument(weeks >= 1 && weeks <= MAX_WEEKS, "Number of weeks must be between 1 and " + MAX_WEEKS + ".");
+        this.weeks = weeks;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of all students that is enrolled in each class.
+     */
+    public TutorsPetDataGenerator withEnrollmentDensity(double enrollmentDensity) {
+        checkArgument(enrollmentDensity >= 0 && enrollmentDensity <= 1, "Enrollment density must be in [0, 1].");
+        this.enrollmentDensity = enrollmentDensity;
+        return this;
+    }
+
+    /**
+     * Sets the probability that an enrolled student has an attendance recorded for a lesson in a given week.
+     */
+    public TutorsPetDataGenerator withAttendanceFillRatio(double attendanceFillRatio) {
+        checkArgument(attendanceFillRatio >= 0 && attendanceFillRatio <= 1,
+                "Attendance fill ratio must be in [0, 1].");
+        this.attendanceFillRatio = attendanceFillRatio;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random number generator.
+     */
+    public TutorsPetDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Generates a {@code TutorsPet} with the current configuration.
+     */
+    public TutorsPet generate() {
+        Random random = new Random(seed);
+
+        List<Student> studentList = new ArrayList<>(students);
+        for (int i = 0; i < students; i++) {
+            studentList.add(generateStudent(i, random));
+        }
+
+        int studentsPerClass = (int) Math.round(enrollmentDensity * students);
+        List<ModuleClass> moduleClassList = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            UUID[] enrolledUuids = sampleStudents(studentList, studentsPerClass, random);
+            Lesson[] lessons = new Lesson[lessonsPerClass];
+            for (int j = 0; j < lessonsPerClass; j++) {
+                lessons[j] = generateLesson(j, enrolledUuids, random);
+            }
+            moduleClassList.add(new ModuleClassBuilder()
+                    .withName(String.format("CS%04d Tutorial T%02d", 1000 + i / 100, i % 100))
+                    .withStudentUuids(enrolledUuids)
+                    .withLessons(lessons)
+                    .build());
+        }
+
+        TutorsPet tutorsPet = new TutorsPet();
+        tutorsPet.setStudents(studentList);
+        tutorsPet.setModuleClasses(moduleClassList);
+        return tutorsPet;
+    }
+
+    /**
+     * Generates a {@code TutorsPet} with the current configuration and saves it as a JSON file to {@code filePath}.
+     */
+    public TutorsPet generate(Path filePath) throws IOException {
+        TutorsPet tutorsPet = generate();
+        new JsonTutorsPetStorage(filePath).saveTutorsPet(tutorsPet);
+        return tutorsPet;
+    }
+
+    private static Student generateStudent(int index, Random random) {
+        String handle = "student_" + index;
+        return new StudentBuilder()
+                .withUuid(generateUuid(random).toString())
+                .withName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                        + LAST_NAMES[random.nextInt(LAST_NAMES.length)])
+                .withTelegram(handle)
+                .withEmail(handle + "@example.com")
+                .withTags(TAGS[random.nextInt(TAGS.length)])
+                .build();
+    }
+
+    /**
+     * Returns the {@code UUID}s of {@code count} distinct students chosen uniformly at random.
+     */
+    private static UUID[] sampleStudents(List<Student> studentList, int count, Random random) {
+        // Floyd's algorithm: O(count) regardless of the size of the roster
+        int size = studentList.size();
+        Set<Integer> chosenIndexes = new HashSet<>();
+        for (int i = size - count; i < size; i++) {
+            int candidate = random.nextInt(i + 1);
+            chosenIndexes.add(chosenIndexes.contains(candidate) ? i : candidate);
+        }
+        return chosenIndexes.stream()
+                .sorted()
+                .map(index -> studentList.get(index).getUuid())
+                .toArray(UUID[]::new);
+    }
+
+    private Lesson generateLesson(int slot, UUID[] enrolledUuids, Random random) {
+        LocalTime startTime = LocalTime.of(8 + 2 * (slot % LESSON_SLOTS_PER_DAY), 0);
+        List<AttendanceRecord> records = new ArrayList<>(weeks);
+        for (int week = 0; week < weeks; week++) {
+            AttendanceRecordBuilder recordBuilder = new AttendanceRecordBuilder();
+            for (UUID uuid : enrolledUuids) {
+                if (random.nextDouble() < attendanceFillRatio) {
+                    recordBuilder.withEntry(uuid, new Attendance(random.nextInt(101)));
+                }
+            }
+            records.add(recordBuilder.build());
+        }
+        return new LessonBuilder()
+                .withDay(Day.values()[slot / LESSON_SLOTS_PER_DAY])
+                .withStartTime(startTime)
+                .withEndTime(startTime.plusHours(2))
+                .withVenue(String.format("COM1-%04d", random.nextInt(10000)))
+                .withAttendanceRecordList(new AttendanceRecordList(records))
+                .build();
+    }
+
+    private static UUID generateUuid(Random random) {
+        // sets the version (4) and variant (IETF) bits like UUID#randomUUID
+        long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSigBits = (random.nextLong() & ~(0xC000L << 48)) | (0x8000L << 48);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Writes a generated data file. Options are given as {@code --name=value}; any option left out takes its
+     * default value. Supported options are {@code students}, {@code classes}, {@code lessons}, {@code weeks},
+     * {@code density}, {@code fill}, {@code seed} and {@code output}.
+     */
+    public static void main(String[] args) throws IOException {
+        TutorsPetDataGenerator generator = new TutorsPetDataGenerator();
+        Path output = Paths.get(DEFAULT_OUTPUT);
+        for (String arg : args) {
+            String[] option = arg.replaceFirst("^--", "").split("=", 2);
+            checkArgument(option.length == 2, "Options must be of the form --name=value: " + arg);
+            String value = option[1];
+            switch (option[0]) {
+            case "students":
+                generator.withStudents(Integer.parseInt(value));
+                break;
+            case "classes":
+                generator.withClasses(Integer.parseInt(value));
+                break;
+            case "lessons":
+                generator.withLessonsPerClass(Integer.parseInt(value));
+                break;
+            case "weeks":
+                generator.withWeeks(Integer.parseInt(value));
+                break;
+            case "density":
+                generator.withEnrollmentDensity(Double.parseDouble(value));
+                break;
+            case "fill":
+                generator.withAttendanceFillRatio(Double.parseDouble(value));
+                break;
+            case "seed":
+                generator.withSeed(Long.parseLong(value));
+                break;
+            case "output":
+                output = Paths.get(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        generator.generate(output);
+    }
+}
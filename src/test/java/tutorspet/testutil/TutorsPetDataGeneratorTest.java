@@ -0,0 +1,75 @@
+package tutorspet.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorspet.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorspet.model.ReadOnlyTutorsPet;
+import tutorspet.model.TutorsPet;
+import tutorspet.model.lesson.Lesson;
+import tutorspet.model.moduleclass.ModuleClass;
+import tutorspet.model.student.Student;
+import tutorspet.storage.JsonTutorsPetStorage;
+
+public class TutorsPetDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_validConfiguration_matchesConfiguration() {
+        TutorsPet tutorsPet = new TutorsPetDataGenerator().withStudents(200).withClasses(12).withLessonsPerClass(3)
+                .withWeeks(52).withEnrollmentDensity(0.1).withAttendanceFillRatio(1).generate();
+
+        assertEquals(200, tutorsPet.getStudentList().size());
+        assertEquals(12, tutorsPet.getModuleClassList().size());
+        Set<UUID> studentUuids = tutorsPet.getStudentList().stream().map(Student::getUuid).collect(Collectors.toSet());
+        for (ModuleClass moduleClass : tutorsPet.getModuleClassList()) {
+            assertEquals(20, moduleClass.getStudentUuids().size());
+            assertTrue(moduleClass.getStudentUuids().stream().allMatch(studentUuids::contains));
+            assertEquals(3, moduleClass.getLessons().size());
+            for (Lesson lesson : moduleClass.getLessons()) {
+                assertEquals(52, lesson.getAttendanceRecordList().getAttendanceRecordList().size());
+                assertTrue(lesson.getAttendanceRecordList().getAttendanceRecordList().stream()
+                        .allMatch(record -> record.getAttendanceRecord().size() == 20));
+            }
+        }
+    }
+
+    @Test
+    public void generate_sameSeed_sameData() {
+        TutorsPetDataGenerator generator = new TutorsPetDataGenerator().withStudents(100).withClasses(10);
+        assertEquals(generator.generate(), generator.generate());
+        assertNotEquals(generator.generate(), generator.withSeed(1).generate());
+    }
+
+    @Test
+    public void generate_toFile_readsBackSameData() throws Exception {
+        Path filePath = testFolder.resolve("generated.json");
+        TutorsPet generated = new TutorsPetDataGenerator().withStudents(100).withClasses(10).generate(filePath);
+
+        ReadOnlyTutorsPet read = new JsonTutorsPetStorage(filePath).readTutorsPet().get();
+        assertEquals(generated, new TutorsPet(read));
+    }
+
+    @Test
+    public void withWeeks_invalidWeeks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TutorsPetDataGenerator().withWeeks(0));
+        assertThrows(IllegalArgumentException.class, () -> new TutorsPetDataGenerator().withWeeks(53));
+    }
+
+    @Test
+    public void withLessonsPerClass_tooManyLessons_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TutorsPetDataGenerator()
+                .withLessonsPerClass(TutorsPetDataGenerator.MAX_LESSONS_PER_CLASS + 1));
+    }
+}
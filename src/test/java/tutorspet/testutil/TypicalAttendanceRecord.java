@@ -32,6 +32,12 @@ public class TypicalAttendanceRecord {
             .withEntry(ALICE.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_51))
             .withEntry(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33)).build();
 
+    /**
+     * A {@code AttendanceRecord} for testing with a single entry, Benson with a score of 33.
+     */
+    public static final AttendanceRecord RECORD_BENSON_33 = new AttendanceRecordBuilder()
+            .withEntry(BENSON.getUuid(), new Attendance(VALID_PARTICIPATION_SCORE_33)).build();
+
     private TypicalAttendanceRecord() {} // prevents instantiation
 
     public static List<AttendanceRecord> getTypicalAttendanceRecord() {
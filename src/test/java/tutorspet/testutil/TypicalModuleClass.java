@@ -6,6 +6,8 @@ import static tutorspet.logic.commands.CommandTestUtil.VALID_NAME_CS2103T_TUTORI
 import static tutorspet.testutil.LessonBuilder.insertAttendanceRecords;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_51_BENSON_33;
 import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_ALICE_80;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_BENSON_33;
+import static tutorspet.testutil.TypicalAttendanceRecord.RECORD_EMPTY;
 import static tutorspet.testutil.TypicalLesson.LESSON_FRI_8_TO_10;
 import static tutorspet.testutil.TypicalLesson.LESSON_THU_10_TO_11;
 import static tutorspet.testutil.TypicalLesson.ONLINE_LESSON_TUE_1030_1130;
@@ -29,6 +31,15 @@ public class TypicalModuleClass {
             .withLessons(insertAttendanceRecords(LESSON_THU_10_TO_11, RECORD_ALICE_80, RECORD_ALICE_51_BENSON_33))
             .build();
 
+    /**
+     * A {@code ModuleClass} for testing that is {@code CS2103T_TUTORIAL} with ALICE and her attendances removed.
+     */
+    public static final ModuleClass CS2103T_TUTORIAL_WITHOUT_ALICE = new ModuleClassBuilder()
+            .withName(VALID_NAME_CS2103T_TUTORIAL)
+            .withStudentUuids(BENSON.getUuid())
+            .withLessons(insertAttendanceRecords(LESSON_THU_10_TO_11, RECORD_EMPTY, RECORD_BENSON_33))
+            .build();
+
     /**
      * A {@code ModuleClass} for testing with no students and THU_10_TO_11 lesson.
      */